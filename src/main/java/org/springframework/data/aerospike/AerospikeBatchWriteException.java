@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike;
+
+import lombok.Value;
+import org.springframework.dao.DataAccessException;
+
+import java.io.Serial;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when one or more records of a batch write could not be written. All the records of the batch are attempted,
+ * the failed ones are reported together with their translated per-record exceptions (e.g.
+ * {@link org.springframework.dao.OptimisticLockingFailureException} for generation errors).
+ */
+public class AerospikeBatchWriteException extends DataAccessException {
+
+    @Serial
+    private static final long serialVersionUID = 2916450219713516347L;
+
+    private final transient List<Failure> failures;
+
+    public AerospikeBatchWriteException(String msg, List<Failure> failures) {
+        super(msg + ", failed records: " + failures.size(), failures.isEmpty() ? null : failures.get(0).getCause());
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return failed documents with their translated exceptions, in the order of the original batch.
+     */
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    @Value
+    public static class Failure {
+
+        Object document;
+        RuntimeException cause;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the default query policy for the queries of a repository query method, see
+ * {@link org.springframework.data.aerospike.query.QueryPolicyHints}. Negative values keep the default value.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+public @interface QueryHints {
+
+    /**
+     * Approximate maximum amount of records to return, 0 for no limit.
+     */
+    long maxRecords() default -1;
+
+    /**
+     * Maximum amount of records per second the server sends per node, 0 for no limit.
+     */
+    int recordsPerSecond() default -1;
+
+    /**
+     * Whether the query is expected to return a small amount of records and to be served with low latency.
+     */
+    boolean shortQuery() default false;
+
+    /**
+     * Amount of received records buffered until they are consumed.
+     */
+    int recordQueueSize() default -1;
+
+    /**
+     * Total transaction timeout in milliseconds, 0 for no timeout.
+     */
+    int totalTimeout() default -1;
+
+    /**
+     * Maximum amount of nodes queried in parallel, 0 for all nodes.
+     */
+    int maxConcurrentNodes() default -1;
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.aerospike.config;
 
 import com.aerospike.client.IAerospikeClient;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,6 +24,8 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
 import org.springframework.data.aerospike.core.AerospikeExceptionTranslator;
 import org.springframework.data.aerospike.core.AerospikeTemplate;
+import org.springframework.data.aerospike.core.WriteBehindBuffer;
+import org.springframework.data.aerospike.core.WriteBehindFailureHandler;
 import org.springframework.data.aerospike.index.AerospikeIndexResolver;
 import org.springframework.data.aerospike.index.AerospikePersistenceEntityIndexCreator;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
@@ -34,6 +37,7 @@ import org.springframework.data.aerospike.query.cache.IndexRefresher;
 import org.springframework.data.aerospike.query.cache.IndexesCacheUpdater;
 import org.springframework.data.aerospike.query.cache.InternalIndexOperations;
 
+@Slf4j
 @Configuration
 public abstract class AbstractAerospikeDataConfiguration extends AerospikeDataConfigurationSupport {
 
@@ -43,8 +47,33 @@ public abstract class AbstractAerospikeDataConfiguration extends AerospikeDataCo
                                                AerospikeMappingContext aerospikeMappingContext,
                                                AerospikeExceptionTranslator aerospikeExceptionTranslator,
                                                QueryEngine queryEngine, IndexRefresher indexRefresher) {
-        return new AerospikeTemplate(aerospikeClient, nameSpace(), mappingAerospikeConverter,
+        AerospikeTemplate template = new AerospikeTemplate(aerospikeClient, nameSpace(), mappingAerospikeConverter,
             aerospikeMappingContext, aerospikeExceptionTranslator, queryEngine, indexRefresher);
+        template.setBatchWriteSize(aerospikeDataSettings().getBatchWriteSize());
+        template.setMaxConcurrentBatchReads(aerospikeDataSettings().getMaxConcurrentBatchReads());
+        template.setSetStatisticsCacheTtl(aerospikeDataSettings().getSetStatisticsCacheTtl());
+        template.setParallelQueryRanges(aerospikeDataSettings().getParallelQueryRanges());
+        template.setParallelQueryRecordQueueSize(aerospikeDataSettings().getParallelQueryRecordQueueSize());
+        return template;
+    }
+
+    @Bean(name = "aerospikeWriteBehindBuffer", destroyMethod = "close")
+    public WriteBehindBuffer writeBehindBuffer(AerospikeTemplate aerospikeTemplate) {
+        WriteBehindBuffer buffer = new WriteBehindBuffer(aerospikeTemplate,
+            aerospikeDataSettings().getWriteBehindFlushInterval(), aerospikeDataSettings().getWriteBehindFlushSize(),
+            writeBehindFailureHandler());
+        aerospikeTemplate.setWriteBehindBuffer(buffer);
+        return buffer;
+    }
+
+    /**
+     * Override this method to handle documents of write-behind entities that could not be written.
+     *
+     * @return handler of failed write-behind flushes, logs the failures by default.
+     */
+    protected WriteBehindFailureHandler writeBehindFailureHandler() {
+        return (documents, exception) ->
+            log.error("Failed to write {} write-behind documents", documents.size(), exception);
     }
 
     @Bean(name = "aerospikeQueryEngine")
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.config;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.async.EventLoops;
+import com.aerospike.client.policy.ClientPolicy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.AerospikeExceptionTranslator;
+import org.springframework.data.aerospike.core.AsyncAerospikeTemplate;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.query.AsyncQueryEngine;
+import org.springframework.data.aerospike.query.FilterExpressionsBuilder;
+import org.springframework.data.aerospike.query.StatementBuilder;
+
+/**
+ * Configuration with beans needed for the {@link java.util.concurrent.CompletableFuture} based async stuff in addition
+ * to the blocking ones
+ */
+@Configuration
+public abstract class AbstractAsyncAerospikeDataConfiguration extends AbstractAerospikeDataConfiguration {
+
+    @Bean(name = "asyncAerospikeTemplate")
+    public AsyncAerospikeTemplate asyncAerospikeTemplate(IAerospikeClient aerospikeClient,
+                                                         MappingAerospikeConverter mappingAerospikeConverter,
+                                                         AerospikeMappingContext aerospikeMappingContext,
+                                                         AerospikeExceptionTranslator aerospikeExceptionTranslator,
+                                                         AsyncQueryEngine asyncQueryEngine) {
+        return new AsyncAerospikeTemplate(aerospikeClient, nameSpace(), mappingAerospikeConverter,
+            aerospikeMappingContext, aerospikeExceptionTranslator, asyncQueryEngine);
+    }
+
+    @Bean(name = "asyncAerospikeQueryEngine")
+    public AsyncQueryEngine asyncQueryEngine(IAerospikeClient aerospikeClient,
+                                             StatementBuilder statementBuilder,
+                                             FilterExpressionsBuilder filterExpressionsBuilder) {
+        AsyncQueryEngine queryEngine = new AsyncQueryEngine(aerospikeClient, statementBuilder,
+            filterExpressionsBuilder, aerospikeClient.getQueryPolicyDefault());
+        queryEngine.setScansEnabled(aerospikeDataSettings().isScansEnabled());
+        return queryEngine;
+    }
+
+    @Bean
+    protected abstract EventLoops eventLoops();
+
+    @Override
+    protected ClientPolicy getClientPolicy() {
+        ClientPolicy clientPolicy = super.getClientPolicy(); // applying default values first
+        clientPolicy.eventLoops = eventLoops();
+        return clientPolicy;
+    }
+}
@@ -53,9 +53,15 @@ public abstract class AbstractReactiveAerospikeDataConfiguration extends Aerospi
                                                                IAerospikeReactorClient aerospikeReactorClient,
                                                                ReactorQueryEngine reactorQueryEngine,
                                                                ReactorIndexRefresher reactorIndexRefresher) {
-        return new ReactiveAerospikeTemplate(aerospikeReactorClient, nameSpace(), mappingAerospikeConverter,
-            aerospikeMappingContext,
-            aerospikeExceptionTranslator, reactorQueryEngine, reactorIndexRefresher);
+        ReactiveAerospikeTemplate template = new ReactiveAerospikeTemplate(aerospikeReactorClient, nameSpace(),
+            mappingAerospikeConverter, aerospikeMappingContext, aerospikeExceptionTranslator, reactorQueryEngine,
+            reactorIndexRefresher);
+        template.setBatchWriteSize(aerospikeDataSettings().getBatchWriteSize());
+        template.setBatchReadSize(aerospikeDataSettings().getBatchReadSize());
+        template.setBatchWriteWindow(aerospikeDataSettings().getBatchWriteWindow());
+        template.setMaxConcurrentBatchWrites(aerospikeDataSettings().getMaxConcurrentBatchWrites());
+        template.setSetStatisticsCacheTtl(aerospikeDataSettings().getSetStatisticsCacheTtl());
+        return template;
     }
 
     @Bean(name = "reactiveAerospikeQueryEngine")
@@ -36,6 +36,7 @@ import org.springframework.data.aerospike.query.FilterExpressionsBuilder;
 import org.springframework.data.aerospike.query.StatementBuilder;
 import org.springframework.data.aerospike.query.cache.IndexesCache;
 import org.springframework.data.aerospike.query.cache.IndexesCacheHolder;
+import org.springframework.data.aerospike.utility.VirtualThreads;
 import org.springframework.data.annotation.Persistent;
 import org.springframework.data.mapping.model.FieldNamingStrategy;
 import org.springframework.data.mapping.model.PropertyNameFieldNamingStrategy;
@@ -56,7 +57,10 @@ public abstract class AerospikeDataConfigurationSupport {
 
     @Bean(name = "aerospikeStatementBuilder")
     public StatementBuilder statementBuilder(IndexesCache indexesCache) {
-        return new StatementBuilder(indexesCache);
+        StatementBuilder statementBuilder = new StatementBuilder(indexesCache);
+        statementBuilder.setMaxIndexQueryFanOut(aerospikeDataSettings().getMaxIndexQueryFanOut());
+        statementBuilder.setIndexIntersectionMaxEntries(aerospikeDataSettings().getIndexIntersectionMaxEntries());
+        return statementBuilder;
     }
 
     @Bean(name = "aerospikeIndexCache")
@@ -179,6 +183,10 @@ public abstract class AerospikeDataConfigurationSupport {
         clientPolicy.failIfNotConnected = true;
         clientPolicy.timeout = 10_000;
         clientPolicy.writePolicyDefault.sendKey = aerospikeDataSettings().isSendKey();
+        if (aerospikeDataSettings().isVirtualThreadsEnabled()) {
+            // the client shuts the thread pool down on close as it is not shared
+            clientPolicy.threadPool = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        }
         return clientPolicy;
     }
 }
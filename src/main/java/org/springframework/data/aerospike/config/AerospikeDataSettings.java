@@ -17,6 +17,9 @@ package org.springframework.data.aerospike.config;
 
 import lombok.Builder;
 import lombok.Value;
+import org.springframework.data.aerospike.query.StatementBuilder;
+
+import java.time.Duration;
 
 @Builder
 @Value
@@ -28,6 +31,38 @@ public class AerospikeDataSettings {
     boolean sendKey = true;
     @Builder.Default
     boolean createIndexesOnStartup = true;
+    @Builder.Default
+    int batchWriteSize = 100;
+    @Builder.Default
+    int batchReadSize = 100;
+    @Builder.Default
+    Duration batchWriteWindow = Duration.ofMillis(100);
+    @Builder.Default
+    int maxConcurrentBatchWrites = 4;
+    @Builder.Default
+    int maxConcurrentBatchReads = 4;
+    // run client's query/scan producer threads on virtual threads, requires JDK 21
+    @Builder.Default
+    boolean virtualThreadsEnabled = false;
+    @Builder.Default
+    Duration writeBehindFlushInterval = Duration.ofSeconds(1);
+    @Builder.Default
+    int writeBehindFlushSize = 1000;
+    // how long set statistics used by count(setName) are cached, zero disables caching
+    @Builder.Default
+    Duration setStatisticsCacheTtl = Duration.ofSeconds(1);
+    // amount of partition ranges queried concurrently by findParallel and findAllParallel
+    @Builder.Default
+    int parallelQueryRanges = Runtime.getRuntime().availableProcessors();
+    // amount of received records buffered per partition range of a parallel query
+    @Builder.Default
+    int parallelQueryRecordQueueSize = 1000;
+    // maximum amount of secondary index queries an OR or IN query on indexed bins is split into, 0 disables splitting
+    @Builder.Default
+    int maxIndexQueryFanOut = StatementBuilder.DEFAULT_MAX_INDEX_QUERY_FAN_OUT;
+    // maximum estimated matches of each index of an index intersection, 0 disables index intersections
+    @Builder.Default
+    long indexIntersectionMaxEntries = 0;
 
     /*
      * (non-Javadoc)
@@ -16,6 +16,7 @@
 package org.springframework.data.aerospike.core;
 
 import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Value;
 import com.aerospike.client.cdt.CTX;
 import com.aerospike.client.policy.WritePolicy;
@@ -23,8 +24,13 @@ import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import com.aerospike.client.query.ResultSet;
+import com.aerospike.client.task.ExecuteTask;
+import org.springframework.data.aerospike.core.model.AerospikeScrollPosition;
+import org.springframework.data.aerospike.core.model.AerospikeWindow;
+import org.springframework.data.aerospike.core.model.BatchEntryResults;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
+import org.springframework.data.aerospike.core.model.SetStatistics;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
@@ -88,6 +94,13 @@ public interface AerospikeOperations {
      * {@link com.aerospike.client.policy.RecordExistsAction#UPDATE} policy combined with removing bins at first
      * (analogous to {@link com.aerospike.client.policy.RecordExistsAction#REPLACE}). This means that when
      * such record does not exist it will be created, otherwise updated - an "upsert".
+     * <p>
+     * The described behavior is the default
+     * {@link org.springframework.data.aerospike.mapping.WriteMode#DELETE_AND_PUT} write mode, it can be changed per
+     * entity using {@link org.springframework.data.aerospike.mapping.Document#writeMode()}.
+     * <p>
+     * Documents of entities marked with {@link org.springframework.data.aerospike.mapping.Document#writeBehind()} are
+     * handed over to the {@link WriteBehindBuffer} if the template has one, unless the entity has a version property.
      *
      * @param document The document to save. Must not be {@literal null}.
      */
@@ -103,9 +116,30 @@ public interface AerospikeOperations {
     <T> void persist(T document, WritePolicy writePolicy);
 
     /**
-     * Insert each document of the given documents using single insert operations.
+     * Save multiple documents using batch write operations, the documents are sent in chunks of the configured batch
+     * write size.
+     * <p>
+     * Each document is saved with the same semantics as {@link #save(Object)}, including the CAS algorithm for
+     * documents with version property. Versions of the successfully saved documents are updated with the server's
+     * versions. Failure of a single record does not abort the batch.
+     *
+     * @param documents The documents to save. Must not be {@literal null}.
+     * @throws org.springframework.data.aerospike.AerospikeBatchWriteException if at least one of the documents was
+     *                                                                         not saved.
+     */
+    <T> void saveAll(Iterable<T> documents);
+
+    /**
+     * Insert multiple documents using batch write operations with
+     * {@link com.aerospike.client.policy.RecordExistsAction#CREATE_ONLY} policy, the documents are sent in chunks of
+     * the configured batch write size.
+     * <p>
+     * If document has version property it will be updated with the server's version after successful operation.
+     * Failure of a single record does not abort the batch.
      *
      * @param documents The documents to insert. Must not be {@literal null}.
+     * @throws org.springframework.data.aerospike.AerospikeBatchWriteException if at least one of the documents was
+     *                                                                         not inserted.
      */
     <T> void insertAll(Collection<? extends T> documents);
 
@@ -113,7 +147,8 @@ public interface AerospikeOperations {
      * Update a document using {@link com.aerospike.client.policy.RecordExistsAction#UPDATE_ONLY} policy combined with
      * removing bins at first (analogous to
      * {@link com.aerospike.client.policy.RecordExistsAction#REPLACE_ONLY}) taking into consideration the version
-     * property of the document if it is present.
+     * property of the document if it is present. The behavior can be changed per entity using
+     * {@link org.springframework.data.aerospike.mapping.Document#writeMode()}.
      * <p>
      * If document has version property it will be updated with the server's version after successful operation.
      *
@@ -157,6 +192,42 @@ public interface AerospikeOperations {
      */
     <T> boolean delete(T document);
 
+    /**
+     * Delete documents by providing multiple ids using batch delete operations, set name will be determined by the
+     * given entityClass. The keys are sent in chunks of the configured batch write size.
+     * <p>
+     * Ids of documents that do not exist are ignored.
+     *
+     * @param ids         The ids of the documents to delete. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     */
+    <T> void deleteByIds(Iterable<?> ids, Class<T> entityClass);
+
+    /**
+     * Delete all documents matching the query's criteria using a background task on the server, set name will be
+     * determined by the given entityClass. No record data is sent to the client.
+     * <p>
+     * Sort, offset and limit of the query are not supported by background tasks.
+     *
+     * @param query       The query to filter the documents. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @return A handle to wait for or poll the completion of the background task.
+     */
+    <T> ExecuteTask deleteAll(Query query, Class<T> entityClass);
+
+    /**
+     * Execute operations on all records matching the query's criteria using a background task on the server, set
+     * name will be determined by the given entityClass. No record data is sent to the client.
+     * <p>
+     * Sort, offset and limit of the query are not supported by background tasks.
+     *
+     * @param query       The query to filter the documents. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @param operations  Write operations to execute on each record. Must not be {@literal null} or empty.
+     * @return A handle to wait for or poll the completion of the background task.
+     */
+    <T> ExecuteTask updateAll(Query query, Class<T> entityClass, Operation... operations);
+
     /**
      * Check if a document exists by providing document id and entityClass (set name will be determined by the given
      * entityClass).
@@ -167,6 +238,16 @@ public interface AerospikeOperations {
      */
     <T> boolean exists(Object id, Class<T> entityClass);
 
+    /**
+     * Check if documents exist by providing multiple ids using a single batch exists operation, set name will be
+     * determined by the given entityClass.
+     *
+     * @param ids         The ids to check if exist. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @return whether the documents exist, in the order of the given ids.
+     */
+    <T> List<Boolean> existsByIds(Iterable<?> ids, Class<T> entityClass);
+
     /**
      * Find documents in the given entityClass's set using a query and map them to the given class type.
      *
@@ -187,6 +268,63 @@ public interface AerospikeOperations {
      */
     <T, S> Stream<S> find(Query query, Class<T> entityClass, Class<S> targetClass);
 
+    /**
+     * Find a window of documents in the given entityClass's set matching the query, starting after the given position.
+     * <p>
+     * Each call runs a partition query limited to the window size that resumes on the server from the partition state
+     * encoded in the position, so the cost of a window does not depend on how many windows were read before. Documents
+     * are returned in partition order, the query must not have sort, offset or limit.
+     *
+     * @param query       The query to filter results. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from and to map the documents to. Must not be
+     *                    {@literal null}.
+     * @param position    The position to continue from, {@link AerospikeScrollPosition#initial()} for the first
+     *                    window. Must not be {@literal null}.
+     * @param limit       Maximum amount of documents in the window. Must be positive.
+     * @return A window of matching documents and the position after them.
+     */
+    <T> AerospikeWindow<T> scroll(Query query, Class<T> entityClass, AerospikeScrollPosition position, int limit);
+
+    /**
+     * Find a window of all documents in the given entityClass's set, starting after the given position. See
+     * {@link #scroll(Query, Class, AerospikeScrollPosition, int)}.
+     *
+     * @param entityClass The class to extract the Aerospike set from and to map the documents to. Must not be
+     *                    {@literal null}.
+     * @param position    The position to continue from, {@link AerospikeScrollPosition#initial()} for the first
+     *                    window. Must not be {@literal null}.
+     * @param limit       Maximum amount of documents in the window. Must be positive.
+     * @return A window of documents and the position after them.
+     */
+    <T> AerospikeWindow<T> scroll(Class<T> entityClass, AerospikeScrollPosition position, int limit);
+
+    /**
+     * Find documents in the given entityClass's set using a query split into ranges of partitions.
+     * <p>
+     * Returns a parallel Stream: the ranges are queried and their records are mapped to documents concurrently by the
+     * threads executing the terminal operation, by default the common {@link java.util.concurrent.ForkJoinPool}. The
+     * amount of ranges and the amount of records buffered per range are set by
+     * {@link AerospikeTemplate#setParallelQueryRanges(int)} and
+     * {@link AerospikeTemplate#setParallelQueryRecordQueueSize(int)}. Documents are returned in no particular order,
+     * the query must not have sort, offset or limit. The stream should be closed if it is not fully consumed.
+     *
+     * @param query       The query to filter results. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from and to map the documents to. Must not be
+     *                    {@literal null}.
+     * @return A parallel Stream of matching documents, returned documents will be mapped to entityClass's type.
+     */
+    <T> Stream<T> findParallel(Query query, Class<T> entityClass);
+
+    /**
+     * Find all documents in the given entityClass's set using a scan split into ranges of partitions. See
+     * {@link #findParallel(Query, Class)}.
+     *
+     * @param entityClass The class to extract the Aerospike set from and to map the documents to. Must not be
+     *                    {@literal null}.
+     * @return A parallel Stream of documents, returned documents will be mapped to entityClass's type.
+     */
+    <T> Stream<T> findAllParallel(Class<T> entityClass);
+
     /**
      * Find all documents in the given entityClass's set and map them to the given class type.
      *
@@ -259,6 +397,22 @@ public interface AerospikeOperations {
      */
     <T, S> List<S> findByIds(Iterable<?> ids, Class<T> entityClass, Class<S> targetClass);
 
+    /**
+     * Find documents by providing a large amount of ids, set name will be determined by the given entityClass.
+     * <p>
+     * Ids are split into chunks read by separate batch requests, up to
+     * {@link AerospikeTemplate#getMaxConcurrentBatchReads()} requests are in flight at a time. Documents are streamed
+     * in the order of the ids as the chunks arrive, so the amount of documents held in memory is bounded by the chunk
+     * size. The stream should be closed if it is not fully consumed.
+     *
+     * @param ids         The ids of the documents to find. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from and to map the documents to. Must not be
+     *                    {@literal null}.
+     * @param chunkSize   Positive amount of ids per batch request.
+     * @return A Stream of found documents mapped to entityClass's type, missing documents are skipped.
+     */
+    <T> Stream<T> findByIdsStream(Iterable<?> ids, Class<T> entityClass, int chunkSize);
+
     /**
      * Executes a single batch request to get results for several entities.
      * <p>
@@ -271,6 +425,17 @@ public interface AerospikeOperations {
      */
     GroupedEntities findByIds(GroupedKeys groupedKeys);
 
+    /**
+     * Create a builder of a heterogeneous batch combining saves, inserts, deletes, operations and reads of documents
+     * of different entity classes into a single batch request.
+     * <p>
+     * Per-entry failures do not fail the batch, they are reported in the entries' results. Executing the builder
+     * returns results of the entries in the order they were added.
+     *
+     * @return A new batch builder.
+     */
+    BatchBuilder<BatchEntryResults> batch();
+
     /**
      * Add integer/double bin values to existing document bin values, read the new modified document and map it back the
      * given document class type.
@@ -412,6 +577,8 @@ public interface AerospikeOperations {
 
     /**
      * Return the amount of documents in query results. Set name will be determined by the given entityClass.
+     * <p>
+     * Only keys of the matching records are transferred, bins are not read.
      *
      * @param query       The query that provides the result set for count.
      * @param entityClass entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
@@ -419,6 +586,17 @@ public interface AerospikeOperations {
      */
     <T> long count(Query query, Class<T> entityClass);
 
+    /**
+     * Check if any document matches the query. Set name will be determined by the given entityClass.
+     * <p>
+     * Only keys are transferred and the query stops after the first matching record, no documents are converted.
+     *
+     * @param query       The query to check. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @return whether any document matches the query.
+     */
+    <T> boolean exists(Query query, Class<T> entityClass);
+
     /**
      * Return the amount of documents in the given Aerospike set.
      *
@@ -435,6 +613,23 @@ public interface AerospikeOperations {
      */
     <T> long count(Class<T> entityClass);
 
+    /**
+     * Return statistics of the given Aerospike set. Statistics are requested from all nodes in parallel and cached for
+     * a short time, see {@link AerospikeTemplate#setSetStatisticsCacheTtl(java.time.Duration)}.
+     *
+     * @param setName The name of the set. Must not be {@literal null}.
+     * @return statistics of the given set.
+     */
+    SetStatistics getSetStatistics(String setName);
+
+    /**
+     * Return statistics of the given entityClass's Aerospike set, see {@link #getSetStatistics(String)}.
+     *
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @return statistics of the set (of the given entityClass).
+     */
+    <T> SetStatistics getSetStatistics(Class<T> entityClass);
+
     /**
      * Create an index with the specified name in Aerospike.
      *
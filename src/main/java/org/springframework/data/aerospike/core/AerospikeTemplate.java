@@ -16,6 +16,8 @@
 package org.springframework.data.aerospike.core;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchResults;
 import com.aerospike.client.Bin;
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Info;
@@ -26,51 +28,73 @@ import com.aerospike.client.ResultCode;
 import com.aerospike.client.Value;
 import com.aerospike.client.cdt.CTX;
 import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.BatchDeletePolicy;
+import com.aerospike.client.policy.GenerationPolicy;
 import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
 import com.aerospike.client.query.ResultSet;
 import com.aerospike.client.query.Statement;
+import com.aerospike.client.task.ExecuteTask;
 import com.aerospike.client.task.IndexTask;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.aerospike.AerospikeBatchWriteException;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.model.AerospikeScrollPosition;
+import org.springframework.data.aerospike.core.model.AerospikeWindow;
+import org.springframework.data.aerospike.core.model.BatchEntryResult.EntryType;
+import org.springframework.data.aerospike.core.model.BatchEntryResults;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
+import org.springframework.data.aerospike.core.model.SetStatistics;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
+import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.data.aerospike.mapping.WriteMode;
 import org.springframework.data.aerospike.query.KeyRecordIterator;
 import org.springframework.data.aerospike.query.Qualifier;
 import org.springframework.data.aerospike.query.QueryEngine;
+import org.springframework.data.aerospike.query.QueryPolicyHints;
 import org.springframework.data.aerospike.query.cache.IndexRefresher;
 import org.springframework.data.aerospike.repository.query.Query;
-import org.springframework.data.aerospike.utility.Utils;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.keyvalue.core.IterableConverter;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.util.Assert;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.springframework.data.aerospike.core.OperationUtils.operations;
+import static org.springframework.data.aerospike.core.OperationUtils.precedingPutOperations;
 
 /**
  * Primary implementation of {@link AerospikeOperations}.
@@ -82,12 +106,31 @@ import static org.springframework.data.aerospike.core.OperationUtils.operations;
  * @author Roman Terentiev
  */
 @Slf4j
-public class AerospikeTemplate extends BaseAerospikeTemplate implements AerospikeOperations {
+public class AerospikeTemplate extends BaseAerospikeTemplate implements AerospikeOperations, DisposableBean {
 
     private static final Pattern INDEX_EXISTS_REGEX_PATTERN = Pattern.compile("^FAIL:(-?\\d+).*$");
     private final IAerospikeClient client;
     private final QueryEngine queryEngine;
     private final IndexRefresher indexRefresher;
+    private final BinSnapshots binSnapshots = new BinSnapshots();
+    private final SetStatisticsService setStatisticsService;
+    private WriteBehindBuffer writeBehindBuffer;
+    private int maxConcurrentBatchReads = DEFAULT_MAX_CONCURRENT_BATCH_READS;
+    // shared by all streams of findByIdsStream, each of them keeps at most maxConcurrentBatchReads chunks in flight
+    private final ThreadPoolExecutor batchReadExecutor = new ThreadPoolExecutor(DEFAULT_MAX_CONCURRENT_BATCH_READS,
+        DEFAULT_MAX_CONCURRENT_BATCH_READS, IDLE_BATCH_READ_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), runnable -> {
+        Thread thread = new Thread(runnable, "aerospike-batch-read");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private int parallelQueryRanges = DEFAULT_PARALLEL_QUERY_RANGES;
+    private int parallelQueryRecordQueueSize = DEFAULT_PARALLEL_QUERY_RECORD_QUEUE_SIZE;
+
+    static final int DEFAULT_MAX_CONCURRENT_BATCH_READS = 4;
+    private static final long IDLE_BATCH_READ_THREAD_KEEP_ALIVE_SECONDS = 60;
+    static final int DEFAULT_PARALLEL_QUERY_RANGES = Runtime.getRuntime().availableProcessors();
+    static final int DEFAULT_PARALLEL_QUERY_RECORD_QUEUE_SIZE = 1000;
 
     public AerospikeTemplate(IAerospikeClient client,
                              String namespace,
@@ -100,6 +143,74 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         this.client = client;
         this.queryEngine = queryEngine;
         this.indexRefresher = indexRefresher;
+        this.setStatisticsService = new SetStatisticsService(client, client.getInfoPolicyDefault(), namespace,
+            DEFAULT_SET_STATISTICS_CACHE_TTL);
+        this.batchReadExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Set the maximum amount of batch read requests in flight for a single
+     * {@link #findByIdsStream(Iterable, Class, int)}, also the amount of threads the template uses to execute the
+     * batch reads of all streams.
+     *
+     * @param maxConcurrentBatchReads positive amount of concurrent batch read requests.
+     */
+    public void setMaxConcurrentBatchReads(int maxConcurrentBatchReads) {
+        Assert.isTrue(maxConcurrentBatchReads > 0, "Max concurrent batch reads must be greater than zero");
+        this.maxConcurrentBatchReads = maxConcurrentBatchReads;
+        // the core size must never exceed the maximum size
+        if (maxConcurrentBatchReads > batchReadExecutor.getMaximumPoolSize()) {
+            batchReadExecutor.setMaximumPoolSize(maxConcurrentBatchReads);
+            batchReadExecutor.setCorePoolSize(maxConcurrentBatchReads);
+        } else {
+            batchReadExecutor.setCorePoolSize(maxConcurrentBatchReads);
+            batchReadExecutor.setMaximumPoolSize(maxConcurrentBatchReads);
+        }
+    }
+
+    public int getMaxConcurrentBatchReads() {
+        return maxConcurrentBatchReads;
+    }
+
+    /**
+     * Set the amount of partition ranges that {@link #findParallel(Query, Class)} and
+     * {@link #findAllParallel(Class)} split the partitions into.
+     *
+     * @param parallelQueryRanges amount of partition ranges between 1 and the amount of partitions.
+     */
+    public void setParallelQueryRanges(int parallelQueryRanges) {
+        Assert.isTrue(parallelQueryRanges > 0 && parallelQueryRanges <= Node.PARTITIONS,
+            "Parallel query ranges must be between 1 and " + Node.PARTITIONS);
+        this.parallelQueryRanges = parallelQueryRanges;
+    }
+
+    public int getParallelQueryRanges() {
+        return parallelQueryRanges;
+    }
+
+    /**
+     * Set the amount of received records that are buffered per partition range of {@link #findParallel(Query, Class)}
+     * and {@link #findAllParallel(Class)} until they are consumed.
+     *
+     * @param parallelQueryRecordQueueSize positive size of the buffer of a partition range.
+     */
+    public void setParallelQueryRecordQueueSize(int parallelQueryRecordQueueSize) {
+        Assert.isTrue(parallelQueryRecordQueueSize > 0, "Parallel query record queue size must be greater than zero");
+        this.parallelQueryRecordQueueSize = parallelQueryRecordQueueSize;
+    }
+
+    public int getParallelQueryRecordQueueSize() {
+        return parallelQueryRecordQueueSize;
+    }
+
+    /**
+     * Set how long set statistics used by {@link #count(String)} and {@link #getSetStatistics(String)} are cached,
+     * {@link Duration#ZERO} disables caching.
+     *
+     * @param setStatisticsCacheTtl non-negative TTL of cached set statistics.
+     */
+    public void setSetStatisticsCacheTtl(Duration setStatisticsCacheTtl) {
+        setStatisticsService.setCacheTtl(setStatisticsCacheTtl);
     }
 
     @Override
@@ -196,26 +307,58 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         return false;
     }
 
+    /**
+     * Release the threads owned by the template, called by the container when the template bean is destroyed.
+     */
+    @Override
+    public void destroy() {
+        setStatisticsService.close();
+        batchReadExecutor.shutdownNow();
+    }
+
+    /**
+     * Set the buffer used to save documents of entities marked with {@link Document#writeBehind()}.
+     *
+     * @param writeBehindBuffer write-behind buffer, {@literal null} to save all documents directly.
+     */
+    public void setWriteBehindBuffer(WriteBehindBuffer writeBehindBuffer) {
+        this.writeBehindBuffer = writeBehindBuffer;
+    }
+
+    public WriteBehindBuffer getWriteBehindBuffer() {
+        return writeBehindBuffer;
+    }
+
     @Override
     public <T> void save(T document) {
         Assert.notNull(document, "Document must not be null!");
 
-        AerospikeWriteData data = writeData(document);
-
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
-        if (entity.hasVersionProperty()) {
-            WritePolicy policy = expectGenerationCasAwareSavePolicy(data);
+        // a buffered write has no generation check, so versioned documents are saved directly
+        if (writeBehindBuffer != null && entity.isWriteBehind() && !entity.hasVersionProperty()) {
+            Object id = entity.getIdentifierAccessor(document).getRequiredIdentifier();
+            if (writeBehindBuffer.offer(getKey(id, entity), document)) {
+                // the record is written later by saveAll
+                binSnapshots.remove(document);
+                return;
+            }
+        }
 
-            // mimicking REPLACE behavior by firstly deleting bins due to bin convergence feature restrictions
-            doPersistWithVersionAndHandleCasError(document, data, policy, true);
+        AerospikeWriteData data = writeData(document);
+        if (entity.isDirtyTracking() && writeChangedBins(document, data, entity)) {
+            return;
+        }
+        WriteMode writeMode = entity.getWriteMode();
+        if (entity.hasVersionProperty()) {
+            WritePolicy policy = expectGenerationCasAwareSavePolicy(data, writeMode);
+            doPersistWithVersionAndHandleCasError(document, data, policy, writeMode.isDeleteBinsFirst());
         } else {
-            WritePolicy policy = ignoreGenerationSavePolicy(data, RecordExistsAction.UPDATE);
-
-            // mimicking REPLACE behavior by firstly deleting bins due to bin convergence feature restrictions
+            WritePolicy policy = ignoreGenerationSavePolicy(data, writeMode.getSaveAction());
             Operation[] operations = operations(data.getBinsAsArray(), Operation::put,
-                Operation.array(Operation.delete()));
+                precedingPutOperations(writeMode));
             doPersistAndHandleError(data, policy, operations);
         }
+        takeSnapshotIfTracked(document, data, entity);
     }
 
     @Override
@@ -224,16 +367,94 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(policy, "Policy must not be null!");
 
         AerospikeWriteData data = writeData(document);
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+        binSnapshots.remove(document);
 
         Operation[] operations = operations(data.getBinsAsArray(), Operation::put);
         doPersistAndHandleError(data, policy, operations);
+        takeSnapshotIfTracked(document, data, entity);
+    }
+
+    @Override
+    public <T> void saveAll(Iterable<T> documents) {
+        Assert.notNull(documents, "Documents must not be null!");
+
+        List<BatchWriteData<T>> batchWriteDataList = IterableConverter.toList(documents).stream()
+            .filter(Objects::nonNull)
+            .map(this::getBatchWriteForSave)
+            .collect(Collectors.toList());
+
+        batchWriteAndCheckForErrors(batchWriteDataList, "save");
     }
 
     @Override
     public <T> void insertAll(Collection<? extends T> documents) {
         Assert.notNull(documents, "Documents must not be null!");
 
-        documents.stream().filter(Objects::nonNull).forEach(this::insert);
+        List<BatchWriteData<T>> batchWriteDataList = documents.stream()
+            .filter(Objects::nonNull)
+            .map(this::<T>getBatchWriteForInsert)
+            .collect(Collectors.toList());
+
+        batchWriteAndCheckForErrors(batchWriteDataList, "insert");
+    }
+
+    private <T> void batchWriteAndCheckForErrors(List<BatchWriteData<T>> batchWriteDataList, String commandName) {
+        // the next save of a dirty tracked document writes it whole
+        batchWriteDataList.forEach(data -> binSnapshots.remove(data.getDocument()));
+        for (int from = 0; from < batchWriteDataList.size(); from += batchWriteSize) {
+            List<BatchRecord> batchRecords = batchWriteDataList
+                .subList(from, Math.min(from + batchWriteSize, batchWriteDataList.size())).stream()
+                .map(BatchWriteData::getBatchRecord)
+                .collect(Collectors.toList());
+            try {
+                // per-record errors do not fail the whole batch, they are available in the records' result codes
+                client.operate(null, batchRecords);
+            } catch (AerospikeException e) {
+                throw chunkError(batchWriteDataList.subList(0, from), commandName, e);
+            }
+        }
+        checkForErrorsAndUpdateVersion(batchWriteDataList, commandName);
+    }
+
+    /**
+     * Update versions of the documents of the chunks written before a chunk failed, their per-record failures are
+     * reported as suppressed by the translated error of the failed chunk.
+     */
+    private <T> RuntimeException chunkError(List<BatchWriteData<T>> writtenChunks, String commandName,
+                                            AerospikeException e) {
+        RuntimeException error = translateError(e);
+        List<AerospikeBatchWriteException.Failure> failures = updateVersionAndCollectFailures(writtenChunks);
+        if (!failures.isEmpty()) {
+            error.addSuppressed(new AerospikeBatchWriteException("Errors during batch " + commandName, failures));
+        }
+        return error;
+    }
+
+    @Override
+    public BatchBuilder<BatchEntryResults> batch() {
+        return new BatchBuilder<>(this, entries -> {
+            if (entries.isEmpty()) {
+                return new BatchEntryResults(Collections.emptyList());
+            }
+            entries.stream()
+                .filter(entry -> entry.getDocument() != null)
+                .forEach(entry -> binSnapshots.remove(entry.getDocument()));
+            entries.stream()
+                .filter(entry -> entry.getType() == EntryType.DELETE)
+                .forEach(entry -> evictPendingWrite(
+                    mappingContext.getRequiredPersistentEntity(entry.getEntityClass()), entry.getBatchRecord().key));
+            List<BatchRecord> batchRecords = entries.stream()
+                .map(BatchBuilder.Entry::getBatchRecord)
+                .collect(Collectors.toList());
+            try {
+                // per-record errors do not fail the whole batch, they are available in the records' result codes
+                client.operate(null, batchRecords);
+            } catch (AerospikeException e) {
+                throw translateError(e);
+            }
+            return toBatchResults(entries);
+        });
     }
 
     @Override
@@ -255,6 +476,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
             Operation[] operations = operations(data.getBinsAsArray(), Operation::put);
             doPersistAndHandleError(data, policy, operations);
         }
+        takeSnapshotIfTracked(document, data, entity);
     }
 
     @Override
@@ -263,19 +485,86 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
         AerospikeWriteData data = writeData(document);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+        if (entity.isDirtyTracking() && writeChangedBins(document, data, entity)) {
+            return;
+        }
+        WriteMode writeMode = entity.getWriteMode();
         if (entity.hasVersionProperty()) {
-            WritePolicy policy = expectGenerationSavePolicy(data, RecordExistsAction.UPDATE_ONLY);
-
-            // mimicking REPLACE_ONLY behavior by firstly deleting bins due to bin convergence feature restrictions
-            doPersistWithVersionAndHandleCasError(document, data, policy, true);
+            WritePolicy policy = expectGenerationSavePolicy(data, writeMode.getUpdateAction());
+            doPersistWithVersionAndHandleCasError(document, data, policy, writeMode.isDeleteBinsFirst());
         } else {
-            WritePolicy policy = ignoreGenerationSavePolicy(data, RecordExistsAction.UPDATE_ONLY);
-
-            // mimicking REPLACE_ONLY behavior by firstly deleting bins due to bin convergence feature restrictions
-            Operation[] operations = Stream.concat(Stream.of(Operation.delete()), data.getBins().stream()
-                .map(Operation::put)).toArray(Operation[]::new);
+            WritePolicy policy = ignoreGenerationSavePolicy(data, writeMode.getUpdateAction());
+            Operation[] operations = operations(data.getBinsAsArray(), Operation::put,
+                precedingPutOperations(writeMode));
             doPersistAndHandleError(data, policy, operations);
         }
+        takeSnapshotIfTracked(document, data, entity);
+    }
+
+    /**
+     * Put only the bins changed since the document instance was last read or written by this template, removed bins
+     * are set to null. If no bin changed nothing is sent, unless the generation of a versioned document must be
+     * checked or the document has an expiration to refresh, then the record is only touched.
+     *
+     * @return false if there is no snapshot of the document instance or the record does not exist anymore, so the
+     * whole document must be written.
+     */
+    private <T> boolean writeChangedBins(T document, AerospikeWriteData data, AerospikePersistentEntity<?> entity) {
+        Map<String, Long> snapshot = binSnapshots.get(document);
+        if (snapshot == null) {
+            return false;
+        }
+
+        Map<String, Long> current = BinSnapshots.binHashes(data.getBins());
+        List<Bin> changedBins = data.getBins().stream()
+            .filter(bin -> BinSnapshots.isChanged(snapshot, current, bin.name))
+            .collect(Collectors.toList());
+        snapshot.keySet().stream()
+            .filter(binName -> !current.containsKey(binName))
+            .forEach(binName -> changedBins.add(Bin.asNull(binName)));
+
+        Bin[] bins = changedBins.toArray(Bin[]::new);
+        if (bins.length == 0 && !entity.hasVersionProperty() && data.getExpiration() <= 0) {
+            return true;
+        }
+        Operation[] touch = bins.length == 0 ? Operation.array(Operation.touch()) : null;
+        try {
+            if (entity.hasVersionProperty()) {
+                WritePolicy policy = expectGenerationSavePolicy(data, RecordExistsAction.UPDATE_ONLY);
+                Record newAeroRecord = client.operate(policy, data.getKey(),
+                    operations(bins, Operation::put, touch, Operation.array(Operation.getHeader())));
+                updateVersion(document, newAeroRecord);
+            } else {
+                WritePolicy policy = ignoreGenerationSavePolicy(data, RecordExistsAction.UPDATE_ONLY);
+                client.operate(policy, data.getKey(), operations(bins, Operation::put, touch));
+            }
+        } catch (AerospikeException e) {
+            if (e.getResultCode() == ResultCode.KEY_NOT_FOUND_ERROR) {
+                binSnapshots.remove(document);
+                return false;
+            }
+            throw entity.hasVersionProperty() ? translateCasError(e) : translateError(e);
+        }
+        binSnapshots.put(document, current);
+        return true;
+    }
+
+    private <T> void takeSnapshotIfTracked(T document, AerospikeWriteData data, AerospikePersistentEntity<?> entity) {
+        if (entity.isDirtyTracking()) {
+            binSnapshots.put(document, BinSnapshots.binHashes(data.getBins()));
+        }
+    }
+
+    @Override
+    <T> T mapToEntity(Key key, Class<T> type, Record aeroRecord) {
+        T document = super.mapToEntity(key, type, aeroRecord);
+        if (document != null && mappingContext.hasPersistentEntityFor(document.getClass())) {
+            AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+            if (entity.isDirtyTracking()) {
+                binSnapshots.put(document, BinSnapshots.binHashes(writeData(document).getBins()));
+            }
+        }
+        return document;
     }
 
     @Override
@@ -284,6 +573,8 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
         AerospikeWriteData data = writeDataWithSpecificFields(document, fields);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+        // the snapshot does not cover the fields written, the next save writes the document whole
+        binSnapshots.remove(document);
         if (entity.hasVersionProperty()) {
             WritePolicy policy = expectGenerationSavePolicy(data, RecordExistsAction.UPDATE_ONLY);
 
@@ -302,6 +593,9 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
         try {
             String set = getSetName(entityClass);
+            if (writeBehindBuffer != null && mappingContext.getRequiredPersistentEntity(entityClass).isWriteBehind()) {
+                writeBehindBuffer.evictAll(getNamespace(), set);
+            }
             client.truncate(null, getNamespace(), set, null);
         } catch (AerospikeException e) {
             throw translateError(e);
@@ -316,6 +610,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         try {
             AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
             Key key = getKey(id, entity);
+            evictPendingWrite(entity, key);
 
             return this.client.delete(ignoreGenerationDeletePolicy(), key);
         } catch (AerospikeException e) {
@@ -329,6 +624,8 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
         try {
             AerospikeWriteData data = writeData(document);
+            binSnapshots.remove(document);
+            evictPendingWrite(mappingContext.getRequiredPersistentEntity(document.getClass()), data.getKey());
 
             return this.client.delete(ignoreGenerationDeletePolicy(), data.getKey());
         } catch (AerospikeException e) {
@@ -336,6 +633,94 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         }
     }
 
+    @Override
+    public <T> void deleteByIds(Iterable<?> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "List of ids must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        Key[] keys = getKeys(ids, entity);
+        for (Key key : keys) {
+            evictPendingWrite(entity, key);
+        }
+        BatchDeletePolicy deletePolicy = ignoreGenerationBatchDeletePolicy();
+
+        for (int from = 0; from < keys.length; from += batchWriteSize) {
+            Key[] chunk = Arrays.copyOfRange(keys, from, Math.min(from + batchWriteSize, keys.length));
+            try {
+                BatchResults results = client.delete(null, deletePolicy, chunk);
+                checkForDeleteErrors(results.records);
+            } catch (AerospikeException e) {
+                throw translateError(e);
+            }
+        }
+    }
+
+    /**
+     * Drop the pending write-behind document of a deleted key, so that the next flush does not write it again.
+     */
+    private void evictPendingWrite(AerospikePersistentEntity<?> entity, Key key) {
+        if (writeBehindBuffer != null && entity.isWriteBehind()) {
+            writeBehindBuffer.evict(key);
+        }
+    }
+
+    @Override
+    public <T> ExecuteTask deleteAll(Query query, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        return executeInBackground(query, entityClass, Operation.delete());
+    }
+
+    @Override
+    public <T> ExecuteTask updateAll(Query query, Class<T> entityClass, Operation... operations) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+        Assert.notEmpty(operations, "Operations must not be empty!");
+
+        return executeInBackground(query, entityClass, operations);
+    }
+
+    private <T> ExecuteTask executeInBackground(Query query, Class<T> entityClass, Operation... operations) {
+        Assert.isTrue(query.getSort() == null || query.getSort().isUnsorted(),
+            "Sort is not supported by background tasks");
+        Assert.isTrue(!query.hasOffset() && !query.hasRows(),
+            "Offset and limit are not supported by background tasks");
+
+        Qualifier qualifier = query.getCriteria().getCriteriaObject();
+        WritePolicy policy = WritePolicyBuilder.builder(this.writePolicyDefault)
+            .generationPolicy(GenerationPolicy.NONE)
+            .build();
+        try {
+            return queryEngine.execute(namespace, getSetName(entityClass), policy, null, new Qualifier[]{qualifier},
+                operations);
+        } catch (AerospikeException e) {
+            throw translateError(e);
+        }
+    }
+
+    @Override
+    public <T> List<Boolean> existsByIds(Iterable<?> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "List of ids must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        Key[] keys = getKeys(ids, entity);
+        if (keys.length == 0) {
+            return Collections.emptyList();
+        }
+
+        try {
+            boolean[] exists = client.exists(null, keys);
+            return IntStream.range(0, exists.length)
+                .mapToObj(index -> exists[index])
+                .collect(Collectors.toList());
+        } catch (AerospikeException e) {
+            throw translateError(e);
+        }
+    }
+
     @Override
     public <T> boolean exists(Object id, Class<T> entityClass) {
         Assert.notNull(id, "Id must not be null!");
@@ -514,6 +899,37 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         }
     }
 
+    @Override
+    public <T> Stream<T> findByIdsStream(Iterable<?> ids, Class<T> entityClass, int chunkSize) {
+        Assert.notNull(ids, "List of ids must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+        Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero");
+
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        Iterator<Key> keys = StreamSupport.stream(ids.spliterator(), false)
+            .map(id -> getKey(id, entity))
+            .iterator();
+        ChunkedBatchReadIterator<T> iterator = new ChunkedBatchReadIterator<>(keys, chunkSize,
+            maxConcurrentBatchReads, chunk -> findByKeysChunk(chunk, entityClass), batchReadExecutor);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(iterator::close);
+    }
+
+    private <T> List<T> findByKeysChunk(Key[] keys, Class<T> entityClass) {
+        try {
+            Record[] aeroRecords = client.get(null, keys);
+
+            return IntStream.range(0, keys.length)
+                .filter(index -> aeroRecords[index] != null)
+                .mapToObj(index -> mapToEntity(keys[index], entityClass, aeroRecords[index]))
+                .collect(Collectors.toList());
+        } catch (AerospikeException e) {
+            throw translateError(e);
+        }
+    }
+
     @Override
     public GroupedEntities findByIds(GroupedKeys groupedKeys) {
         Assert.notNull(groupedKeys, "Grouped keys must not be null!");
@@ -572,11 +988,16 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
             null, (Qualifier[]) null);
     }
 
+    @Override
     public <T> boolean exists(Query query, Class<T> entityClass) {
         Assert.notNull(query, "Query passed in to exist can't be null");
         Assert.notNull(entityClass, "Type must not be null!");
 
-        return find(query, entityClass).findAny().isPresent();
+        // no maxRecords, with a limit below the amount of nodes the server is queried only on some of the nodes,
+        // closing the stream after the first record stops the query instead
+        try (Stream<KeyRecord> results = findRecordsWithoutBinsUsingQuery(entityClass, query, 0)) {
+            return results.findAny().isPresent();
+        }
     }
 
     @Override
@@ -594,8 +1015,9 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
     public <T> long count(Query query, Class<T> entityClass) {
         Assert.notNull(entityClass, "Type must not be null!");
 
-        Stream<KeyRecord> results = findAllRecordsUsingQuery(entityClass, query);
-        return results.count();
+        try (Stream<KeyRecord> results = findRecordsWithoutBinsUsingQuery(entityClass, query, 0)) {
+            return results.count();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -617,6 +1039,75 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         return (Stream<S>) findAllUsingQueryWithPostProcessing(entityClass, targetClass, query);
     }
 
+    @Override
+    public <T> AerospikeWindow<T> scroll(Query query, Class<T> entityClass, AerospikeScrollPosition position,
+                                         int limit) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.isTrue(query.getSort() == null || query.getSort().isUnsorted(),
+            "Sort is not supported by scroll, documents are returned in partition order");
+        Assert.isTrue(!query.hasOffset() && !query.hasRows(),
+            "Offset and limit are not supported by scroll, use the position and the window size");
+
+        return scroll(entityClass, position, limit, query.getCriteria().getCriteriaObject());
+    }
+
+    @Override
+    public <T> AerospikeWindow<T> scroll(Class<T> entityClass, AerospikeScrollPosition position, int limit) {
+        return scroll(entityClass, position, limit, (Qualifier[]) null);
+    }
+
+    private <T> AerospikeWindow<T> scroll(Class<T> entityClass, AerospikeScrollPosition position, int limit,
+                                          Qualifier... qualifiers) {
+        Assert.notNull(entityClass, "Type must not be null!");
+        Assert.notNull(position, "Position must not be null!");
+        Assert.isTrue(limit > 0, "Limit must be greater than zero");
+
+        PartitionFilter partitionFilter = position.getPartitionFilter();
+        List<T> content = new ArrayList<>(limit);
+        try (KeyRecordIterator recIterator = queryEngine.selectPartitions(namespace, getSetName(entityClass),
+            partitionFilter, limit, null, qualifiers)) {
+            // the partition filter is updated only when the results are consumed completely
+            while (recIterator.hasNext()) {
+                KeyRecord keyRecord = recIterator.next();
+                content.add(mapToEntity(keyRecord.key, entityClass, keyRecord.record));
+            }
+        } catch (AerospikeException e) {
+            throw translateError(e);
+        }
+        return new AerospikeWindow<>(content, !partitionFilter.isDone(), AerospikeScrollPosition.of(partitionFilter));
+    }
+
+    @Override
+    public <T> Stream<T> findParallel(Query query, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.isTrue(query.getSort() == null || query.getSort().isUnsorted(),
+            "Sort is not supported by parallel queries, documents are returned in no particular order");
+        Assert.isTrue(!query.hasOffset() && !query.hasRows(),
+            "Offset and limit are not supported by parallel queries");
+
+        return findParallel(entityClass, query.getCriteria().getCriteriaObject());
+    }
+
+    @Override
+    public <T> Stream<T> findAllParallel(Class<T> entityClass) {
+        return findParallel(entityClass, (Qualifier[]) null);
+    }
+
+    private <T> Stream<T> findParallel(Class<T> entityClass, Qualifier... qualifiers) {
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        String setName = getSetName(entityClass);
+        int recordQueueSize = parallelQueryRecordQueueSize;
+        return PartitionRangeSpliterator.stream(Node.PARTITIONS, parallelQueryRanges, (begin, count) -> {
+            try {
+                return queryEngine.selectPartitions(namespace, setName, PartitionFilter.range(begin, count), 0,
+                    recordQueueSize, null, qualifiers);
+            } catch (AerospikeException e) {
+                throw translateError(e);
+            }
+        }, keyRecord -> mapToEntity(keyRecord.key, entityClass, keyRecord.record));
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> Stream<T> findInRange(long offset, long limit, Sort sort,
@@ -653,29 +1144,34 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
     @Override
     public long count(String setName) {
+        return getSetStatistics(setName).getObjects();
+    }
+
+    @Override
+    public SetStatistics getSetStatistics(String setName) {
         Assert.notNull(setName, "Set for count must not be null!");
 
         try {
-            Node[] nodes = client.getNodes();
-
-            int replicationFactor = Utils.getReplicationFactor(nodes, namespace);
-
-            long totalObjects = Arrays.stream(nodes)
-                .mapToLong(node -> Utils.getObjectsCount(node, namespace, setName))
-                .sum();
-
-            return (nodes.length > 1) ? (totalObjects / replicationFactor) : totalObjects;
+            return setStatisticsService.getSetStatistics(setName);
         } catch (AerospikeException e) {
             throw translateError(e);
         }
     }
 
+    @Override
+    public <T> SetStatistics getSetStatistics(Class<T> entityClass) {
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        return getSetStatistics(getSetName(entityClass));
+    }
+
     @Override
     public <T> T prepend(T document, String fieldName, String value) {
         Assert.notNull(document, "Document must not be null!");
 
         try {
             AerospikeWriteData data = writeData(document);
+            binSnapshots.remove(document);
             Record aeroRecord = this.client.operate(null, data.getKey(),
                 Operation.prepend(new Bin(fieldName, value)),
                 Operation.get(fieldName));
@@ -693,6 +1189,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
         try {
             AerospikeWriteData data = writeData(document);
+            binSnapshots.remove(document);
             Operation[] ops = operations(values, Operation.Type.PREPEND, Operation.get());
             Record aeroRecord = this.client.operate(null, data.getKey(), ops);
 
@@ -709,6 +1206,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
         try {
             AerospikeWriteData data = writeData(document);
+            binSnapshots.remove(document);
             Operation[] ops = operations(values, Operation.Type.APPEND, Operation.get());
             Record aeroRecord = this.client.operate(null, data.getKey(), ops);
 
@@ -724,6 +1222,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
         try {
             AerospikeWriteData data = writeData(document);
+            binSnapshots.remove(document);
             Record aeroRecord = this.client.operate(null, data.getKey(),
                 Operation.append(new Bin(binName, value)),
                 Operation.get(binName));
@@ -741,6 +1240,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
         try {
             AerospikeWriteData data = writeData(document);
+            binSnapshots.remove(document);
             Operation[] ops = operations(values, Operation.Type.ADD, Operation.get());
 
             WritePolicy writePolicy = WritePolicyBuilder.builder(client.getWritePolicyDefault())
@@ -762,6 +1262,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
         try {
             AerospikeWriteData data = writeData(document);
+            binSnapshots.remove(document);
 
             WritePolicy writePolicy = WritePolicyBuilder.builder(client.getWritePolicyDefault())
                 .expiration(data.getExpiration())
@@ -822,7 +1323,14 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
     <T, S> Stream<?> findAllUsingQueryWithPostProcessing(Class<T> entityClass, Class<S> targetClass, Query query) {
         verifyUnsortedWithOffset(query.getSort(), query.getOffset());
         Qualifier qualifier = query.getCriteria().getCriteriaObject();
-        Stream<?> results = findAllUsingQuery(entityClass, targetClass, null, qualifier);
+        int topSize = query.hasRows() ? BoundedSort.sizeFor(query.getOffset(), query.getRows()) : -1;
+        if (query.getSort() != null && query.getSort().isSorted() && topSize > 0) {
+            return findTopUsingQuery(entityClass, targetClass, query.getSort(), Math.max(query.getOffset(), 0),
+                topSize, query.getPolicyHints(), null, qualifier);
+        }
+        // the limit is applied on the client, maxRecords of the server is approximate on a multi-node cluster and
+        // is only used when set explicitly in the policy hints
+        Stream<?> results = findAllUsingQuery(entityClass, targetClass, query.getPolicyHints(), null, qualifier);
         return applyPostProcessingOnResults(results, query);
     }
 
@@ -831,21 +1339,46 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
                                                          long offset, long limit, Filter filter,
                                                          Qualifier... qualifiers) {
         verifyUnsortedWithOffset(sort, offset);
-        Stream<?> results = findAllUsingQuery(entityClass, targetClass, filter, qualifiers);
+        int topSize = BoundedSort.sizeFor(offset, limit);
+        if (sort != null && sort.isSorted() && topSize > 0) {
+            return findTopUsingQuery(entityClass, targetClass, sort, offset, topSize, null, filter, qualifiers);
+        }
+        Stream<?> results = findAllUsingQuery(entityClass, targetClass, null, filter, qualifiers);
         return applyPostProcessingOnResults(results, sort, offset, limit);
     }
 
-    private void verifyUnsortedWithOffset(Sort sort, long offset) {
-        if ((sort == null || sort.isUnsorted())
-            && offset > 0) {
-            throw new IllegalArgumentException("Unsorted query must not have offset value. " +
-                "For retrieving paged results use sorted query.");
+    /**
+     * Keep only the first offset + limit results while the query is consumed instead of sorting all of them. Records
+     * are compared on their bins when possible, so only the returned ones are converted.
+     */
+    @SuppressWarnings("unchecked")
+    private <T, S> Stream<?> findTopUsingQuery(Class<T> entityClass, Class<S> targetClass, Sort sort, long offset,
+                                               int topSize, QueryPolicyHints policyHints, Filter filter,
+                                               Qualifier... qualifiers) {
+        Class<?> documentClass = targetClass != null ? targetClass : entityClass;
+        Comparator<KeyRecord> recordComparator = getRecordComparator(documentClass, sort);
+        if (recordComparator != null) {
+            Stream<KeyRecord> records = findAllRecordsUsingQuery(entityClass, targetClass, policyHints, filter,
+                qualifiers);
+            // the query is consumed lazily on the terminal operation, like a sorted stream, and closed with the stream
+            return BoundedSort.sortLazily(records, recordComparator, topSize)
+                .skip(offset)
+                .map(keyRecord -> mapToEntity(keyRecord.key, documentClass, keyRecord.record));
         }
+        Stream<Object> documents = (Stream<Object>) findAllUsingQuery(entityClass, targetClass, policyHints, filter,
+            qualifiers);
+        return BoundedSort.sortLazily(documents, getComparator(sort), topSize)
+            .skip(offset);
     }
 
     <T, S> Stream<?> findAllUsingQuery(Class<T> entityClass, Class<S> targetClass, Filter filter,
                                        Qualifier... qualifiers) {
-        return findAllRecordsUsingQuery(entityClass, targetClass, filter, qualifiers)
+        return findAllUsingQuery(entityClass, targetClass, null, filter, qualifiers);
+    }
+
+    <T, S> Stream<?> findAllUsingQuery(Class<T> entityClass, Class<S> targetClass, QueryPolicyHints policyHints,
+                                       Filter filter, Qualifier... qualifiers) {
+        return findAllRecordsUsingQuery(entityClass, targetClass, policyHints, filter, qualifiers)
             .map(keyRecord -> {
                 if (targetClass != null) {
                     return mapToEntity(keyRecord.key, targetClass, keyRecord.record);
@@ -854,57 +1387,45 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
             });
     }
 
-    private <T> Stream<T> applyPostProcessingOnResults(Stream<T> results, Query query) {
-        if (query.getSort() != null && query.getSort().isSorted()) {
-            Comparator<T> comparator = getComparator(query);
-            results = results.sorted(comparator);
-        }
-        if (query.hasOffset()) {
-            results = results.skip(query.getOffset());
-        }
-        if (query.hasRows()) {
-            results = results.limit(query.getRows());
-        }
-
-        return results;
-    }
-
-    private <T> Stream<T> applyPostProcessingOnResults(Stream<T> results, Sort sort, long offset, long limit) {
-        if (sort != null && sort.isSorted()) {
-            Comparator<T> comparator = getComparator(sort);
-            results = results.sorted(comparator);
-        }
-
-        if (offset > 0) {
-            results = results.skip(offset);
-        }
+    <T> Stream<KeyRecord> findAllRecordsUsingQuery(Class<T> entityClass, Query query) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
 
-        if (limit > 0) {
-            results = results.limit(limit);
-        }
-        return results;
+        Qualifier qualifier = query.getCriteria().getCriteriaObject();
+        return findAllRecordsUsingQuery(entityClass, null, query.getPolicyHints(), null, qualifier);
     }
 
-    <T> Stream<KeyRecord> findAllRecordsUsingQuery(Class<T> entityClass, Query query) {
+    private <T> Stream<KeyRecord> findRecordsWithoutBinsUsingQuery(Class<T> entityClass, Query query,
+                                                                  long maxRecords) {
         Assert.notNull(query, "Query must not be null!");
-        Assert.notNull(entityClass, "Type must not be null!");
 
         Qualifier qualifier = query.getCriteria().getCriteriaObject();
-        return findAllRecordsUsingQuery(entityClass, null, null, qualifier);
+        KeyRecordIterator recIterator = queryEngine.selectWithoutBins(namespace, getSetName(entityClass),
+            maxRecords, query.getPolicyHints(), null, qualifier);
+
+        return StreamUtils.createStreamFromIterator(recIterator)
+            .onClose(() -> {
+                try {
+                    recIterator.close();
+                } catch (Exception e) {
+                    log.error("Caught exception while closing query", e);
+                }
+            });
     }
 
     <T, S> Stream<KeyRecord> findAllRecordsUsingQuery(Class<T> entityClass, Class<S> targetClass, Filter filter,
                                                       Qualifier... qualifiers) {
-        String setName = getSetName(entityClass);
+        return findAllRecordsUsingQuery(entityClass, targetClass, null, filter, qualifiers);
+    }
 
-        KeyRecordIterator recIterator;
+    <T, S> Stream<KeyRecord> findAllRecordsUsingQuery(Class<T> entityClass, Class<S> targetClass,
+                                                      QueryPolicyHints policyHints, Filter filter,
+                                                      Qualifier... qualifiers) {
+        String setName = getSetName(entityClass);
+        String[] binNames = targetClass != null ? getBinNamesFromTargetClass(targetClass) : null;
 
-        if (targetClass != null) {
-            String[] binNames = getBinNamesFromTargetClass(targetClass);
-            recIterator = queryEngine.select(namespace, setName, binNames, filter, qualifiers);
-        } else {
-            recIterator = queryEngine.select(namespace, setName, filter, qualifiers);
-        }
+        KeyRecordIterator recIterator = queryEngine.select(namespace, setName, binNames, policyHints, filter,
+            qualifiers);
 
         return StreamUtils.createStreamFromIterator(recIterator)
             .onClose(() -> {
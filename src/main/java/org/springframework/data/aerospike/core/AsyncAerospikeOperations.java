@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.IAerospikeClient;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.mapping.context.MappingContext;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Aerospike specific data access operations executed asynchronously on the client's event loops.
+ * <p>
+ * Commands are not blocking the calling thread, each method returns a {@link CompletableFuture} completed by an event
+ * loop thread when the server responds. Errors are reported through the returned future translated the same way as
+ * in {@link AerospikeOperations}, so are the failures to convert a document before it is sent. Only null arguments
+ * are rejected by throwing. Dependent stages that are not async are executed on the event loop thread, so they
+ * must not block. The client must be configured with {@link com.aerospike.client.policy.ClientPolicy#eventLoops}.
+ */
+public interface AsyncAerospikeOperations {
+
+    /**
+     * Returns the set name used for the given entityClass in the namespace configured for the template in use.
+     *
+     * @param entityClass The class to get the set name for.
+     * @return The set name used for the given entityClass.
+     */
+    <T> String getSetName(Class<T> entityClass);
+
+    /**
+     * @return mapping context in use.
+     */
+    MappingContext<?, ?> getMappingContext();
+
+    /**
+     * @return aerospike client in use.
+     */
+    IAerospikeClient getAerospikeClient();
+
+    /**
+     * Asynchronously save a document with the same semantics as {@link AerospikeOperations#save(Object)}.
+     *
+     * @param document The document to save. Must not be {@literal null}.
+     * @return A CompletableFuture of the saved document, its version property is updated with the server's version.
+     */
+    <T> CompletableFuture<T> save(T document);
+
+    /**
+     * Asynchronously insert a document with the same semantics as {@link AerospikeOperations#insert(Object)}.
+     *
+     * @param document The document to insert. Must not be {@literal null}.
+     * @return A CompletableFuture of the inserted document.
+     */
+    <T> CompletableFuture<T> insert(T document);
+
+    /**
+     * Asynchronously update a document with the same semantics as {@link AerospikeOperations#update(Object)}.
+     *
+     * @param document The document to update. Must not be {@literal null}.
+     * @return A CompletableFuture of the updated document.
+     */
+    <T> CompletableFuture<T> update(T document);
+
+    /**
+     * Asynchronously find a document by id, set name will be determined by the given entityClass.
+     *
+     * @param id          The id of the document to find. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from and to map the document to. Must not be
+     *                    {@literal null}.
+     * @return A CompletableFuture of the document, completed with {@literal null} if the document does not exist.
+     */
+    <T> CompletableFuture<T> findById(Object id, Class<T> entityClass);
+
+    /**
+     * Asynchronously find documents by the given ids using a single batch read, set name will be determined by the
+     * given entityClass.
+     *
+     * @param ids         The ids of the documents to find. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from and to map the documents to. Must not be
+     *                    {@literal null}.
+     * @return A CompletableFuture of the list of the found documents in the order of the ids, missing documents are
+     * skipped.
+     */
+    <T> CompletableFuture<List<T>> findByIds(Iterable<?> ids, Class<T> entityClass);
+
+    /**
+     * Asynchronously find documents using the given query.
+     *
+     * @param query       The query to filter results. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from and to map the documents to. Must not be
+     *                    {@literal null}.
+     * @return A CompletableFuture of the list of the matching documents.
+     */
+    <T> CompletableFuture<List<T>> find(Query query, Class<T> entityClass);
+
+    /**
+     * Asynchronously delete a document by id, set name will be determined by the given entityClass.
+     *
+     * @param id          The id of the document to delete. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @return A CompletableFuture of whether the document existed on the server before deletion.
+     */
+    <T> CompletableFuture<Boolean> delete(Object id, Class<T> entityClass);
+
+    /**
+     * Asynchronously delete a document.
+     *
+     * @param document The document to delete. Must not be {@literal null}.
+     * @return A CompletableFuture of whether the document existed on the server before deletion.
+     */
+    <T> CompletableFuture<Boolean> delete(T document);
+
+    /**
+     * Asynchronously check if a document exists by id, set name will be determined by the given entityClass.
+     *
+     * @param id          The id to check for existence. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @return A CompletableFuture of whether the document exists.
+     */
+    <T> CompletableFuture<Boolean> exists(Object id, Class<T> entityClass);
+}
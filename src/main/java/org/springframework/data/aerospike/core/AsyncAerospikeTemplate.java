@@ -0,0 +1,368 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.listener.DeleteListener;
+import com.aerospike.client.listener.ExistsListener;
+import com.aerospike.client.listener.RecordArrayListener;
+import com.aerospike.client.listener.RecordListener;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import org.springframework.data.aerospike.convert.AerospikeWriteData;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.data.aerospike.mapping.WriteMode;
+import org.springframework.data.aerospike.query.AsyncQueryEngine;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.springframework.data.aerospike.core.OperationUtils.operations;
+import static org.springframework.data.aerospike.core.OperationUtils.precedingPutOperations;
+
+/**
+ * Primary implementation of {@link AsyncAerospikeOperations}, uses the asynchronous listener based API of
+ * {@link IAerospikeClient}. Event loops are chosen by the client in a round-robin fashion.
+ */
+public class AsyncAerospikeTemplate extends BaseAerospikeTemplate implements AsyncAerospikeOperations {
+
+    private final IAerospikeClient client;
+    private final AsyncQueryEngine queryEngine;
+
+    public AsyncAerospikeTemplate(IAerospikeClient client,
+                                  String namespace,
+                                  MappingAerospikeConverter converter,
+                                  AerospikeMappingContext mappingContext,
+                                  AerospikeExceptionTranslator exceptionTranslator,
+                                  AsyncQueryEngine queryEngine) {
+        super(namespace, converter, mappingContext, exceptionTranslator, client.getWritePolicyDefault());
+        this.client = client;
+        this.queryEngine = queryEngine;
+    }
+
+    @Override
+    public IAerospikeClient getAerospikeClient() {
+        return client;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> save(T document) {
+        Assert.notNull(document, "Document must not be null!");
+
+        return completeOnError(() -> {
+            AerospikeWriteData data = writeData(document);
+            AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+            WriteMode writeMode = entity.getWriteMode();
+            if (entity.hasVersionProperty()) {
+                WritePolicy policy = expectGenerationCasAwareSavePolicy(data, writeMode);
+                return doPersistWithVersion(document, data, policy, writeMode.isDeleteBinsFirst(),
+                    this::translateCasError);
+            } else {
+                WritePolicy policy = ignoreGenerationSavePolicy(data, writeMode.getSaveAction());
+                Operation[] operations = operations(data.getBinsAsArray(), Operation::put,
+                    precedingPutOperations(writeMode));
+                return doPersist(document, data, policy, operations);
+            }
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> insert(T document) {
+        Assert.notNull(document, "Document must not be null!");
+
+        return completeOnError(() -> {
+            AerospikeWriteData data = writeData(document);
+            WritePolicy policy = ignoreGenerationSavePolicy(data, RecordExistsAction.CREATE_ONLY);
+            AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+            if (entity.hasVersionProperty()) {
+                // generation is ignored on insert, so errors are not handled as cas aware
+                // (see AerospikeTemplate#insert)
+                return doPersistWithVersion(document, data, policy, false, this::translateError);
+            } else {
+                Operation[] operations = operations(data.getBinsAsArray(), Operation::put);
+                return doPersist(document, data, policy, operations);
+            }
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> update(T document) {
+        Assert.notNull(document, "Document must not be null!");
+
+        return completeOnError(() -> {
+            AerospikeWriteData data = writeData(document);
+            AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+            WriteMode writeMode = entity.getWriteMode();
+            if (entity.hasVersionProperty()) {
+                WritePolicy policy = expectGenerationSavePolicy(data, writeMode.getUpdateAction());
+                return doPersistWithVersion(document, data, policy, writeMode.isDeleteBinsFirst(),
+                    this::translateCasError);
+            } else {
+                WritePolicy policy = ignoreGenerationSavePolicy(data, writeMode.getUpdateAction());
+                Operation[] operations = operations(data.getBinsAsArray(), Operation::put,
+                    precedingPutOperations(writeMode));
+                return doPersist(document, data, policy, operations);
+            }
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> findById(Object id, Class<T> entityClass) {
+        Assert.notNull(id, "Id must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        Key key = getKey(id, entity);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        RecordListener listener = new RecordListener() {
+            @Override
+            public void onSuccess(Key key, Record aeroRecord) {
+                completeWith(future, () -> mapToEntity(key, entityClass, aeroRecord));
+            }
+
+            @Override
+            public void onFailure(AerospikeException e) {
+                if (e.getResultCode() == ResultCode.KEY_NOT_FOUND_ERROR) {
+                    future.complete(null);
+                } else {
+                    future.completeExceptionally(translateError(e));
+                }
+            }
+        };
+
+        if (entity.isTouchOnRead()) {
+            Assert.state(!entity.hasExpirationProperty(), "Touch on read is not supported for expiration property");
+            WritePolicy writePolicy = WritePolicyBuilder.builder(this.writePolicyDefault)
+                .expiration(entity.getExpiration())
+                .build();
+            execute(future, () -> client.operate(null, listener, writePolicy, key, Operation.touch(),
+                Operation.get()));
+        } else {
+            execute(future, () -> client.get(null, listener, null, key));
+        }
+        return future;
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> findByIds(Iterable<?> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "List of ids must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        Key[] keys = getKeys(ids, entity);
+        if (keys.length == 0) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        execute(future, () -> client.get(null, new RecordArrayListener() {
+            @Override
+            public void onSuccess(Key[] keys, Record[] records) {
+                completeWith(future, () -> IntStream.range(0, keys.length)
+                    .filter(index -> records[index] != null)
+                    .mapToObj(index -> mapToEntity(keys[index], entityClass, records[index]))
+                    .collect(Collectors.toList()));
+            }
+
+            @Override
+            public void onFailure(AerospikeException e) {
+                future.completeExceptionally(translateError(e));
+            }
+        }, null, keys));
+        return future;
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> find(Query query, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        verifyUnsortedWithOffset(query.getSort(), query.getOffset());
+        Qualifier qualifier = query.getCriteria().getCriteriaObject();
+        return queryEngine.select(this.namespace, getSetName(entityClass), null, qualifier)
+            .handle((keyRecords, throwable) -> {
+                if (throwable != null) {
+                    throw translateError(throwable);
+                }
+                Stream<T> results = keyRecords.stream()
+                    .map(keyRecord -> mapToEntity(keyRecord.key, entityClass, keyRecord.record));
+                return applyPostProcessingOnResults(results, query).collect(Collectors.toList());
+            });
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> delete(Object id, Class<T> entityClass) {
+        Assert.notNull(id, "Id must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        return doDelete(getKey(id, entity));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> delete(T document) {
+        Assert.notNull(document, "Document must not be null!");
+
+        return completeOnError(() -> doDelete(writeData(document).getKey()));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> exists(Object id, Class<T> entityClass) {
+        Assert.notNull(id, "Id must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        Key key = getKey(id, entity);
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        execute(future, () -> client.exists(null, new ExistsListener() {
+            @Override
+            public void onSuccess(Key key, boolean exists) {
+                future.complete(exists);
+            }
+
+            @Override
+            public void onFailure(AerospikeException e) {
+                future.completeExceptionally(translateError(e));
+            }
+        }, null, key));
+        return future;
+    }
+
+    private CompletableFuture<Boolean> doDelete(Key key) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        execute(future, () -> client.delete(null, new DeleteListener() {
+            @Override
+            public void onSuccess(Key key, boolean existed) {
+                future.complete(existed);
+            }
+
+            @Override
+            public void onFailure(AerospikeException e) {
+                future.completeExceptionally(translateError(e));
+            }
+        }, ignoreGenerationDeletePolicy(), key));
+        return future;
+    }
+
+    private <T> CompletableFuture<T> doPersist(T document, AerospikeWriteData data, WritePolicy policy,
+                                               Operation[] operations) {
+        return operate(data.getKey(), policy, operations, aeroRecord -> document, this::translateError);
+    }
+
+    private <T> CompletableFuture<T> doPersistWithVersion(T document, AerospikeWriteData data, WritePolicy policy,
+                                                          boolean firstlyDeleteBins,
+                                                          Function<AerospikeException, RuntimeException> translator) {
+        Bin[] bins = data.getBinsAsArray();
+        if (bins.length == 0) {
+            return CompletableFuture.failedFuture(translator.apply(new AerospikeException(
+                "Cannot put and get header on a document with no bins and \"@_class\" bin disabled.")));
+        }
+
+        Operation[] operations = firstlyDeleteBins ? operations(bins, Operation::put,
+            Operation.array(Operation.delete()), Operation.array(Operation.getHeader()))
+            : operations(bins, Operation::put, null, Operation.array(Operation.getHeader()));
+        return operate(data.getKey(), policy, operations, aeroRecord -> updateVersion(document, aeroRecord),
+            translator);
+    }
+
+    private <T> CompletableFuture<T> operate(Key key, WritePolicy policy, Operation[] operations,
+                                             Function<Record, T> resultMapper,
+                                             Function<AerospikeException, RuntimeException> translator) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        RecordListener listener = new RecordListener() {
+            @Override
+            public void onSuccess(Key key, Record aeroRecord) {
+                completeWith(future, () -> resultMapper.apply(aeroRecord));
+            }
+
+            @Override
+            public void onFailure(AerospikeException e) {
+                future.completeExceptionally(translator.apply(e));
+            }
+        };
+        try {
+            client.operate(null, listener, policy, key, operations);
+        } catch (AerospikeException e) {
+            future.completeExceptionally(translator.apply(e));
+        }
+        return future;
+    }
+
+    /**
+     * Run the command registering the listener, errors thrown before the command is queued on the event loop (e.g.
+     * when the event loop queue is full) complete the future instead of being thrown to the caller.
+     */
+    private void execute(CompletableFuture<?> future, Runnable command) {
+        try {
+            command.run();
+        } catch (AerospikeException e) {
+            future.completeExceptionally(translateError(e));
+        }
+    }
+
+    /**
+     * Run the command, errors thrown before it is sent (e.g. conversion or validation failures) are returned as an
+     * exceptionally completed future instead of being thrown to the caller, the same way as the errors of the command.
+     */
+    private static <T> CompletableFuture<T> completeOnError(Supplier<CompletableFuture<T>> command) {
+        try {
+            return command.get();
+        } catch (RuntimeException e) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    /**
+     * Complete the future with the mapped result, mapping errors (e.g. conversion failures) complete the future
+     * exceptionally instead of being lost on the event loop thread.
+     */
+    private static <T> void completeWith(CompletableFuture<T> future, Supplier<T> result) {
+        try {
+            future.complete(result.get());
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private RuntimeException translateError(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null
+            ? e.getCause() : e;
+        if (cause instanceof AerospikeException aerospikeException) {
+            return translateError(aerospikeException);
+        }
+        return cause instanceof RuntimeException runtimeException ? runtimeException : new RuntimeException(cause);
+    }
+}
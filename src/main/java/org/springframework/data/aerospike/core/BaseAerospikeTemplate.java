@@ -16,22 +16,32 @@
 package org.springframework.data.aerospike.core;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
 import com.aerospike.client.Key;
 import com.aerospike.client.Log;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
 import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.BatchDeletePolicy;
+import com.aerospike.client.policy.BatchWritePolicy;
 import com.aerospike.client.policy.GenerationPolicy;
 import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.KeyRecord;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.support.PropertyComparator;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.aerospike.AerospikeBatchWriteException;
 import org.springframework.data.aerospike.convert.AerospikeReadData;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.model.BatchEntryResult;
+import org.springframework.data.aerospike.core.model.BatchEntryResult.EntryType;
+import org.springframework.data.aerospike.core.model.BatchEntryResults;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
@@ -39,21 +49,31 @@ import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
 import org.springframework.data.aerospike.mapping.BasicAerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.Field;
+import org.springframework.data.aerospike.mapping.WriteMode;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.keyvalue.core.IterableConverter;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.springframework.data.aerospike.core.OperationUtils.operations;
+import static org.springframework.data.aerospike.core.OperationUtils.precedingPutOperations;
 
 /**
  * Base class for creation Aerospike templates
@@ -69,6 +89,14 @@ abstract class BaseAerospikeTemplate {
     protected final String namespace;
     protected final AerospikeExceptionTranslator exceptionTranslator;
     protected final WritePolicy writePolicyDefault;
+    protected int batchWriteSize = DEFAULT_BATCH_SIZE;
+    protected int batchReadSize = DEFAULT_BATCH_SIZE;
+
+    // types stored in bins as values ordered the same way as the property values
+    private static final Set<Class<?>> BIN_COMPARABLE_TYPES = Set.of(String.class, Long.class, Integer.class,
+        Short.class, Byte.class, Double.class, Float.class);
+    static final int DEFAULT_BATCH_SIZE = 100;
+    static final Duration DEFAULT_SET_STATISTICS_CACHE_TTL = Duration.ofSeconds(1);
 
     BaseAerospikeTemplate(String namespace,
                           MappingAerospikeConverter converter,
@@ -121,6 +149,34 @@ abstract class BaseAerospikeTemplate {
         return namespace;
     }
 
+    /**
+     * Set the maximum amount of records sent to the server in a single batch write request.
+     *
+     * @param batchWriteSize positive amount of records per batch write request.
+     */
+    public void setBatchWriteSize(int batchWriteSize) {
+        Assert.isTrue(batchWriteSize > 0, "Batch write size must be greater than zero");
+        this.batchWriteSize = batchWriteSize;
+    }
+
+    public int getBatchWriteSize() {
+        return batchWriteSize;
+    }
+
+    /**
+     * Set the maximum amount of keys sent to the server in a single batch read request when reading a stream of ids.
+     *
+     * @param batchReadSize positive amount of keys per batch read request.
+     */
+    public void setBatchReadSize(int batchReadSize) {
+        Assert.isTrue(batchReadSize > 0, "Batch read size must be greater than zero");
+        this.batchReadSize = batchReadSize;
+    }
+
+    public int getBatchReadSize() {
+        return batchReadSize;
+    }
+
     @SuppressWarnings("unchecked")
     <T> Class<T> getEntityClass(T entity) {
         return (Class<T>) entity.getClass();
@@ -148,12 +204,124 @@ abstract class BaseAerospikeTemplate {
             .orElseThrow(() -> new IllegalStateException("Comparator can not be created if sort orders are empty"));
     }
 
+    void verifyUnsortedWithOffset(Sort sort, long offset) {
+        if ((sort == null || sort.isUnsorted())
+            && offset > 0) {
+            throw new IllegalArgumentException("Unsorted query must not have offset value. " +
+                "For retrieving paged results use sorted query.");
+        }
+    }
+
+    <T> Stream<T> applyPostProcessingOnResults(Stream<T> results, Query query) {
+        if (query.getSort() != null && query.getSort().isSorted()) {
+            int topSize = query.hasRows() ? BoundedSort.sizeFor(query.getOffset(), query.getRows()) : -1;
+            results = sorted(results, getComparator(query), topSize);
+        }
+        if (query.hasOffset()) {
+            results = results.skip(query.getOffset());
+        }
+        if (query.hasRows()) {
+            results = results.limit(query.getRows());
+        }
+
+        return results;
+    }
+
+    <T> Stream<T> applyPostProcessingOnResults(Stream<T> results, Sort sort, long offset, long limit) {
+        if (sort != null && sort.isSorted()) {
+            results = sorted(results, getComparator(sort), BoundedSort.sizeFor(offset, limit));
+        }
+
+        if (offset > 0) {
+            results = results.skip(offset);
+        }
+
+        if (limit > 0) {
+            results = results.limit(limit);
+        }
+        return results;
+    }
+
+    /**
+     * Keep only the first topSize results while they are consumed, instead of sorting all of them, when topSize is
+     * positive.
+     */
+    private static <T> Stream<T> sorted(Stream<T> results, Comparator<T> comparator, int topSize) {
+        return topSize > 0 ? BoundedSort.sortLazily(results, comparator, topSize) : results.sorted(comparator);
+    }
+
     private <T> Comparator<T> getPropertyComparator(Sort.Order order) {
         boolean ignoreCase = true;
         boolean ascending = order.getDirection().isAscending();
         return new PropertyComparator<>(order.getProperty(), ignoreCase, ascending);
     }
 
+    /**
+     * Comparator of query records on the bins of the sort properties that orders the same way as
+     * {@link #getComparator(Sort)} orders the converted documents, so that records can be sorted before conversion.
+     *
+     * @return the comparator or null if a sort property is not stored in a bin as a string or number.
+     */
+    @Nullable
+    Comparator<KeyRecord> getRecordComparator(Class<?> documentClass, Sort sort) {
+        AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(documentClass);
+        if (entity == null) {
+            return null;
+        }
+        Comparator<KeyRecord> comparator = null;
+        for (Sort.Order order : sort) {
+            AerospikePersistentProperty property = entity.getPersistentProperty(order.getProperty());
+            if (property == null || property.isIdProperty() || property.isVersionProperty()
+                || !BIN_COMPARABLE_TYPES.contains(ClassUtils.resolvePrimitiveIfNecessary(property.getType()))) {
+                return null;
+            }
+            Comparator<KeyRecord> binComparator = getBinComparator(property.getFieldName(),
+                property.getType().isPrimitive(), order.getDirection().isAscending());
+            comparator = comparator == null ? binComparator : comparator.thenComparing(binComparator);
+        }
+        return comparator;
+    }
+
+    // same semantics as PropertyComparator: strings ignore case, nulls are last in ascending order
+    private static Comparator<KeyRecord> getBinComparator(String binName, boolean primitive, boolean ascending) {
+        // a missing bin is read as zero into a primitive property
+        Object missingValue = primitive ? 0L : null;
+        return (left, right) -> {
+            Object leftValue = getBinValue(left, binName, missingValue);
+            Object rightValue = getBinValue(right, binName, missingValue);
+            int result;
+            if (leftValue != null) {
+                result = rightValue != null ? compareBinValues(leftValue, rightValue) : -1;
+            } else {
+                result = rightValue != null ? 1 : 0;
+            }
+            return ascending ? result : -result;
+        };
+    }
+
+    private static Object getBinValue(KeyRecord keyRecord, String binName, Object missingValue) {
+        Object value = keyRecord.record.getValue(binName);
+        return value != null ? value : missingValue;
+    }
+
+    private static int compareBinValues(Object left, Object right) {
+        if (left instanceof String leftString && right instanceof String rightString) {
+            return leftString.toLowerCase().compareTo(rightString.toLowerCase());
+        }
+        if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+            if (isIntegral(leftNumber) && isIntegral(rightNumber)) {
+                return Long.compare(leftNumber.longValue(), rightNumber.longValue());
+            }
+            return Double.compare(leftNumber.doubleValue(), rightNumber.doubleValue());
+        }
+        return 0;
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short
+            || number instanceof Byte;
+    }
+
     <T> ConvertingPropertyAccessor<T> getPropertyAccessor(AerospikePersistentEntity<?> entity, T source) {
         PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(source);
         return new ConvertingPropertyAccessor<>(accessor, converter.getConversionService());
@@ -193,11 +361,11 @@ abstract class BaseAerospikeTemplate {
         return data;
     }
 
-    WritePolicy expectGenerationCasAwareSavePolicy(AerospikeWriteData data) {
+    WritePolicy expectGenerationCasAwareSavePolicy(AerospikeWriteData data, WriteMode writeMode) {
         RecordExistsAction recordExistsAction = data.getVersion()
             .filter(v -> v > 0L)
-            .map(v -> RecordExistsAction.UPDATE_ONLY) // updating existing document with generation,
-            // cannot use REPLACE_ONLY due to bin convergence feature restrictions
+            .map(v -> writeMode.getUpdateAction()) // updating existing document with generation,
+            // REPLACE_ONLY is used only if the entity's write mode allows it (bin convergence feature restrictions)
             .orElse(RecordExistsAction.CREATE_ONLY); // create new document,
         // if exists we should fail with optimistic locking
         return expectGenerationSavePolicy(data, recordExistsAction);
@@ -220,12 +388,159 @@ abstract class BaseAerospikeTemplate {
             .build();
     }
 
+    WritePolicy ignoreGenerationWritePolicy() {
+        return WritePolicyBuilder.builder(this.writePolicyDefault)
+            .generationPolicy(GenerationPolicy.NONE)
+            .build();
+    }
+
     WritePolicy ignoreGenerationDeletePolicy() {
         return WritePolicyBuilder.builder(this.writePolicyDefault)
             .generationPolicy(GenerationPolicy.NONE)
             .build();
     }
 
+    BatchDeletePolicy ignoreGenerationBatchDeletePolicy() {
+        WritePolicy writePolicy = ignoreGenerationDeletePolicy();
+        BatchDeletePolicy policy = new BatchDeletePolicy();
+        policy.filterExp = writePolicy.filterExp;
+        policy.commitLevel = writePolicy.commitLevel;
+        policy.generationPolicy = writePolicy.generationPolicy;
+        policy.generation = writePolicy.generation;
+        policy.durableDelete = writePolicy.durableDelete;
+        policy.sendKey = writePolicy.sendKey;
+        return policy;
+    }
+
+    /**
+     * Check the results of a batch delete, missing records are not considered to be an error.
+     */
+    void checkForDeleteErrors(BatchRecord[] batchRecords) {
+        for (BatchRecord batchRecord : batchRecords) {
+            if (batchRecord.resultCode != ResultCode.OK && batchRecord.resultCode != ResultCode.KEY_NOT_FOUND_ERROR) {
+                throw translateError(new AerospikeException(batchRecord.resultCode, batchRecord.inDoubt));
+            }
+        }
+    }
+
+    <T> BatchWriteData<T> getBatchWriteForSave(T document) {
+        Assert.notNull(document, "Document must not be null!");
+
+        AerospikeWriteData data = writeData(document);
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+        Operation[] operations;
+        WritePolicy policy;
+        WriteMode writeMode = entity.getWriteMode();
+        if (entity.hasVersionProperty()) {
+            policy = expectGenerationCasAwareSavePolicy(data, writeMode);
+            operations = operations(data.getBinsAsArray(), Operation::put,
+                precedingPutOperations(writeMode), Operation.array(Operation.getHeader()));
+        } else {
+            policy = ignoreGenerationSavePolicy(data, writeMode.getSaveAction());
+            operations = operations(data.getBinsAsArray(), Operation::put, precedingPutOperations(writeMode));
+        }
+        BatchWrite batchWrite = new BatchWrite(batchWritePolicy(policy), data.getKey(), operations);
+        return new BatchWriteData<>(document, batchWrite, entity.hasVersionProperty(), true);
+    }
+
+    <T> BatchWriteData<T> getBatchWriteForInsert(T document) {
+        Assert.notNull(document, "Document must not be null!");
+
+        AerospikeWriteData data = writeData(document);
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+        WritePolicy policy = ignoreGenerationSavePolicy(data, RecordExistsAction.CREATE_ONLY);
+        // generation is ignored on insert, so errors are not handled as cas aware (see insert)
+        Operation[] operations = entity.hasVersionProperty()
+            ? operations(data.getBinsAsArray(), Operation::put, null, Operation.array(Operation.getHeader()))
+            : operations(data.getBinsAsArray(), Operation::put);
+        BatchWrite batchWrite = new BatchWrite(batchWritePolicy(policy), data.getKey(), operations);
+        return new BatchWriteData<>(document, batchWrite, entity.hasVersionProperty(), false);
+    }
+
+    BatchWritePolicy batchWritePolicy(WritePolicy writePolicy) {
+        BatchWritePolicy policy = new BatchWritePolicy();
+        policy.filterExp = writePolicy.filterExp;
+        policy.recordExistsAction = writePolicy.recordExistsAction;
+        policy.commitLevel = writePolicy.commitLevel;
+        policy.generationPolicy = writePolicy.generationPolicy;
+        policy.generation = writePolicy.generation;
+        policy.expiration = writePolicy.expiration;
+        policy.durableDelete = writePolicy.durableDelete;
+        policy.sendKey = writePolicy.sendKey;
+        return policy;
+    }
+
+    /**
+     * Update versions of successfully written documents and report the failed ones.
+     *
+     * @throws AerospikeBatchWriteException if at least one record of the batch failed.
+     */
+    <T> void checkForErrorsAndUpdateVersion(List<BatchWriteData<T>> batchWriteDataList, String commandName) {
+        List<AerospikeBatchWriteException.Failure> failures = updateVersionAndCollectFailures(batchWriteDataList);
+        if (!failures.isEmpty()) {
+            throw new AerospikeBatchWriteException("Errors during batch " + commandName, failures);
+        }
+    }
+
+    <T> List<AerospikeBatchWriteException.Failure> updateVersionAndCollectFailures(
+        List<BatchWriteData<T>> batchWriteDataList) {
+        List<AerospikeBatchWriteException.Failure> failures = new ArrayList<>();
+        for (BatchWriteData<T> data : batchWriteDataList) {
+            BatchRecord batchRecord = data.getBatchRecord();
+            if (batchRecord.resultCode != ResultCode.OK) {
+                AerospikeException e = new AerospikeException(batchRecord.resultCode, batchRecord.inDoubt);
+                failures.add(new AerospikeBatchWriteException.Failure(data.getDocument(),
+                    data.isCasAware() ? translateCasError(e) : translateError(e)));
+            } else if (data.isHasVersionProperty() && batchRecord.record != null) {
+                updateVersion(data.getDocument(), batchRecord.record);
+            }
+        }
+        return failures;
+    }
+
+    BatchEntryResults toBatchResults(List<BatchBuilder.Entry> entries) {
+        List<BatchEntryResult<?>> results = new ArrayList<>(entries.size());
+        for (BatchBuilder.Entry entry : entries) {
+            results.add(toBatchResult(entry));
+        }
+        return new BatchEntryResults(results);
+    }
+
+    private BatchEntryResult<?> toBatchResult(BatchBuilder.Entry entry) {
+        BatchRecord batchRecord = entry.getBatchRecord();
+        EntryType type = entry.getType();
+        int resultCode = batchRecord.resultCode;
+        if (resultCode == ResultCode.OK) {
+            return new BatchEntryResult<>(type, batchRecord.key, toBatchResultValue(entry), resultCode, null);
+        }
+        // missing records are not considered to be an error for deletes and reads
+        if (resultCode == ResultCode.KEY_NOT_FOUND_ERROR && type == EntryType.DELETE) {
+            return new BatchEntryResult<>(type, batchRecord.key, false, resultCode, null);
+        }
+        if (resultCode == ResultCode.KEY_NOT_FOUND_ERROR && type == EntryType.READ) {
+            return new BatchEntryResult<>(type, batchRecord.key, null, resultCode, null);
+        }
+        AerospikeException e = new AerospikeException(resultCode, batchRecord.inDoubt);
+        return new BatchEntryResult<>(type, batchRecord.key, null, resultCode,
+            entry.isCasAware() ? translateCasError(e) : translateError(e));
+    }
+
+    private Object toBatchResultValue(BatchBuilder.Entry entry) {
+        BatchRecord batchRecord = entry.getBatchRecord();
+        switch (entry.getType()) {
+            case SAVE:
+            case INSERT:
+                return entry.isHasVersionProperty() && batchRecord.record != null
+                    ? updateVersion(entry.getDocument(), batchRecord.record) : entry.getDocument();
+            case DELETE:
+                return true;
+            case READ:
+                return mapToEntity(batchRecord.key, entry.getEntityClass(), batchRecord.record);
+            default:
+                return batchRecord.record;
+        }
+    }
+
     Key getKey(Object id, AerospikePersistentEntity<?> entity) {
         Assert.notNull(id, "Id must not be null!");
         String userKey = convertIfNecessary(id, String.class);
@@ -245,6 +560,12 @@ abstract class BaseAerospikeTemplate {
         return builder.build();
     }
 
+    Key[] getKeys(Iterable<?> ids, AerospikePersistentEntity<?> entity) {
+        return IterableConverter.toList(ids).stream()
+            .map(id -> getKey(id, entity))
+            .toArray(Key[]::new);
+    }
+
     Map<Class<?>, List<Key>> toEntitiesKeyMap(GroupedKeys groupedKeys) {
         return groupedKeys.getEntitiesKeys().entrySet().stream()
             .collect(Collectors.toMap(Map.Entry::getKey, entry -> toKeysList(entry.getKey(), entry.getValue())));
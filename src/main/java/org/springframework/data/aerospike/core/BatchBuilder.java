@@ -0,0 +1,170 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.BatchDelete;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import lombok.Value;
+import org.springframework.data.aerospike.core.model.BatchEntryResult.EntryType;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builder of a heterogeneous batch: saves, inserts, deletes, operations and reads of documents of different entity
+ * classes that are sent to the server in a single batch request on {@link #execute()}.
+ * <p>
+ * Documents are converted when they are added. A failure of a single entry does not fail the whole batch, it is
+ * reported in the entry's {@link org.springframework.data.aerospike.core.model.BatchEntryResult}.
+ *
+ * @param <R> Type of the execution result, depends on the template that created the builder.
+ */
+public class BatchBuilder<R> {
+
+    private final BaseAerospikeTemplate template;
+    private final Function<List<Entry>, R> executor;
+    private final List<Entry> entries = new ArrayList<>();
+
+    BatchBuilder(BaseAerospikeTemplate template, Function<List<Entry>, R> executor) {
+        this.template = template;
+        this.executor = executor;
+    }
+
+    /**
+     * Save a document, see {@link AerospikeOperations#save(Object)}.
+     *
+     * @param document The document to save. Must not be {@literal null}.
+     * @return this builder.
+     */
+    public BatchBuilder<R> save(Object document) {
+        BatchWriteData<Object> data = template.getBatchWriteForSave(document);
+        return add(EntryType.SAVE, data.getBatchRecord(), document, null, data.isHasVersionProperty(),
+            data.isCasAware());
+    }
+
+    /**
+     * Insert a document, see {@link AerospikeOperations#insert(Object)}.
+     *
+     * @param document The document to insert. Must not be {@literal null}.
+     * @return this builder.
+     */
+    public BatchBuilder<R> insert(Object document) {
+        BatchWriteData<Object> data = template.getBatchWriteForInsert(document);
+        return add(EntryType.INSERT, data.getBatchRecord(), document, null, data.isHasVersionProperty(),
+            data.isCasAware());
+    }
+
+    /**
+     * Delete a document, a missing record is not considered to be an error.
+     *
+     * @param document The document to delete. Must not be {@literal null}.
+     * @return this builder.
+     */
+    public BatchBuilder<R> delete(Object document) {
+        Assert.notNull(document, "Document must not be null!");
+
+        AerospikePersistentEntity<?> entity = template.mappingContext.getRequiredPersistentEntity(document.getClass());
+        Object id = entity.getIdentifierAccessor(document).getRequiredIdentifier();
+        return deleteById(id, document.getClass());
+    }
+
+    /**
+     * Delete a document by id, a missing record is not considered to be an error.
+     *
+     * @param id          The id of the document to delete. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @return this builder.
+     */
+    public BatchBuilder<R> deleteById(Object id, Class<?> entityClass) {
+        Key key = getKey(id, entityClass);
+        BatchDelete batchDelete = new BatchDelete(template.ignoreGenerationBatchDeletePolicy(), key);
+        return add(EntryType.DELETE, batchDelete, null, entityClass, false, false);
+    }
+
+    /**
+     * Execute operations on a record, the record returned by the operations is the entry's result.
+     *
+     * @param id          The id of the record. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @param operations  Operations to execute. Must not be {@literal null} or empty.
+     * @return this builder.
+     */
+    public BatchBuilder<R> operate(Object id, Class<?> entityClass, Operation... operations) {
+        Assert.notEmpty(operations, "Operations must not be empty!");
+
+        Key key = getKey(id, entityClass);
+        boolean hasWrites = Arrays.stream(operations).anyMatch(operation -> operation.type.isWrite);
+        // reads use the batch policy like findById entries, writes the template's write policy like other writes
+        BatchRecord batchRecord = hasWrites
+            ? new BatchWrite(template.batchWritePolicy(template.ignoreGenerationWritePolicy()), key, operations)
+            : new BatchRead(key, operations);
+        return add(EntryType.OPERATE, batchRecord, null, null, false, false);
+    }
+
+    /**
+     * Find a document by id, the document mapped to the entityClass or null is the entry's result.
+     *
+     * @param id          The id of the document to find. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from and to map the document to. Must not be
+     *                    {@literal null}.
+     * @return this builder.
+     */
+    public BatchBuilder<R> findById(Object id, Class<?> entityClass) {
+        Key key = getKey(id, entityClass);
+        return add(EntryType.READ, new BatchRead(key, true), null, entityClass, false, false);
+    }
+
+    /**
+     * Send all the entries to the server in a single batch request.
+     *
+     * @return results of the entries in the order they were added.
+     */
+    public R execute() {
+        return executor.apply(new ArrayList<>(entries));
+    }
+
+    private Key getKey(Object id, Class<?> entityClass) {
+        Assert.notNull(id, "Id must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        return template.getKey(id, template.mappingContext.getRequiredPersistentEntity(entityClass));
+    }
+
+    private BatchBuilder<R> add(EntryType type, BatchRecord batchRecord, Object document, Class<?> entityClass,
+                                boolean hasVersionProperty, boolean casAware) {
+        entries.add(new Entry(type, batchRecord, document, entityClass, hasVersionProperty, casAware));
+        return this;
+    }
+
+    @Value
+    static class Entry {
+
+        EntryType type;
+        BatchRecord batchRecord;
+        Object document;
+        Class<?> entityClass;
+        boolean hasVersionProperty;
+        boolean casAware;
+    }
+}
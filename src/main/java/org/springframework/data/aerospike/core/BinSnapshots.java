@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Value;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteOrder;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-bin hashes of documents as they were last read or written, used by dirty tracking (see
+ * {@link org.springframework.data.aerospike.mapping.Document#dirtyTracking()}).
+ * <p>
+ * Snapshots are bound to document instances (identity, not equality, as documents are mutable) and do not prevent the
+ * documents from being garbage collected. Each bin is kept as a 64-bit hash of its value in the wire format of the
+ * client rather than as the value itself, so collections mutated in place are detected while a snapshot costs a few
+ * bytes per bin. Unlike {@link Object#hashCode()}, the hash mixes every byte of the value, so a changed value is
+ * mistaken for an unchanged one only on a 64-bit collision.
+ */
+class BinSnapshots {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long MULTIPLIER = 0xC6A4A7935BD1E995L;
+    private static final int SHIFT = 47;
+    private static final VarHandle LONG_VIEW =
+        MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Map<IdentityReference, Map<String, Long>> snapshots = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    static Map<String, Long> binHashes(Collection<Bin> bins) {
+        Map<String, Long> hashes = new HashMap<>(bins.size());
+        for (Bin bin : bins) {
+            hashes.put(bin.name, hash(bin.value));
+        }
+        return hashes;
+    }
+
+    static boolean isChanged(Map<String, Long> snapshot, Map<String, Long> current, String binName) {
+        return !Objects.equals(snapshot.get(binName), current.get(binName));
+    }
+
+    void put(Object document, Map<String, Long> binHashes) {
+        expungeCollected();
+        snapshots.put(new IdentityReference(document, queue), binHashes);
+    }
+
+    Map<String, Long> get(Object document) {
+        return snapshots.get(new IdentityReference(document, null));
+    }
+
+    void remove(Object document) {
+        snapshots.remove(new IdentityReference(document, null));
+    }
+
+    int size() {
+        expungeCollected();
+        return snapshots.size();
+    }
+
+    /**
+     * @return MurmurHash64A of the particle type followed by the value in the wire format of the client.
+     */
+    static long hash(Value value) {
+        byte[] bytes = new byte[value.estimateSize() + 1];
+        bytes[0] = (byte) value.getType();
+        value.write(bytes, 1);
+
+        int length = bytes.length;
+        int blocksEnd = length & ~7;
+        long hash = SEED ^ (length * MULTIPLIER);
+        for (int offset = 0; offset < blocksEnd; offset += 8) {
+            long block = (long) LONG_VIEW.get(bytes, offset);
+            block *= MULTIPLIER;
+            block ^= block >>> SHIFT;
+            block *= MULTIPLIER;
+            hash ^= block;
+            hash *= MULTIPLIER;
+        }
+        if (blocksEnd < length) {
+            for (int offset = length - 1; offset >= blocksEnd; offset--) {
+                hash ^= (bytes[offset] & 0xFFL) << (8 * (offset - blocksEnd));
+            }
+            hash *= MULTIPLIER;
+        }
+        hash ^= hash >>> SHIFT;
+        hash *= MULTIPLIER;
+        hash ^= hash >>> SHIFT;
+        return hash;
+    }
+
+    private void expungeCollected() {
+        Reference<?> reference;
+        while ((reference = queue.poll()) != null) {
+            //noinspection SuspiciousMethodCalls
+            snapshots.remove(reference);
+        }
+    }
+
+    private static class IdentityReference extends WeakReference<Object> {
+
+        private final int hash;
+
+        IdentityReference(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityReference otherReference)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == otherReference.get();
+        }
+    }
+}
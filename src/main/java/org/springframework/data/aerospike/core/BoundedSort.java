@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the first size values in the order of a comparator while values are added, used instead of sorting all query
+ * results when only the first offset + limit of them are returned.
+ * <p>
+ * Memory is bounded by the size, each value costs O(log size). Values that are equal keep the order in which they were
+ * added, like a stable full sort.
+ */
+class BoundedSort<T> {
+
+    // larger sizes would not be cheaper than sorting all the results
+    private static final int MAX_SIZE = 100_000;
+
+    private final int size;
+    private final Comparator<Ranked<T>> order;
+    private final PriorityQueue<Ranked<T>> worstFirst;
+    private long sequence;
+
+    BoundedSort(Comparator<? super T> comparator, int size) {
+        this.size = size;
+        this.order = Comparator.<Ranked<T>, T>comparing(Ranked::getValue, comparator)
+            .thenComparingLong(Ranked::getSequence);
+        this.worstFirst = new PriorityQueue<>(Math.min(size, 1024) + 1, order.reversed());
+    }
+
+    /**
+     * @return the size of a bounded sort for the given offset and limit, or -1 if all results must be sorted.
+     */
+    static int sizeFor(long offset, long limit) {
+        if (limit <= 0) {
+            return -1;
+        }
+        long size = Math.max(offset, 0) + limit;
+        return size <= MAX_SIZE ? (int) size : -1;
+    }
+
+    /**
+     * Consume and close the values.
+     *
+     * @return the first size values in order.
+     */
+    static <T> List<T> sort(Stream<T> values, Comparator<? super T> comparator, int size) {
+        try (values) {
+            BoundedSort<T> sort = new BoundedSort<>(comparator, size);
+            values.forEachOrdered(sort::add);
+            return sort.toSortedList();
+        }
+    }
+
+    /**
+     * Sort lazily, the values are consumed on the terminal operation of the returned stream. Closing the returned
+     * stream closes the values, also when no terminal operation was run.
+     *
+     * @return a stream of the first size values in order.
+     */
+    static <T> Stream<T> sortLazily(Stream<T> values, Comparator<? super T> comparator, int size) {
+        return Stream.of(values)
+            .flatMap(source -> sort(source, comparator, size).stream())
+            .onClose(values::close);
+    }
+
+    void add(T value) {
+        Ranked<T> ranked = new Ranked<>(value, sequence++);
+        if (worstFirst.size() < size) {
+            worstFirst.add(ranked);
+        } else if (order.compare(ranked, worstFirst.peek()) < 0) {
+            worstFirst.poll();
+            worstFirst.add(ranked);
+        }
+    }
+
+    List<T> toSortedList() {
+        List<Ranked<T>> ranked = new ArrayList<>(worstFirst);
+        ranked.sort(order);
+        List<T> values = new ArrayList<>(ranked.size());
+        ranked.forEach(value -> values.add(value.getValue()));
+        return values;
+    }
+
+    @Value
+    private static class Ranked<T> {
+
+        T value;
+        long sequence;
+    }
+}
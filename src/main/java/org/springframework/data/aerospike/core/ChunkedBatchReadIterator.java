@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Iterator reading keys in chunks of batch requests, keeping up to maxConcurrentChunks requests in flight. Results are
+ * returned in the order of the keys, so at most maxConcurrentChunks chunks of results are held in memory.
+ * <p>
+ * Keys are consumed lazily by the calling thread, batch requests are executed by the given executor, which is shared
+ * with other iterators and not shut down by this one. Requests still in flight are cancelled when the iterator is
+ * closed.
+ */
+class ChunkedBatchReadIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final Iterator<Key> keys;
+    private final int chunkSize;
+    private final int maxConcurrentChunks;
+    private final Function<Key[], List<T>> chunkReader;
+    private final ExecutorService executor;
+    private final Deque<Future<List<T>>> chunksInFlight = new ArrayDeque<>();
+    private Iterator<T> currentChunk = Collections.emptyIterator();
+    private boolean closed;
+
+    ChunkedBatchReadIterator(Iterator<Key> keys, int chunkSize, int maxConcurrentChunks,
+                             Function<Key[], List<T>> chunkReader, ExecutorService executor) {
+        this.keys = keys;
+        this.chunkSize = chunkSize;
+        this.maxConcurrentChunks = maxConcurrentChunks;
+        this.chunkReader = chunkReader;
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentChunk.hasNext()) {
+            submitChunks();
+            if (chunksInFlight.isEmpty()) {
+                close();
+                return false;
+            }
+            currentChunk = awaitChunk(chunksInFlight.poll()).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentChunk.next();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        chunksInFlight.forEach(chunk -> chunk.cancel(true));
+        chunksInFlight.clear();
+    }
+
+    private void submitChunks() {
+        while (!closed && chunksInFlight.size() < maxConcurrentChunks && keys.hasNext()) {
+            Key[] chunk = nextChunk();
+            chunksInFlight.add(executor.submit(() -> chunkReader.apply(chunk)));
+        }
+    }
+
+    private Key[] nextChunk() {
+        Key[] chunk = new Key[chunkSize];
+        int size = 0;
+        while (size < chunkSize && keys.hasNext()) {
+            chunk[size++] = keys.next();
+        }
+        return size == chunkSize ? chunk : Arrays.copyOf(chunk, size);
+    }
+
+    private List<T> awaitChunk(Future<List<T>> chunk) {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a batch read", e);
+        } catch (CancellationException e) {
+            close();
+            throw new IllegalStateException("Batch read was cancelled", e);
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Batch read failed", cause);
+        }
+    }
+}
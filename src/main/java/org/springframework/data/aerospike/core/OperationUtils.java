@@ -18,6 +18,7 @@ package org.springframework.data.aerospike.core;
 import com.aerospike.client.Bin;
 import com.aerospike.client.Operation;
 import com.aerospike.client.Value;
+import org.springframework.data.aerospike.mapping.WriteMode;
 import org.springframework.lang.Nullable;
 
 import java.util.Map;
@@ -76,4 +77,13 @@ public class OperationUtils {
         }
         return operations;
     }
+
+    /**
+     * @return operations preceding the puts of a whole document: deleting all bins to mimic REPLACE behavior (due to
+     * bin convergence feature restrictions) if required by the write mode, otherwise null.
+     */
+    @Nullable
+    static Operation[] precedingPutOperations(WriteMode writeMode) {
+        return writeMode.isDeleteBinsFirst() ? Operation.array(Operation.delete()) : null;
+    }
 }
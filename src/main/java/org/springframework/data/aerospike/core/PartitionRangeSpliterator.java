@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.query.KeyRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.aerospike.query.KeyRecordIterator;
+
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spliterator over the results of a query split into ranges of partitions. Splitting stops at the range size, each
+ * range is queried separately when it is first traversed, so a parallel stream runs the queries of different ranges
+ * and the mapping of their records concurrently.
+ * <p>
+ * Queries of ranges are started lazily and closed when they are exhausted or when the stream is closed.
+ */
+@Slf4j
+class PartitionRangeSpliterator<T> implements Spliterator<T> {
+
+    private final int rangeSize;
+    private final BiFunction<Integer, Integer, KeyRecordIterator> rangeQuery;
+    private final Function<KeyRecord, T> mapper;
+    private final Set<KeyRecordIterator> openIterators;
+    private int begin;
+    private int count;
+    private KeyRecordIterator iterator;
+
+    private PartitionRangeSpliterator(int begin, int count, int rangeSize,
+                                      BiFunction<Integer, Integer, KeyRecordIterator> rangeQuery,
+                                      Function<KeyRecord, T> mapper, Set<KeyRecordIterator> openIterators) {
+        this.begin = begin;
+        this.count = count;
+        this.rangeSize = rangeSize;
+        this.rangeQuery = rangeQuery;
+        this.mapper = mapper;
+        this.openIterators = openIterators;
+    }
+
+    /**
+     * Create a parallel stream of query results.
+     *
+     * @param partitions Total amount of partitions.
+     * @param ranges     Amount of partition ranges to query concurrently.
+     * @param rangeQuery Query of the records of a range, given the first partition and the amount of partitions.
+     * @param mapper     Mapping of records to the stream elements.
+     * @return A parallel stream that should be closed if it is not fully consumed.
+     */
+    static <T> Stream<T> stream(int partitions, int ranges,
+                                BiFunction<Integer, Integer, KeyRecordIterator> rangeQuery,
+                                Function<KeyRecord, T> mapper) {
+        int rangeSize = (partitions + ranges - 1) / ranges;
+        Set<KeyRecordIterator> openIterators = ConcurrentHashMap.newKeySet();
+        PartitionRangeSpliterator<T> spliterator = new PartitionRangeSpliterator<>(0, partitions, rangeSize,
+            rangeQuery, mapper, openIterators);
+        return StreamSupport.stream(spliterator, true)
+            .onClose(() -> openIterators.forEach(PartitionRangeSpliterator::close));
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (iterator == null) {
+            if (count == 0) {
+                return false;
+            }
+            open();
+        }
+        if (!iterator.hasNext()) {
+            release();
+            return false;
+        }
+        action.accept(mapper.apply(iterator.next()));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (tryAdvance(action)) {
+            // all elements are consumed by tryAdvance
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int rangesLeft = (count + rangeSize - 1) / rangeSize;
+        if (iterator != null || rangesLeft < 2) {
+            return null;
+        }
+        int prefixCount = rangesLeft / 2 * rangeSize;
+        PartitionRangeSpliterator<T> prefix = new PartitionRangeSpliterator<>(begin, prefixCount, rangeSize,
+            rangeQuery, mapper, openIterators);
+        begin += prefixCount;
+        count -= prefixCount;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator == null && count == 0 ? 0 : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+
+    private void open() {
+        iterator = rangeQuery.apply(begin, count);
+        openIterators.add(iterator);
+        count = 0;
+    }
+
+    private void release() {
+        openIterators.remove(iterator);
+        close(iterator);
+        iterator = null;
+    }
+
+    private static void close(KeyRecordIterator iterator) {
+        try {
+            iterator.close();
+        } catch (Exception e) {
+            log.error("Caught exception while closing query", e);
+        }
+    }
+}
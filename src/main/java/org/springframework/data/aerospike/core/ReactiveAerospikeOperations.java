@@ -19,8 +19,11 @@ import com.aerospike.client.cdt.CTX;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
+import org.reactivestreams.Publisher;
+import org.springframework.data.aerospike.core.model.BatchEntryResults;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
+import org.springframework.data.aerospike.core.model.SetStatistics;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
@@ -28,6 +31,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -63,6 +67,10 @@ public interface ReactiveAerospikeOperations {
      * {@link com.aerospike.client.policy.RecordExistsAction#UPDATE} policy combined with removing bins at first
      * (analogous to {@link com.aerospike.client.policy.RecordExistsAction#REPLACE}). This means that when such
      * record does not exist it will be created, otherwise updated - an "upsert".
+     * <p>
+     * The described behavior is the default
+     * {@link org.springframework.data.aerospike.mapping.WriteMode#DELETE_AND_PUT} write mode, it can be changed per
+     * entity using {@link org.springframework.data.aerospike.mapping.Document#writeMode()}.
      *
      * @param document The document to save. Must not be {@literal null}.
      * @return A Mono of the new saved document.
@@ -70,10 +78,30 @@ public interface ReactiveAerospikeOperations {
     <T> Mono<T> save(T document);
 
     /**
-     * Reactively insert each document of the given documents using single insert operations.
+     * Reactively save documents using batch write operations.
+     * <p>
+     * The incoming documents are windowed by the configured batch write size and time, each window is written as a
+     * single batch with the same semantics as {@link #save(Object)} per document. The amount of batches in flight is
+     * limited, documents are requested from the publisher only as batches complete.
+     *
+     * @param documents The publisher of documents to save. Must not be {@literal null}.
+     * @return A Flux of the saved documents in the order they were received. If some documents of a batch are not
+     * saved, the saved ones are emitted followed by an
+     * {@link org.springframework.data.aerospike.AerospikeBatchWriteException} error.
+     */
+    <T> Flux<T> saveAll(Publisher<T> documents);
+
+    /**
+     * Reactively insert documents using batch write operations with
+     * {@link com.aerospike.client.policy.RecordExistsAction#CREATE_ONLY} policy.
+     * <p>
+     * The documents are split by the configured batch write size, each chunk is written as a single batch. The amount
+     * of batches in flight is limited.
      *
      * @param documents The documents to insert. Must not be {@literal null}.
-     * @return A Flux of the new inserted documents.
+     * @return A Flux of the new inserted documents in the given order. If some documents of a batch are not inserted,
+     * the inserted ones are emitted followed by an
+     * {@link org.springframework.data.aerospike.AerospikeBatchWriteException} error.
      */
     <T> Flux<T> insertAll(Collection<? extends T> documents);
 
@@ -91,7 +119,8 @@ public interface ReactiveAerospikeOperations {
      * Reactively update document using {@link com.aerospike.client.policy.RecordExistsAction#UPDATE_ONLY} policy
      * combined with removing bins at first (analogous to
      * {@link com.aerospike.client.policy.RecordExistsAction#REPLACE_ONLY}) taking into consideration the version
-     * property of the document if it is present.
+     * property of the document if it is present. The behavior can be changed per entity using
+     * {@link org.springframework.data.aerospike.mapping.Document#writeMode()}.
      * <p>
      * If document has version property it will be updated with the server's version after successful operation.
      *
@@ -250,8 +279,9 @@ public interface ReactiveAerospikeOperations {
     <T, S> Mono<S> findById(Object id, Class<T> entityClass, Class<S> targetClass);
 
     /**
-     * Reactively find documents by providing multiple ids using a single batch read operation, set name will be
-     * determined by the given entityClass.
+     * Reactively find documents by providing multiple ids using batch read operations, set name will be determined by
+     * the given entityClass. The ids are split into batches of the configured batch read size, the batches are executed
+     * sequentially and the documents are emitted as each batch completes, in the order of the given ids.
      * <p>
      * Documents will be mapped to the given entityClass.
      *
@@ -263,8 +293,24 @@ public interface ReactiveAerospikeOperations {
     <T> Flux<T> findByIds(Iterable<?> ids, Class<T> entityClass);
 
     /**
-     * Reactively find documents by providing multiple ids using a single batch read operation, set name will be
-     * determined by the given entityClass.
+     * Reactively find documents by providing a publisher of ids using batch read operations, set name will be
+     * determined by the given entityClass. The ids are buffered into batches of the configured batch read size, the
+     * batches are executed sequentially and the documents are emitted as each batch completes, in the order of the
+     * given ids.
+     * <p>
+     * Documents will be mapped to the given entityClass.
+     *
+     * @param ids         The publisher of ids of the documents to find. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from and to map the documents to. Must not be
+     *                    {@literal null}.
+     * @return A Flux of matching documents, returned documents will be mapped to entityClass's type.
+     */
+    <T> Flux<T> findByIds(Publisher<?> ids, Class<T> entityClass);
+
+    /**
+     * Reactively find documents by providing multiple ids using batch read operations, set name will be determined by
+     * the given entityClass. Only the bins of the targetClass are read, the ids are split into batches of the
+     * configured batch read size and the documents are emitted in the order of the given ids.
      * <p>
      * Documents will be mapped to the given targetClass.
      *
@@ -287,6 +333,17 @@ public interface ReactiveAerospikeOperations {
      */
     Mono<GroupedEntities> findByIds(GroupedKeys groupedKeys);
 
+    /**
+     * Create a builder of a heterogeneous batch combining saves, inserts, deletes, operations and reads of documents
+     * of different entity classes into a single batch request.
+     * <p>
+     * Per-entry failures do not fail the batch, they are reported in the entries' results. Executing the builder
+     * returns a Mono of the entries' results in the order they were added.
+     *
+     * @return A new batch builder.
+     */
+    BatchBuilder<Mono<BatchEntryResults>> batch();
+
     /**
      * Reactively find documents in the given entityClass's set using a query and map them to the given class type.
      *
@@ -337,6 +394,8 @@ public interface ReactiveAerospikeOperations {
     /**
      * Reactively return the amount of documents in a query results. set name will be determined by the given
      * entityClass.
+     * <p>
+     * Only keys of the matching records are transferred, bins are not read.
      *
      * @param query       The query that provides the result set for count.
      * @param entityClass entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
@@ -344,6 +403,17 @@ public interface ReactiveAerospikeOperations {
      */
     <T> Mono<Long> count(Query query, Class<T> entityClass);
 
+    /**
+     * Reactively check if any document matches the query. Set name will be determined by the given entityClass.
+     * <p>
+     * Only keys are transferred and the query stops after the first matching record, no documents are converted.
+     *
+     * @param query       The query to check. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @return A Mono of whether any document matches the query.
+     */
+    <T> Mono<Boolean> exists(Query query, Class<T> entityClass);
+
     /**
      * Reactively return the amount of documents in the given Aerospike set.
      *
@@ -360,6 +430,23 @@ public interface ReactiveAerospikeOperations {
      */
     <T> Mono<Long> count(Class<T> entityClass);
 
+    /**
+     * Reactively return statistics of the given Aerospike set. Statistics are requested from all nodes in parallel and
+     * cached for a short time, see {@link ReactiveAerospikeTemplate#setSetStatisticsCacheTtl(java.time.Duration)}.
+     *
+     * @param setName The name of the set. Must not be {@literal null}.
+     * @return A Mono of the statistics of the given set.
+     */
+    Mono<SetStatistics> getSetStatistics(String setName);
+
+    /**
+     * Reactively return statistics of the given entityClass's Aerospike set, see {@link #getSetStatistics(String)}.
+     *
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @return A Mono of the statistics of the set (of the given entityClass).
+     */
+    <T> Mono<SetStatistics> getSetStatistics(Class<T> entityClass);
+
     /**
      * Reactively execute operation against underlying store.
      *
@@ -378,6 +465,16 @@ public interface ReactiveAerospikeOperations {
      */
     <T> Mono<Boolean> exists(Object id, Class<T> entityClass);
 
+    /**
+     * Reactively check if documents exist by providing multiple ids using a single batch exists operation, set name
+     * will be determined by the given entityClass.
+     *
+     * @param ids         The ids to check if exist. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @return A Mono of whether the documents exist, in the order of the given ids.
+     */
+    <T> Mono<List<Boolean>> existsByIds(Iterable<?> ids, Class<T> entityClass);
+
     /**
      * Reactively truncate/delete all the documents in the given entity's set.
      *
@@ -402,6 +499,18 @@ public interface ReactiveAerospikeOperations {
      */
     <T> Mono<Boolean> delete(T document);
 
+    /**
+     * Reactively delete documents by providing multiple ids using batch delete operations, set name will be determined
+     * by the given entityClass. The keys are sent in chunks of the configured batch write size.
+     * <p>
+     * Ids of documents that do not exist are ignored.
+     *
+     * @param ids         The ids of the documents to delete. Must not be {@literal null}.
+     * @param entityClass The class to extract the Aerospike set from. Must not be {@literal null}.
+     * @return A Mono that completes when all the documents are deleted.
+     */
+    <T> Mono<Void> deleteByIds(Iterable<?> ids, Class<T> entityClass);
+
     /**
      * Reactively create index by specified name in Aerospike.
      *
@@ -16,6 +16,7 @@
 package org.springframework.data.aerospike.core;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRecord;
 import com.aerospike.client.Bin;
 import com.aerospike.client.Info;
 import com.aerospike.client.Key;
@@ -25,6 +26,7 @@ import com.aerospike.client.ResultCode;
 import com.aerospike.client.Value;
 import com.aerospike.client.cdt.CTX;
 import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.BatchDeletePolicy;
 import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.Filter;
@@ -33,38 +35,48 @@ import com.aerospike.client.query.IndexType;
 import com.aerospike.client.query.KeyRecord;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.data.aerospike.AerospikeBatchWriteException;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.model.BatchEntryResults;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
+import org.springframework.data.aerospike.core.model.SetStatistics;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
+import org.springframework.data.aerospike.mapping.WriteMode;
 import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.query.QueryPolicyHints;
 import org.springframework.data.aerospike.query.ReactorQueryEngine;
 import org.springframework.data.aerospike.query.cache.ReactorIndexRefresher;
 import org.springframework.data.aerospike.repository.query.Query;
-import org.springframework.data.aerospike.utility.Utils;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.aerospike.client.ResultCode.KEY_NOT_FOUND_ERROR;
 import static java.util.Objects.nonNull;
 import static org.springframework.data.aerospike.core.OperationUtils.operations;
+import static org.springframework.data.aerospike.core.OperationUtils.precedingPutOperations;
 
 /**
  * Primary implementation of {@link ReactiveAerospikeOperations}.
@@ -80,6 +92,12 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     private final IAerospikeReactorClient reactorClient;
     private final ReactorQueryEngine queryEngine;
     private final ReactorIndexRefresher reactorIndexRefresher;
+    private final ReactorSetStatisticsService setStatisticsService;
+    private Duration batchWriteWindow = DEFAULT_BATCH_WRITE_WINDOW;
+    private int maxConcurrentBatchWrites = DEFAULT_MAX_CONCURRENT_BATCH_WRITES;
+
+    static final Duration DEFAULT_BATCH_WRITE_WINDOW = Duration.ofMillis(100);
+    static final int DEFAULT_MAX_CONCURRENT_BATCH_WRITES = 4;
 
     public ReactiveAerospikeTemplate(IAerospikeReactorClient reactorClient,
                                      String namespace,
@@ -92,6 +110,47 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         this.reactorClient = reactorClient;
         this.queryEngine = queryEngine;
         this.reactorIndexRefresher = reactorIndexRefresher;
+        this.setStatisticsService = new ReactorSetStatisticsService(reactorClient,
+            reactorClient.getInfoPolicyDefault(), namespace, DEFAULT_SET_STATISTICS_CACHE_TTL);
+    }
+
+    /**
+     * Set the maximum time to wait for a window of documents to fill up before it is written as a batch.
+     *
+     * @param batchWriteWindow positive duration of a batch write window.
+     */
+    public void setBatchWriteWindow(Duration batchWriteWindow) {
+        Assert.isTrue(batchWriteWindow != null && !batchWriteWindow.isNegative() && !batchWriteWindow.isZero(),
+            "Batch write window must be positive");
+        this.batchWriteWindow = batchWriteWindow;
+    }
+
+    public Duration getBatchWriteWindow() {
+        return batchWriteWindow;
+    }
+
+    /**
+     * Set how long set statistics used by {@link #count(String)} and {@link #getSetStatistics(String)} are cached,
+     * {@link Duration#ZERO} disables caching.
+     *
+     * @param setStatisticsCacheTtl non-negative TTL of cached set statistics.
+     */
+    public void setSetStatisticsCacheTtl(Duration setStatisticsCacheTtl) {
+        setStatisticsService.setCacheTtl(setStatisticsCacheTtl);
+    }
+
+    /**
+     * Set the maximum amount of batch write requests in flight for a single reactive bulk write.
+     *
+     * @param maxConcurrentBatchWrites positive amount of concurrent batch write requests.
+     */
+    public void setMaxConcurrentBatchWrites(int maxConcurrentBatchWrites) {
+        Assert.isTrue(maxConcurrentBatchWrites > 0, "Max concurrent batch writes must be greater than zero");
+        this.maxConcurrentBatchWrites = maxConcurrentBatchWrites;
+    }
+
+    public int getMaxConcurrentBatchWrites() {
+        return maxConcurrentBatchWrites;
     }
 
     @Override
@@ -100,27 +159,72 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
         AerospikeWriteData data = writeData(document);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+        WriteMode writeMode = entity.getWriteMode();
         if (entity.hasVersionProperty()) {
-            WritePolicy policy = expectGenerationCasAwareSavePolicy(data);
-            // mimicking REPLACE behavior by firstly deleting bins due to bin convergence feature restrictions
+            WritePolicy policy = expectGenerationCasAwareSavePolicy(data, writeMode);
             Operation[] operations = operations(data.getBinsAsArray(), Operation::put,
-                Operation.array(Operation.delete()));
+                precedingPutOperations(writeMode));
 
             return doPersistWithVersionAndHandleCasError(document, data, policy, operations);
         } else {
-            WritePolicy policy = ignoreGenerationSavePolicy(data, RecordExistsAction.UPDATE);
-            // mimicking REPLACE behavior by firstly deleting bins due to bin convergence feature restrictions
+            WritePolicy policy = ignoreGenerationSavePolicy(data, writeMode.getSaveAction());
             Operation[] operations = operations(data.getBinsAsArray(), Operation::put,
-                Operation.array(Operation.delete()));
+                precedingPutOperations(writeMode));
 
             return doPersistAndHandleError(document, data, policy, operations);
         }
     }
 
+    @Override
+    public <T> Flux<T> saveAll(Publisher<T> documents) {
+        Assert.notNull(documents, "Publisher of documents must not be null!");
+
+        return batchWrite(Flux.from(documents), this::getBatchWriteForSave, "save");
+    }
+
     @Override
     public <T> Flux<T> insertAll(Collection<? extends T> documents) {
-        return Flux.fromIterable(documents)
-            .flatMap(this::insert);
+        Assert.notNull(documents, "Documents must not be null!");
+
+        Flux<T> documentsFlux = Flux.fromIterable(documents);
+        return batchWrite(documentsFlux, this::getBatchWriteForInsert, "insert");
+    }
+
+    /**
+     * Window the documents by size and time and write each window as a single batch. At most
+     * {@link #getMaxConcurrentBatchWrites()} batches are in flight, next windows are requested from upstream only when
+     * in-flight batches complete. Documents are emitted in the order they were received.
+     */
+    private <T> Flux<T> batchWrite(Flux<T> documents, Function<T, BatchWriteData<T>> toBatchWriteData,
+                                   String commandName) {
+        return documents
+            .bufferTimeout(batchWriteSize, batchWriteWindow, true)
+            .flatMapSequential(window -> writeBatch(window, toBatchWriteData, commandName), maxConcurrentBatchWrites);
+    }
+
+    private <T> Flux<T> writeBatch(List<T> documents, Function<T, BatchWriteData<T>> toBatchWriteData,
+                                   String commandName) {
+        return Flux.defer(() -> {
+            List<BatchWriteData<T>> batchWriteDataList = documents.stream()
+                .map(toBatchWriteData)
+                .collect(Collectors.toList());
+            List<BatchRecord> batchRecords = batchWriteDataList.stream()
+                .map(BatchWriteData::getBatchRecord)
+                .collect(Collectors.toList());
+
+            // per-record errors do not fail the whole batch, they are available in the records' result codes
+            return reactorClient.operate(null, batchRecords)
+                .onErrorMap(this::translateError)
+                .flatMapMany(ignored -> {
+                    List<AerospikeBatchWriteException.Failure> failures =
+                        updateVersionAndCollectFailures(batchWriteDataList);
+                    Flux<T> written = Flux.fromIterable(batchWriteDataList)
+                        .filter(data -> data.getBatchRecord().resultCode == ResultCode.OK)
+                        .map(BatchWriteData::getDocument);
+                    return failures.isEmpty() ? written : written.concatWith(
+                        Flux.error(new AerospikeBatchWriteException("Errors during batch " + commandName, failures)));
+                });
+        });
     }
 
     @Override
@@ -147,25 +251,39 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         }
     }
 
+    @Override
+    public BatchBuilder<Mono<BatchEntryResults>> batch() {
+        return new BatchBuilder<>(this, entries -> Mono.defer(() -> {
+            if (entries.isEmpty()) {
+                return Mono.just(new BatchEntryResults(Collections.emptyList()));
+            }
+            List<BatchRecord> batchRecords = entries.stream()
+                .map(BatchBuilder.Entry::getBatchRecord)
+                .collect(Collectors.toList());
+
+            // per-record errors do not fail the whole batch, they are available in the records' result codes
+            return reactorClient.operate(null, batchRecords)
+                .onErrorMap(this::translateError)
+                .map(ignored -> toBatchResults(entries));
+        }));
+    }
+
     @Override
     public <T> Mono<T> update(T document) {
         Assert.notNull(document, "Document must not be null!");
 
         AerospikeWriteData data = writeData(document);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+        WriteMode writeMode = entity.getWriteMode();
         if (entity.hasVersionProperty()) {
-            WritePolicy policy = expectGenerationSavePolicy(data, RecordExistsAction.UPDATE_ONLY);
-
-            // mimicking REPLACE_ONLY behavior by firstly deleting bins due to bin convergence feature restrictions
+            WritePolicy policy = expectGenerationSavePolicy(data, writeMode.getUpdateAction());
             Operation[] operations = operations(data.getBinsAsArray(), Operation::put,
-                Operation.array(Operation.delete()), Operation.array(Operation.getHeader()));
+                precedingPutOperations(writeMode), Operation.array(Operation.getHeader()));
             return doPersistWithVersionAndHandleCasError(document, data, policy, operations);
         } else {
-            WritePolicy policy = ignoreGenerationSavePolicy(data, RecordExistsAction.UPDATE_ONLY);
-
-            // mimicking REPLACE_ONLY behavior by firstly deleting bins due to bin convergence feature restrictions
+            WritePolicy policy = ignoreGenerationSavePolicy(data, writeMode.getUpdateAction());
             Operation[] operations = operations(data.getBinsAsArray(), Operation::put,
-                Operation.array(Operation.delete()));
+                precedingPutOperations(writeMode));
             return doPersistAndHandleError(document, data, policy, operations);
         }
     }
@@ -366,30 +484,45 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(ids, "List of ids must not be null!");
         Assert.notNull(entityClass, "Type must not be null!");
 
-        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        return findByIds(Flux.fromIterable(ids), entityClass);
+    }
 
-        return Flux.fromIterable(ids)
-            .map(id -> getKey(id, entity))
-            .flatMap(reactorClient::get)
-            .filter(keyRecord -> nonNull(keyRecord.record))
-            .map(keyRecord -> mapToEntity(keyRecord.key, entityClass, keyRecord.record));
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Flux<T> findByIds(Publisher<?> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "Publisher of ids must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        return (Flux<T>) findByIdsUsingBatches(ids, entityClass, null);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T, S> Flux<S> findByIds(Iterable<?> ids, Class<T> entityClass, Class<S> targetClass) {
         Assert.notNull(ids, "List of ids must not be null!");
         Assert.notNull(entityClass, "Type must not be null!");
         Assert.notNull(targetClass, "Target type must not be null!");
 
-        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        return (Flux<S>) findByIdsUsingBatches(Flux.fromIterable(ids), entityClass, targetClass);
+    }
 
-        String[] binNames = getBinNamesFromTargetClass(targetClass);
+    private <T, S> Flux<?> findByIdsUsingBatches(Publisher<?> ids, Class<T> entityClass, Class<S> targetClass) {
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        Class<?> resultClass = targetClass != null ? targetClass : entityClass;
+        String[] binNames = targetClass != null ? getBinNamesFromTargetClass(targetClass) : null;
 
-        return Flux.fromIterable(ids)
+        // batches are executed one after another to keep the order of the ids and bound the in-flight commands
+        return Flux.from(ids)
             .map(id -> getKey(id, entity))
-            .flatMap(key -> reactorClient.get(null, key, binNames))
-            .filter(keyRecord -> nonNull(keyRecord.record))
-            .map(keyRecord -> mapToEntity(keyRecord.key, targetClass, keyRecord.record));
+            .buffer(batchReadSize)
+            .concatMap(keys -> binNames == null
+                ? reactorClient.get(null, keys.toArray(Key[]::new))
+                : reactorClient.get(null, keys.toArray(Key[]::new), binNames))
+            .concatMapIterable(keysRecords -> IntStream.range(0, keysRecords.keys.length)
+                .filter(index -> keysRecords.records[index] != null)
+                .mapToObj(index -> mapToEntity(keysRecords.keys[index], resultClass, keysRecords.records[index]))
+                .collect(Collectors.toList()))
+            .onErrorMap(this::translateError);
     }
 
     @Override
@@ -456,18 +589,24 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(query, "Query must not be null!");
         Assert.notNull(entityClass, "Type must not be null!");
 
-        return findAllRecordsUsingQuery(entityClass, query).count();
+        return findRecordsWithoutBinsUsingQuery(entityClass, query, 0).count()
+            .onErrorMap(this::translateError);
     }
 
     @Override
-    public Mono<Long> count(String setName) {
-        Assert.notNull(setName, "Set for count must not be null!");
+    public <T> Mono<Boolean> exists(Query query, Class<T> entityClass) {
+        Assert.notNull(query, "Query passed in to exist can't be null");
+        Assert.notNull(entityClass, "Type must not be null!");
 
-        try {
-            return Mono.fromCallable(() -> countSet(setName));
-        } catch (AerospikeException e) {
-            throw translateError(e);
-        }
+        // no maxRecords, with a limit below the amount of nodes the server is queried only on some of the nodes,
+        // cancelling after the first record stops the query instead
+        return findRecordsWithoutBinsUsingQuery(entityClass, query, 0).hasElements()
+            .onErrorMap(this::translateError);
+    }
+
+    @Override
+    public Mono<Long> count(String setName) {
+        return getSetStatistics(setName).map(SetStatistics::getObjects);
     }
 
     @Override
@@ -477,16 +616,19 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         return count(setName);
     }
 
-    private long countSet(String setName) {
-        Node[] nodes = reactorClient.getAerospikeClient().getNodes();
+    @Override
+    public Mono<SetStatistics> getSetStatistics(String setName) {
+        Assert.notNull(setName, "Set for count must not be null!");
 
-        int replicationFactor = Utils.getReplicationFactor(nodes, this.namespace);
+        return setStatisticsService.getSetStatistics(setName)
+            .onErrorMap(this::translateError);
+    }
 
-        long totalObjects = Arrays.stream(nodes)
-            .mapToLong(node -> Utils.getObjectsCount(node, this.namespace, setName))
-            .sum();
+    @Override
+    public <T> Mono<SetStatistics> getSetStatistics(Class<T> entityClass) {
+        Assert.notNull(entityClass, "Type must not be null!");
 
-        return (nodes.length > 1) ? (totalObjects / replicationFactor) : totalObjects;
+        return getSetStatistics(getSetName(entityClass));
     }
 
     @Override
@@ -510,6 +652,24 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
             .onErrorMap(this::translateError);
     }
 
+    @Override
+    public <T> Mono<List<Boolean>> existsByIds(Iterable<?> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "List of ids must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        Key[] keys = getKeys(ids, entity);
+        if (keys.length == 0) {
+            return Mono.just(Collections.emptyList());
+        }
+
+        return reactorClient.exists(null, keys)
+            .map(keysExists -> IntStream.range(0, keysExists.exists.length)
+                .mapToObj(index -> keysExists.exists[index])
+                .collect(Collectors.toList()))
+            .onErrorMap(this::translateError);
+    }
+
     @Override
     public <T> Mono<Void> delete(Class<T> entityClass) {
         Assert.notNull(entityClass, "Type must not be null!");
@@ -548,6 +708,22 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
             .onErrorMap(this::translateError);
     }
 
+    @Override
+    public <T> Mono<Void> deleteByIds(Iterable<?> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "List of ids must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        BatchDeletePolicy deletePolicy = ignoreGenerationBatchDeletePolicy();
+
+        return Flux.fromArray(getKeys(ids, entity))
+            .buffer(batchWriteSize)
+            .concatMap(chunk -> reactorClient.delete(null, deletePolicy, chunk.toArray(Key[]::new)))
+            .doOnNext(results -> checkForDeleteErrors(results.records))
+            .then()
+            .onErrorMap(this::translateError);
+    }
+
     @Override
     public <T> Mono<Void> createIndex(Class<T> entityClass, String indexName,
                                       String binName, IndexType indexType) {
@@ -699,7 +875,14 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     <T, S> Flux<?> findAllUsingQueryWithPostProcessing(Class<T> entityClass, Class<S> targetClass, Query query) {
         verifyUnsortedWithOffset(query.getSort(), query.getOffset());
         Qualifier qualifier = query.getCriteria().getCriteriaObject();
-        Flux<?> results = findAllUsingQuery(entityClass, targetClass, null, qualifier);
+        int topSize = query.hasRows() ? BoundedSort.sizeFor(query.getOffset(), query.getRows()) : -1;
+        if (query.getSort() != null && query.getSort().isSorted() && topSize > 0) {
+            return findTopUsingQuery(entityClass, targetClass, query.getSort(), Math.max(query.getOffset(), 0),
+                topSize, query.getPolicyHints(), null, qualifier);
+        }
+        // the limit is applied on the client, maxRecords of the server is approximate on a multi-node cluster and
+        // is only used when set explicitly in the policy hints
+        Flux<?> results = findAllUsingQuery(entityClass, targetClass, query.getPolicyHints(), null, qualifier);
         results = applyPostProcessingOnResults(results, query);
         return results;
     }
@@ -709,17 +892,39 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
                                                        long offset, long limit, Filter filter,
                                                        Qualifier... qualifiers) {
         verifyUnsortedWithOffset(sort, offset);
-        Flux<?> results = findAllUsingQuery(entityClass, targetClass, filter, qualifiers);
+        int topSize = BoundedSort.sizeFor(offset, limit);
+        if (sort != null && sort.isSorted() && topSize > 0) {
+            return findTopUsingQuery(entityClass, targetClass, sort, offset, topSize, null, filter, qualifiers);
+        }
+        Flux<?> results = findAllUsingQuery(entityClass, targetClass, null, filter, qualifiers);
         results = applyPostProcessingOnResults(results, sort, offset, limit);
         return results;
     }
 
-    private void verifyUnsortedWithOffset(Sort sort, long offset) {
-        if ((sort == null || sort.isUnsorted())
-            && offset > 0) {
-            throw new IllegalArgumentException("Unsorted query must not have offset value. " +
-                "For retrieving paged results use sorted query.");
+    /**
+     * Keep only the first offset + limit results while the query is consumed instead of sorting all of them. Records
+     * are compared on their bins when possible, so only the returned ones are converted.
+     */
+    @SuppressWarnings("unchecked")
+    private <T, S> Flux<?> findTopUsingQuery(Class<T> entityClass, Class<S> targetClass, Sort sort, long offset,
+                                             int topSize, QueryPolicyHints policyHints, Filter filter,
+                                             Qualifier... qualifiers) {
+        Class<?> documentClass = targetClass != null ? targetClass : entityClass;
+        Comparator<KeyRecord> recordComparator = getRecordComparator(documentClass, sort);
+        if (recordComparator != null) {
+            return findAllRecordsUsingQuery(entityClass, targetClass, policyHints, filter, qualifiers)
+                .collect(() -> new BoundedSort<>(recordComparator, topSize), BoundedSort::add)
+                .flatMapIterable(BoundedSort::toSortedList)
+                .skip(offset)
+                .map(keyRecord -> mapToEntity(keyRecord.key, documentClass, keyRecord.record));
         }
+        Flux<Object> documents = (Flux<Object>) findAllUsingQuery(entityClass, targetClass, policyHints, filter,
+            qualifiers);
+        Comparator<Object> comparator = getComparator(sort);
+        return documents
+            .collect(() -> new BoundedSort<>(comparator, topSize), BoundedSort::add)
+            .flatMapIterable(BoundedSort::toSortedList)
+            .skip(offset);
     }
 
     private <T> Flux<T> applyPostProcessingOnResults(Flux<T> results, Query query) {
@@ -755,11 +960,16 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
     <T, S> Flux<?> findAllUsingQuery(Class<T> entityClass, Class<S> targetClass, Filter filter,
                                      Qualifier... qualifiers) {
+        return findAllUsingQuery(entityClass, targetClass, null, filter, qualifiers);
+    }
+
+    <T, S> Flux<?> findAllUsingQuery(Class<T> entityClass, Class<S> targetClass, QueryPolicyHints policyHints,
+                                     Filter filter, Qualifier... qualifiers) {
         if (targetClass != null) {
-            return findAllRecordsUsingQuery(entityClass, targetClass, filter, qualifiers)
+            return findAllRecordsUsingQuery(entityClass, targetClass, policyHints, filter, qualifiers)
                 .map(keyRecord -> mapToEntity(keyRecord.key, targetClass, keyRecord.record));
         }
-        return findAllRecordsUsingQuery(entityClass, null, filter, qualifiers)
+        return findAllRecordsUsingQuery(entityClass, null, policyHints, filter, qualifiers)
             .map(keyRecord -> mapToEntity(keyRecord.key, entityClass, keyRecord.record));
     }
 
@@ -768,18 +978,27 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(entityClass, "Type must not be null!");
 
         Qualifier qualifier = query.getCriteria().getCriteriaObject();
-        return findAllRecordsUsingQuery(entityClass, null, null, qualifier);
+        return findAllRecordsUsingQuery(entityClass, null, query.getPolicyHints(), null, qualifier);
+    }
+
+    private <T> Flux<KeyRecord> findRecordsWithoutBinsUsingQuery(Class<T> entityClass, Query query,
+                                                                long maxRecords) {
+        Qualifier qualifier = query.getCriteria().getCriteriaObject();
+        return this.queryEngine.selectWithoutBins(this.namespace, getSetName(entityClass), maxRecords,
+            query.getPolicyHints(), null, qualifier);
     }
 
     <T, S> Flux<KeyRecord> findAllRecordsUsingQuery(Class<T> entityClass, Class<S> targetClass, Filter filter,
                                                     Qualifier... qualifiers) {
+        return findAllRecordsUsingQuery(entityClass, targetClass, null, filter, qualifiers);
+    }
+
+    <T, S> Flux<KeyRecord> findAllRecordsUsingQuery(Class<T> entityClass, Class<S> targetClass,
+                                                    QueryPolicyHints policyHints, Filter filter,
+                                                    Qualifier... qualifiers) {
         String setName = getSetName(entityClass);
+        String[] binNames = targetClass != null ? getBinNamesFromTargetClass(targetClass) : null;
 
-        if (targetClass != null) {
-            String[] binNames = getBinNamesFromTargetClass(targetClass);
-            return this.queryEngine.select(this.namespace, setName, binNames, filter, qualifiers);
-        } else {
-            return this.queryEngine.select(this.namespace, setName, filter, qualifiers);
-        }
+        return this.queryEngine.select(this.namespace, setName, binNames, policyHints, filter, qualifiers);
     }
 }
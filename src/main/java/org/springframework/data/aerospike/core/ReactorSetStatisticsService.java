@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.InfoPolicy;
+import com.aerospike.client.reactor.IAerospikeReactorClient;
+import org.springframework.data.aerospike.core.model.SetStatistics;
+import org.springframework.data.aerospike.utility.Utils;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Reactive counterpart of {@link SetStatisticsService}, info requests are sent to all nodes in parallel using the
+ * non-blocking info calls of the reactor client.
+ */
+public class ReactorSetStatisticsService {
+
+    private final IAerospikeReactorClient client;
+    private final InfoPolicy infoPolicy;
+    private final String namespace;
+    private final SetStatisticsCache cache;
+
+    public ReactorSetStatisticsService(IAerospikeReactorClient client, InfoPolicy infoPolicy, String namespace,
+                                       Duration cacheTtl) {
+        Assert.notNull(client, "Aerospike reactor client must not be null!");
+        Assert.notNull(namespace, "Namespace must not be null!");
+
+        this.client = client;
+        this.infoPolicy = infoPolicy;
+        this.namespace = namespace;
+        this.cache = new SetStatisticsCache(cacheTtl);
+    }
+
+    /**
+     * Get statistics of the given set, a missing set has zero objects.
+     *
+     * @param setName The name of the set. Must not be {@literal null}.
+     * @return A Mono of the statistics of the set, cached for up to the configured TTL.
+     */
+    public Mono<SetStatistics> getSetStatistics(String setName) {
+        Assert.notNull(setName, "Set name must not be null!");
+
+        return Mono.defer(() -> {
+            SetStatistics cached = cache.getStatistics(setName);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            Node[] nodes = client.getAerospikeClient().getNodes();
+            String command = SetStatisticsCache.setInfoCommand(namespace, setName);
+            return getReplicationFactor()
+                .zipWith(Flux.fromArray(nodes)
+                    .flatMapSequential(node -> client.info(infoPolicy, node, command))
+                    .collectList())
+                .map(tuple -> SetStatisticsCache.aggregate(namespace, setName, tuple.getT1(), tuple.getT2()))
+                .doOnNext(cache::putStatistics);
+        });
+    }
+
+    /**
+     * Set how long statistics are cached, {@link Duration#ZERO} disables caching.
+     *
+     * @param cacheTtl The TTL of cached statistics. Must not be {@literal null} or negative.
+     */
+    public void setCacheTtl(Duration cacheTtl) {
+        cache.setTtl(cacheTtl);
+    }
+
+    /**
+     * Drop all cached statistics.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    private Mono<Integer> getReplicationFactor() {
+        Integer cached = cache.getReplicationFactor();
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        // null node means a random node
+        return client.info(infoPolicy, null, SetStatisticsCache.namespaceConfigCommand(namespace))
+            .map(response -> Utils.parseReplicationFactor(namespace, response))
+            .doOnNext(cache::putReplicationFactor);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import lombok.Value;
+import org.springframework.data.aerospike.core.model.SetStatistics;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Set statistics and the replication factor of a namespace cached for a short time, shared by
+ * {@link SetStatisticsService} and {@link ReactorSetStatisticsService} together with parsing of the info responses.
+ */
+class SetStatisticsCache {
+
+    private final Map<String, Cached<SetStatistics>> statistics = new ConcurrentHashMap<>();
+    private volatile Cached<Integer> replicationFactor;
+    private volatile long ttlNanos;
+
+    SetStatisticsCache(Duration ttl) {
+        setTtl(ttl);
+    }
+
+    static String setInfoCommand(String namespace, String setName) {
+        return "sets/" + namespace + "/" + setName;
+    }
+
+    static String namespaceConfigCommand(String namespace) {
+        return "get-config:context=namespace;id=" + namespace;
+    }
+
+    /**
+     * Sum the per-node responses of {@link #setInfoCommand(String, String)}.
+     */
+    static SetStatistics aggregate(String namespace, String setName, int replicationFactor, List<String> responses) {
+        long objects = 0;
+        long tombstones = 0;
+        long memoryDataBytes = 0;
+        long deviceDataBytes = 0;
+        for (String response : responses) {
+            Map<String, String> properties = parseProperties(response);
+            objects += getLong(properties, "objects");
+            tombstones += getLong(properties, "tombstones");
+            memoryDataBytes += getLong(properties, "memory_data_bytes");
+            deviceDataBytes += getLong(properties, "device_data_bytes");
+        }
+        // a record has at most one copy per node
+        int copies = Math.max(1, Math.min(replicationFactor, responses.size()));
+        return new SetStatistics(namespace, setName, objects / copies, tombstones / copies, memoryDataBytes,
+            deviceDataBytes);
+    }
+
+    void setTtl(Duration ttl) {
+        Assert.isTrue(ttl != null && !ttl.isNegative(), "Set statistics cache TTL must not be negative");
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    SetStatistics getStatistics(String setName) {
+        Cached<SetStatistics> cached = statistics.get(setName);
+        return isFresh(cached) ? cached.getValue() : null;
+    }
+
+    void putStatistics(SetStatistics setStatistics) {
+        if (ttlNanos > 0) {
+            statistics.put(setStatistics.getSetName(), new Cached<>(setStatistics, System.nanoTime()));
+        }
+    }
+
+    Integer getReplicationFactor() {
+        Cached<Integer> cached = replicationFactor;
+        return isFresh(cached) ? cached.getValue() : null;
+    }
+
+    void putReplicationFactor(int value) {
+        if (ttlNanos > 0) {
+            replicationFactor = new Cached<>(value, System.nanoTime());
+        }
+    }
+
+    void clear() {
+        statistics.clear();
+        replicationFactor = null;
+    }
+
+    private boolean isFresh(Cached<?> cached) {
+        return cached != null && System.nanoTime() - cached.getTimestamp() < ttlNanos;
+    }
+
+    private static Map<String, String> parseProperties(String response) {
+        Map<String, String> properties = new HashMap<>();
+        if (response == null) {
+            return properties;
+        }
+        // a set's properties are separated by colons and terminated by a semicolon
+        for (String pair : response.trim().replace(";", "").split(":")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                properties.put(pair.substring(0, separator), pair.substring(separator + 1));
+            }
+        }
+        return properties;
+    }
+
+    private static long getLong(Map<String, String> properties, String name) {
+        String value = properties.get(name);
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Failed to parse value: " + value + " for property: " + name, e);
+        }
+    }
+
+    @Value
+    private static class Cached<T> {
+
+        T value;
+        long timestamp;
+    }
+}
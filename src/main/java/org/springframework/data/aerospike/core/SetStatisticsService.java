@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Info;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.InfoPolicy;
+import org.springframework.data.aerospike.core.model.SetStatistics;
+import org.springframework.data.aerospike.utility.Utils;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides statistics of the sets of a namespace. Info requests are sent to all nodes in parallel, the statistics and
+ * the replication factor of the namespace are cached for the configured TTL.
+ * <p>
+ * Requests are executed by a pool of daemon threads owned by the service, the pool is shut down on {@link #close()}.
+ */
+public class SetStatisticsService implements AutoCloseable {
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final IAerospikeClient client;
+    private final InfoPolicy infoPolicy;
+    private final String namespace;
+    private final SetStatisticsCache cache;
+    private final ExecutorService executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+        IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+        Thread thread = new Thread(runnable, "aerospike-set-statistics");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SetStatisticsService(IAerospikeClient client, InfoPolicy infoPolicy, String namespace,
+                                Duration cacheTtl) {
+        Assert.notNull(client, "Aerospike client must not be null!");
+        Assert.notNull(namespace, "Namespace must not be null!");
+
+        this.client = client;
+        this.infoPolicy = infoPolicy;
+        this.namespace = namespace;
+        this.cache = new SetStatisticsCache(cacheTtl);
+    }
+
+    /**
+     * Get statistics of the given set, a missing set has zero objects.
+     *
+     * @param setName The name of the set. Must not be {@literal null}.
+     * @return statistics of the set, cached for up to the configured TTL.
+     */
+    public SetStatistics getSetStatistics(String setName) {
+        Assert.notNull(setName, "Set name must not be null!");
+
+        SetStatistics cached = cache.getStatistics(setName);
+        if (cached != null) {
+            return cached;
+        }
+        Node[] nodes = client.getNodes();
+        int replicationFactor = getReplicationFactor(nodes);
+        String command = SetStatisticsCache.setInfoCommand(namespace, setName);
+
+        List<CompletableFuture<String>> responses = new ArrayList<>(nodes.length);
+        for (Node node : nodes) {
+            responses.add(CompletableFuture.supplyAsync(() -> Info.request(infoPolicy, node, command), executor));
+        }
+        List<String> results = new ArrayList<>(nodes.length);
+        for (CompletableFuture<String> response : responses) {
+            results.add(await(response));
+        }
+
+        SetStatistics setStatistics = SetStatisticsCache.aggregate(namespace, setName, replicationFactor, results);
+        cache.putStatistics(setStatistics);
+        return setStatistics;
+    }
+
+    /**
+     * Set how long statistics are cached, {@link Duration#ZERO} disables caching.
+     *
+     * @param cacheTtl The TTL of cached statistics. Must not be {@literal null} or negative.
+     */
+    public void setCacheTtl(Duration cacheTtl) {
+        cache.setTtl(cacheTtl);
+    }
+
+    /**
+     * Drop all cached statistics.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * Shut down the threads of the service, requests in progress are completed, later requests are rejected.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private int getReplicationFactor(Node[] nodes) {
+        Integer cached = cache.getReplicationFactor();
+        if (cached != null) {
+            return cached;
+        }
+        int replicationFactor = Utils.getReplicationFactor(nodes, namespace);
+        cache.putReplicationFactor(replicationFactor);
+        return replicationFactor;
+    }
+
+    private static String await(CompletableFuture<String> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof AerospikeException aerospikeException) {
+                throw aerospikeException;
+            }
+            throw e;
+        }
+    }
+}
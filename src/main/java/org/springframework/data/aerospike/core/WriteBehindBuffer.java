@@ -0,0 +1,253 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.aerospike.AerospikeBatchWriteException;
+import org.springframework.util.Assert;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind buffer for entities marked with
+ * {@link org.springframework.data.aerospike.mapping.Document#writeBehind()}.
+ * <p>
+ * Keeps only the latest pending document per key and writes the pending documents using
+ * {@link AerospikeOperations#saveAll(Iterable)} every flush interval, or earlier when the amount of pending keys
+ * reaches the flush size. Remaining documents are flushed on {@link #close()}, failures are reported to the
+ * {@link WriteBehindFailureHandler}. Deleting a document must {@link #evict(Key)} its pending write first, otherwise
+ * the next flush would write the deleted document again.
+ * <p>
+ * Buffered documents are written without a generation check, so the template saves documents of versioned entities
+ * directly.
+ */
+@Slf4j
+public class WriteBehindBuffer implements Closeable {
+
+    private final AerospikeOperations operations;
+    private final Duration flushInterval;
+    private final int flushSize;
+    private final WriteBehindFailureHandler failureHandler;
+    private final Map<Key, Object> pending = new ConcurrentHashMap<>();
+    // keys of the documents taken by the running flush, released once their write finished
+    private final Map<Key, CountDownLatch> inFlight = new ConcurrentHashMap<>();
+    private final Lock flushLock = new ReentrantLock();
+    // guards the closed state together with the scheduler, so offers never submit to a shut down scheduler
+    private final Lock stateLock = new ReentrantLock();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    // the thread is started with the first offered document
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "aerospike-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean closed;
+
+    public WriteBehindBuffer(AerospikeOperations operations, Duration flushInterval, int flushSize,
+                             WriteBehindFailureHandler failureHandler) {
+        Assert.notNull(operations, "Aerospike operations must not be null!");
+        Assert.isTrue(flushInterval != null && !flushInterval.isNegative() && !flushInterval.isZero(),
+            "Flush interval must be positive");
+        Assert.isTrue(flushSize > 0, "Flush size must be greater than zero");
+        Assert.notNull(failureHandler, "Failure handler must not be null!");
+
+        this.operations = operations;
+        this.flushInterval = flushInterval;
+        this.flushSize = flushSize;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Buffer the document replacing a pending document with the same key.
+     *
+     * @param key      Key of the document.
+     * @param document The document to write.
+     * @return false if the buffer is closed and the document must be written directly.
+     */
+    public boolean offer(Key key, Object document) {
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(document, "Document must not be null!");
+
+        stateLock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            startIfNecessary();
+            pending.put(key, document);
+            if (pending.size() >= flushSize && flushScheduled.compareAndSet(false, true)) {
+                scheduler.execute(() -> {
+                    flushScheduled.set(false);
+                    flush();
+                });
+            }
+        } finally {
+            stateLock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Drop the pending document of the key, waits only if the document of this key is being written by a flush, so
+     * that it cannot reach the server after the caller deletes the record.
+     *
+     * @param key Key of the document.
+     */
+    public void evict(Key key) {
+        Assert.notNull(key, "Key must not be null!");
+
+        pending.remove(key);
+        awaitWritten(inFlight.get(key));
+    }
+
+    /**
+     * Drop the pending documents of a set, e.g. before the set is truncated, see {@link #evict(Key)}.
+     *
+     * @param namespace Namespace of the set.
+     * @param setName   Name of the set.
+     */
+    public void evictAll(String namespace, String setName) {
+        pending.keySet().removeIf(key -> isOfSet(key, namespace, setName));
+        inFlight.entrySet().stream()
+            .filter(entry -> isOfSet(entry.getKey(), namespace, setName))
+            .map(Map.Entry::getValue)
+            .distinct()
+            .forEach(this::awaitWritten);
+    }
+
+    /**
+     * @return amount of keys waiting to be written.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Write all pending documents in the calling thread.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            CountDownLatch written = new CountDownLatch(1);
+            List<Key> keys = new ArrayList<>(pending.size());
+            List<Object> documents = new ArrayList<>(pending.size());
+            for (Key key : pending.keySet()) {
+                // marked before it is taken, so an eviction either removes the document or waits for its write
+                inFlight.put(key, written);
+                Object document = pending.remove(key);
+                if (document != null) {
+                    keys.add(key);
+                    documents.add(document);
+                } else {
+                    inFlight.remove(key, written);
+                }
+            }
+            try {
+                if (!documents.isEmpty()) {
+                    write(documents);
+                }
+            } finally {
+                keys.forEach(key -> inFlight.remove(key, written));
+                written.countDown();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Stop the scheduled flushes and write the pending documents. Documents offered afterwards are rejected.
+     */
+    @Override
+    public void close() {
+        stateLock.lock();
+        try {
+            closed = true;
+            scheduler.shutdown();
+        } finally {
+            stateLock.unlock();
+        }
+        try {
+            if (!scheduler.awaitTermination(flushInterval.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Scheduled write-behind flush did not finish in {}", flushInterval);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void write(List<Object> documents) {
+        try {
+            operations.saveAll(documents);
+        } catch (AerospikeBatchWriteException e) {
+            List<Object> failed = e.getFailures().stream()
+                .map(AerospikeBatchWriteException.Failure::getDocument)
+                .collect(Collectors.toList());
+            notifyFailure(failed, e);
+        } catch (RuntimeException e) {
+            notifyFailure(documents, e);
+        }
+    }
+
+    private void notifyFailure(List<Object> documents, RuntimeException exception) {
+        try {
+            failureHandler.onFailure(documents, exception);
+        } catch (RuntimeException e) {
+            log.error("Write-behind failure handler failed", e);
+        }
+    }
+
+    private void awaitWritten(CountDownLatch written) {
+        if (written == null) {
+            return;
+        }
+        try {
+            written.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a write-behind flush", e);
+        }
+    }
+
+    private static boolean isOfSet(Key key, String namespace, String setName) {
+        return Objects.equals(key.namespace, namespace) && Objects.equals(key.setName, setName);
+    }
+
+    private void startIfNecessary() {
+        if (started.get() || !started.compareAndSet(false, true)) {
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+}
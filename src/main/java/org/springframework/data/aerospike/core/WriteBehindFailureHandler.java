@@ -0,0 +1,32 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import java.util.Collection;
+
+/**
+ * Callback notified when documents buffered by {@link WriteBehindBuffer} could not be written.
+ */
+@FunctionalInterface
+public interface WriteBehindFailureHandler {
+
+    /**
+     * @param documents documents that were not written.
+     * @param exception translated exception, {@link org.springframework.data.aerospike.AerospikeBatchWriteException}
+     *                  with per-document causes when only some records of the batch failed.
+     */
+    void onFailure(Collection<?> documents, RuntimeException exception);
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core.model;
+
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.PartitionStatus;
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Opaque position of a scroll over query results, holds the {@link PartitionFilter} state (the last digest read from
+ * each partition and whether the partition is complete) so that the next window resumes on the server where the
+ * previous one stopped. Completed partitions are not queried again, only their done marker is kept, so the size of a
+ * position depends on the amount of partitions that are still in progress.
+ * <p>
+ * A position can be passed between requests as a string, see {@link #serialize()} and {@link #deserialize(String)}.
+ * Positions are immutable, scrolling from the same position several times returns the same window as long as the data
+ * does not change.
+ */
+public final class AerospikeScrollPosition {
+
+    private static final AerospikeScrollPosition INITIAL = new AerospikeScrollPosition(null);
+    private static final byte FORMAT_VERSION = 1;
+    private static final int PARTITIONS = 4096;
+    private static final int DIGEST_SIZE = 20;
+    private static final int RETRY = 1;
+    private static final int HAS_BVAL = 1 << 1;
+    private static final int HAS_DIGEST = 1 << 2;
+
+    // compressed state of the partitions, null for the initial position
+    private final byte[] state;
+
+    private AerospikeScrollPosition(byte[] state) {
+        this.state = state;
+    }
+
+    /**
+     * @return position before the first window.
+     */
+    public static AerospikeScrollPosition initial() {
+        return INITIAL;
+    }
+
+    /**
+     * Create a position from the state of a partition filter after a query.
+     *
+     * @param partitionFilter The partition filter the query was run with. Must not be {@literal null}.
+     * @return position to resume the query from.
+     */
+    public static AerospikeScrollPosition of(PartitionFilter partitionFilter) {
+        Assert.notNull(partitionFilter, "Partition filter must not be null!");
+        PartitionStatus[] partitions = partitionFilter.getPartitions();
+        if (partitions == null || partitions.length == 0) {
+            return INITIAL;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            output.writeByte(FORMAT_VERSION);
+            output.writeShort(partitions[0].id);
+            output.writeShort(partitions.length);
+            for (PartitionStatus partition : partitions) {
+                // the cursor of a completed partition (retry is false) is not needed to resume the query
+                boolean hasBval = partition.retry && partition.bval != 0;
+                boolean hasDigest = partition.retry && partition.digest != null;
+                output.writeByte((partition.retry ? RETRY : 0) | (hasBval ? HAS_BVAL : 0) |
+                    (hasDigest ? HAS_DIGEST : 0));
+                if (hasBval) {
+                    output.writeLong(partition.bval);
+                }
+                if (hasDigest) {
+                    output.write(partition.digest);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot write scroll position", e);
+        }
+        return new AerospikeScrollPosition(bytes.toByteArray());
+    }
+
+    /**
+     * Restore a position from the result of {@link #serialize()}.
+     *
+     * @param position Serialized position. Must not be {@literal null}.
+     * @return the restored position.
+     * @throws IllegalArgumentException if the position is malformed.
+     */
+    public static AerospikeScrollPosition deserialize(String position) {
+        Assert.notNull(position, "Position must not be null!");
+
+        if (position.isEmpty()) {
+            return INITIAL;
+        }
+        try {
+            AerospikeScrollPosition result = new AerospikeScrollPosition(Base64.getUrlDecoder().decode(position));
+            result.getPartitionFilter(); // validate
+            return result;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed scroll position", e);
+        }
+    }
+
+    public boolean isInitial() {
+        return state == null;
+    }
+
+    /**
+     * @return a new partition filter to run the query from this position with.
+     * @throws IllegalArgumentException if the position is malformed.
+     */
+    public PartitionFilter getPartitionFilter() {
+        if (state == null) {
+            return PartitionFilter.all();
+        }
+        try (DataInputStream input = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(state)))) {
+            if (input.readByte() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported scroll position format");
+            }
+            int begin = input.readUnsignedShort();
+            int count = input.readUnsignedShort();
+            if (count == 0 || begin + count > PARTITIONS) {
+                throw new IllegalArgumentException("Invalid partitions of scroll position: " + begin + "+" + count);
+            }
+            PartitionStatus[] partitions = new PartitionStatus[count];
+            for (int i = 0; i < count; i++) {
+                PartitionStatus partition = new PartitionStatus(begin + i);
+                int flags = input.readUnsignedByte();
+                partition.retry = (flags & RETRY) != 0;
+                partition.bval = (flags & HAS_BVAL) != 0 ? input.readLong() : 0;
+                if ((flags & HAS_DIGEST) != 0) {
+                    partition.digest = new byte[DIGEST_SIZE];
+                    input.readFully(partition.digest);
+                }
+                partitions[i] = partition;
+            }
+            PartitionFilter partitionFilter = PartitionFilter.range(begin, count);
+            partitionFilter.setPartitions(partitions);
+            return partitionFilter;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed scroll position", e);
+        }
+    }
+
+    /**
+     * @return URL-safe string form of this position, empty for the initial position.
+     */
+    public String serialize() {
+        return state == null ? "" : Base64.getUrlEncoder().withoutPadding().encodeToString(state);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof AerospikeScrollPosition position && Arrays.equals(state, position.state);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(state);
+    }
+
+    @Override
+    public String toString() {
+        return isInitial() ? "AerospikeScrollPosition(initial)" : "AerospikeScrollPosition(" + serialize() + ")";
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A window of scrolled query results, see {@link org.springframework.data.aerospike.core.AerospikeOperations#scroll}.
+ * <p>
+ * A window can contain fewer documents than requested even if there are more, only {@link #hasNext()} tells whether
+ * the scroll is complete.
+ */
+@Value
+public class AerospikeWindow<T> {
+
+    List<T> content;
+    @Getter(AccessLevel.NONE)
+    boolean hasNext;
+    AerospikeScrollPosition positionAfterLast;
+
+    /**
+     * @return whether the next window can contain more documents, scroll from {@link #getPositionAfterLast()}.
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+
+    public int size() {
+        return content.size();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core.model;
+
+import com.aerospike.client.Key;
+import lombok.Value;
+
+/**
+ * Result of a single entry of a {@link org.springframework.data.aerospike.core.BatchBuilder batch}.
+ * <p>
+ * The value depends on the entry type:
+ * <ul>
+ *     <li>{@link EntryType#SAVE} and {@link EntryType#INSERT} - the written document with updated version</li>
+ *     <li>{@link EntryType#DELETE} - {@link Boolean} whether the record existed</li>
+ *     <li>{@link EntryType#OPERATE} - {@link com.aerospike.client.Record} returned by the operations</li>
+ *     <li>{@link EntryType#READ} - the found document or null if it does not exist</li>
+ * </ul>
+ * Value is null if the entry failed.
+ */
+@Value
+public class BatchEntryResult<T> {
+
+    EntryType type;
+    Key key;
+    T value;
+    int resultCode;
+    RuntimeException exception;
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    public enum EntryType {
+        SAVE, INSERT, DELETE, OPERATE, READ
+    }
+}
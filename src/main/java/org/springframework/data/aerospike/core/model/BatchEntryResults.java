@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Results of a {@link org.springframework.data.aerospike.core.BatchBuilder batch} in the order the entries were
+ * added.
+ */
+public class BatchEntryResults {
+
+    private final List<BatchEntryResult<?>> results;
+
+    public BatchEntryResults(List<BatchEntryResult<?>> results) {
+        this.results = Collections.unmodifiableList(results);
+    }
+
+    public List<BatchEntryResult<?>> getResults() {
+        return results;
+    }
+
+    /**
+     * @param index     Index of the entry in the batch.
+     * @param valueType Expected type of the entry's value.
+     * @return Result of the entry.
+     * @throws IllegalArgumentException if the entry's value is not of the given type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BatchEntryResult<T> get(int index, Class<T> valueType) {
+        BatchEntryResult<?> result = results.get(index);
+        Object value = result.getValue();
+        if (value != null && !valueType.isInstance(value)) {
+            throw new IllegalArgumentException(String.format("Value of batch entry %d is of type %s, not %s", index,
+                value.getClass().getName(), valueType.getName()));
+        }
+        return (BatchEntryResult<T>) result;
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * @return true if all the entries succeeded.
+     */
+    public boolean isSuccess() {
+        return results.stream().allMatch(BatchEntryResult::isSuccess);
+    }
+}
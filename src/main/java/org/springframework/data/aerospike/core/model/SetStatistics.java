@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core.model;
+
+import lombok.Value;
+
+/**
+ * Statistics of an Aerospike set summed over all nodes of the cluster.
+ * <p>
+ * Object and tombstone counts are divided by the effective replication factor and so count each record once, byte
+ * counts include all replicas. Byte counts are 0 if they are not reported by the server version or storage engine.
+ */
+@Value
+public class SetStatistics {
+
+    String namespace;
+    String setName;
+    long objects;
+    long tombstones;
+    long memoryDataBytes;
+    long deviceDataBytes;
+}
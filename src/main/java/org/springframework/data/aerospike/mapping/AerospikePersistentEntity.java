@@ -41,6 +41,21 @@ public interface AerospikePersistentEntity<T> extends PersistentEntity<T, Aerosp
      */
     boolean isTouchOnRead();
 
+    /**
+     * @return value of an optional {@link Document#writeBehind()} flag
+     */
+    boolean isWriteBehind();
+
+    /**
+     * @return value of an optional {@link Document#dirtyTracking()} flag
+     */
+    boolean isDirtyTracking();
+
+    /**
+     * @return value of an optional {@link Document#writeMode()} attribute
+     */
+    WriteMode getWriteMode();
+
     /**
      * @return expiration property
      */
@@ -37,6 +37,9 @@ public class BasicAerospikePersistentEntity<T>
     private final Lazy<String> setName;
     private final Lazy<Integer> expiration;
     private final Lazy<Boolean> isTouchOnRead;
+    private final Lazy<Boolean> isWriteBehind;
+    private final Lazy<Boolean> isDirtyTracking;
+    private final Lazy<WriteMode> writeMode;
     private AerospikePersistentProperty expirationProperty;
     private Environment environment;
 
@@ -70,6 +73,18 @@ public class BasicAerospikePersistentEntity<T>
             Document annotation = getType().getAnnotation(Document.class);
             return annotation != null && annotation.touchOnRead();
         });
+        this.isWriteBehind = Lazy.of(() -> {
+            Document annotation = getType().getAnnotation(Document.class);
+            return annotation != null && annotation.writeBehind();
+        });
+        this.isDirtyTracking = Lazy.of(() -> {
+            Document annotation = getType().getAnnotation(Document.class);
+            return annotation != null && annotation.dirtyTracking();
+        });
+        this.writeMode = Lazy.of(() -> {
+            Document annotation = getType().getAnnotation(Document.class);
+            return annotation != null ? annotation.writeMode() : WriteMode.DELETE_AND_PUT;
+        });
     }
 
     @Override
@@ -103,6 +118,21 @@ public class BasicAerospikePersistentEntity<T>
         return isTouchOnRead.get();
     }
 
+    @Override
+    public boolean isWriteBehind() {
+        return isWriteBehind.get();
+    }
+
+    @Override
+    public boolean isDirtyTracking() {
+        return isDirtyTracking.get();
+    }
+
+    @Override
+    public WriteMode getWriteMode() {
+        return writeMode.get();
+    }
+
     @Override
     public AerospikePersistentProperty getExpirationProperty() {
         return expirationProperty;
@@ -79,4 +79,28 @@ public @interface Document {
      * An optional flag indicating whether the expiration timer should be reset whenever the document is directly read.
      */
     boolean touchOnRead() default false;
+
+    /**
+     * An optional flag indicating whether documents saved via
+     * {@link org.springframework.data.aerospike.core.AerospikeTemplate#save(Object)} should be buffered and written
+     * behind in batches by the template's {@link org.springframework.data.aerospike.core.WriteBehindBuffer}. Only the
+     * latest pending state per key is written. Ignored if no buffer is configured and for entities with a version
+     * property, those are saved directly to keep the generation check.
+     */
+    boolean writeBehind() default false;
+
+    /**
+     * An optional flag enabling dirty tracking of documents read or written by
+     * {@link org.springframework.data.aerospike.core.AerospikeTemplate}. Saving or updating such a document instance
+     * puts only the bins changed since it was last read or written. When nothing changed the record is only touched if
+     * the version must be checked or the document has a positive expiration to refresh, otherwise nothing is sent, so
+     * a record relying on the namespace default TTL keeps its expiration. Changes made to the record by other writers
+     * are not detected unless the entity has a version property.
+     */
+    boolean dirtyTracking() default false;
+
+    /**
+     * An optional strategy for saving and updating whole documents, default is {@link WriteMode#DELETE_AND_PUT}.
+     */
+    WriteMode writeMode() default WriteMode.DELETE_AND_PUT;
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.mapping;
+
+import com.aerospike.client.policy.RecordExistsAction;
+
+/**
+ * Strategy used when saving or updating a whole document, configured by {@link Document#writeMode()}.
+ */
+public enum WriteMode {
+
+    /**
+     * Delete all bins of the record and put the document's bins in a single operation, mimicking
+     * {@link RecordExistsAction#REPLACE} behavior. Works regardless of the namespace configuration, but every write
+     * is a read-modify-write on the server.
+     */
+    DELETE_AND_PUT(RecordExistsAction.UPDATE, RecordExistsAction.UPDATE_ONLY, true),
+
+    /**
+     * Replace the record using {@link RecordExistsAction#REPLACE} and {@link RecordExistsAction#REPLACE_ONLY}. Not
+     * allowed by the server when bin convergence is enabled for the namespace.
+     */
+    REPLACE(RecordExistsAction.REPLACE, RecordExistsAction.REPLACE_ONLY, false),
+
+    /**
+     * Merge the document's bins into the record using {@link RecordExistsAction#UPDATE} and
+     * {@link RecordExistsAction#UPDATE_ONLY}. Bins that are not written (e.g. fields set to null) are kept, so it is
+     * suitable for append-only schemas.
+     */
+    UPDATE(RecordExistsAction.UPDATE, RecordExistsAction.UPDATE_ONLY, false);
+
+    private final RecordExistsAction saveAction;
+    private final RecordExistsAction updateAction;
+    private final boolean deleteBinsFirst;
+
+    WriteMode(RecordExistsAction saveAction, RecordExistsAction updateAction, boolean deleteBinsFirst) {
+        this.saveAction = saveAction;
+        this.updateAction = updateAction;
+        this.deleteBinsFirst = deleteBinsFirst;
+    }
+
+    /**
+     * @return record exists action for saving a document that might not exist yet.
+     */
+    public RecordExistsAction getSaveAction() {
+        return saveAction;
+    }
+
+    /**
+     * @return record exists action for writing a document that must already exist.
+     */
+    public RecordExistsAction getUpdateAction() {
+        return updateAction;
+    }
+
+    /**
+     * @return whether all bins are deleted before putting the document's bins.
+     */
+    public boolean isDeleteBinsFirst() {
+        return deleteBinsFirst;
+    }
+}
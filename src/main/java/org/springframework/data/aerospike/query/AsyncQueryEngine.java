@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.listener.RecordListener;
+import com.aerospike.client.listener.RecordSequenceListener;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.Statement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class provides a multi-filter query engine on top of the asynchronous (event loop based) client API. Results
+ * are collected on the event loop and the returned future is completed when the query finishes.
+ */
+public class AsyncQueryEngine {
+
+    private final IAerospikeClient client;
+    private final StatementBuilder statementBuilder;
+    private final FilterExpressionsBuilder filterExpressionsBuilder;
+    private final QueryPolicy queryPolicy;
+    /**
+     * Scans can potentially slow down Aerospike server, so we are disabling them by default. If you still need to use
+     * scans, set this property to true.
+     */
+    private boolean scansEnabled = false;
+
+    public AsyncQueryEngine(IAerospikeClient client, StatementBuilder statementBuilder,
+                            FilterExpressionsBuilder filterExpressionsBuilder, QueryPolicy queryPolicy) {
+        this.client = client;
+        this.statementBuilder = statementBuilder;
+        this.filterExpressionsBuilder = filterExpressionsBuilder;
+        this.queryPolicy = queryPolicy;
+    }
+
+    /**
+     * Select records filtered by a Filter and Qualifiers
+     *
+     * @param namespace  Namespace to storing the data
+     * @param set        Set storing the data
+     * @param filter     Aerospike Filter to be used
+     * @param qualifiers Zero or more Qualifiers for the update query
+     * @return A CompletableFuture of the list of the results
+     */
+    public CompletableFuture<List<KeyRecord>> select(String namespace, String set, Filter filter,
+                                                     Qualifier... qualifiers) {
+        return select(namespace, set, null, filter, qualifiers);
+    }
+
+    /**
+     * Select records filtered by a Filter and Qualifiers
+     *
+     * @param namespace  Namespace to storing the data
+     * @param set        Set storing the data
+     * @param binNames   Bin names to return from the query
+     * @param filter     Aerospike Filter to be used
+     * @param qualifiers Zero or more Qualifiers for the update query
+     * @return A CompletableFuture of the list of the results
+     */
+    public CompletableFuture<List<KeyRecord>> select(String namespace, String set, String[] binNames, Filter filter,
+                                                     Qualifier... qualifiers) {
+        CompletableFuture<List<KeyRecord>> future = new CompletableFuture<>();
+        try {
+            /*
+             * singleton using primary key
+             */
+            if (qualifiers != null && qualifiers.length == 1 && qualifiers[0] instanceof KeyQualifier kq) {
+                Key key = kq.makeKey(namespace, set);
+                getRecord(null, key, binNames, future);
+                return future;
+            }
+
+            /*
+             *  query with filters
+             */
+            QueryPlan plan = statementBuilder.plan(namespace, set, qualifiers);
+            Statement statement = statementBuilder.build(namespace, set, filter, plan, binNames);
+            QueryPolicy localQueryPolicy = new QueryPolicy(queryPolicy);
+            localQueryPolicy.filterExp = filterExpressionsBuilder.build(qualifiers, plan);
+            if (!scansEnabled && statement.getFilter() == null) {
+                future.completeExceptionally(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
+                return future;
+            }
+
+            // all node commands of a query are processed by the same event loop, no synchronization needed
+            List<KeyRecord> results = new ArrayList<>();
+            client.query(null, new RecordSequenceListener() {
+                @Override
+                public void onRecord(Key key, Record record) {
+                    results.add(new KeyRecord(key, record));
+                }
+
+                @Override
+                public void onSuccess() {
+                    future.complete(results);
+                }
+
+                @Override
+                public void onFailure(AerospikeException e) {
+                    future.completeExceptionally(e);
+                }
+            }, localQueryPolicy, statement);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @SuppressWarnings("SameParameterValue")
+    private void getRecord(Policy policy, Key key, String[] binNames, CompletableFuture<List<KeyRecord>> future) {
+        RecordListener listener = new RecordListener() {
+            @Override
+            public void onSuccess(Key key, Record record) {
+                future.complete(record == null ? Collections.emptyList()
+                    : Collections.singletonList(new KeyRecord(key, record)));
+            }
+
+            @Override
+            public void onFailure(AerospikeException e) {
+                future.completeExceptionally(e);
+            }
+        };
+        if (binNames == null || binNames.length == 0) {
+            client.get(null, listener, policy, key);
+        } else {
+            client.get(null, listener, policy, key, binNames);
+        }
+    }
+
+    public void setScansEnabled(boolean scansEnabled) {
+        this.scansEnabled = scansEnabled;
+    }
+
+    public QueryPolicy getQueryPolicy() {
+        return queryPolicy;
+    }
+}
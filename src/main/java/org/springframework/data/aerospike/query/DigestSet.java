@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Value;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Compact set of the digests returned by key-only queries, for intersecting their results. Digests are stored in a
+ * single open addressing table, so intersecting large results does not create an entry object per record.
+ * <p>
+ * Only a set created by {@link #withUserKeys()} keeps the user keys of the added keys, it is meant for the last
+ * branch of an intersection, so that user keys are held only for the records that match all branches.
+ */
+class DigestSet {
+
+    private static final int DIGEST_SIZE = 20;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final boolean keepUserKeys;
+    private byte[] table;
+    private Value[] userKeys;
+    private BitSet occupied;
+    private int capacity;
+    private int size;
+
+    DigestSet() {
+        this(INITIAL_CAPACITY, false);
+    }
+
+    private DigestSet(int capacity, boolean keepUserKeys) {
+        this.keepUserKeys = keepUserKeys;
+        this.capacity = capacity;
+        this.table = new byte[capacity * DIGEST_SIZE];
+        this.userKeys = keepUserKeys ? new Value[capacity] : null;
+        this.occupied = new BitSet(capacity);
+    }
+
+    /**
+     * @return an empty set that also keeps the user keys of the added keys.
+     */
+    static DigestSet withUserKeys() {
+        return new DigestSet(INITIAL_CAPACITY, true);
+    }
+
+    /**
+     * @param key Key of a record.
+     * @return true if the digest of the key was not in the set.
+     */
+    boolean add(Key key) {
+        if ((size + 1) * 2 > capacity) {
+            resize();
+        }
+        return add(key.digest, 0, key.userKey);
+    }
+
+    boolean contains(byte[] digest) {
+        return occupied.get(findSlot(digest, 0));
+    }
+
+    /**
+     * @param other Set to intersect with.
+     * @return a new set of the digests that are in both sets, without user keys.
+     */
+    DigestSet intersect(DigestSet other) {
+        DigestSet smaller = size <= other.size ? this : other;
+        DigestSet larger = smaller == this ? other : this;
+        DigestSet intersection = new DigestSet();
+        for (int slot = smaller.occupied.nextSetBit(0); slot >= 0; slot = smaller.occupied.nextSetBit(slot + 1)) {
+            int offset = slot * DIGEST_SIZE;
+            if (larger.occupied.get(larger.findSlot(smaller.table, offset))) {
+                if ((intersection.size + 1) * 2 > intersection.capacity) {
+                    intersection.resize();
+                }
+                intersection.add(smaller.table, offset, null);
+            }
+        }
+        return intersection;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param namespace Namespace of the records.
+     * @param setName   Set of the records.
+     * @param limit     Maximum amount of keys, 0 for all.
+     * @return keys of the digests in the set, in no particular order. Keys carry the user key if the set keeps them.
+     */
+    Key[] toKeys(String namespace, String setName, long limit) {
+        int amount = limit > 0 && limit < size ? (int) limit : size;
+        Key[] result = new Key[amount];
+        int index = 0;
+        for (int slot = occupied.nextSetBit(0); slot >= 0 && index < amount; slot = occupied.nextSetBit(slot + 1)) {
+            byte[] digest = Arrays.copyOfRange(table, slot * DIGEST_SIZE, (slot + 1) * DIGEST_SIZE);
+            result[index++] = new Key(namespace, digest, setName, keepUserKeys ? userKeys[slot] : null);
+        }
+        return result;
+    }
+
+    private boolean add(byte[] source, int offset, Value userKey) {
+        int slot = findSlot(source, offset);
+        if (occupied.get(slot)) {
+            return false;
+        }
+        System.arraycopy(source, offset, table, slot * DIGEST_SIZE, DIGEST_SIZE);
+        if (keepUserKeys) {
+            userKeys[slot] = userKey;
+        }
+        occupied.set(slot);
+        size++;
+        return true;
+    }
+
+    private int findSlot(byte[] source, int offset) {
+        // digests are uniformly distributed hashes, their leading bytes are a good hash code
+        int hash = (source[offset] & 0xFF) << 24 | (source[offset + 1] & 0xFF) << 16
+            | (source[offset + 2] & 0xFF) << 8 | (source[offset + 3] & 0xFF);
+        int mask = capacity - 1;
+        int slot = hash & mask;
+        while (occupied.get(slot) && !Arrays.equals(table, slot * DIGEST_SIZE, (slot + 1) * DIGEST_SIZE,
+            source, offset, offset + DIGEST_SIZE)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        DigestSet resized = new DigestSet(capacity * 2, keepUserKeys);
+        for (int slot = occupied.nextSetBit(0); slot >= 0; slot = occupied.nextSetBit(slot + 1)) {
+            resized.add(table, slot * DIGEST_SIZE, keepUserKeys ? userKeys[slot] : null);
+        }
+        this.table = resized.table;
+        this.userKeys = resized.userKeys;
+        this.occupied = resized.occupied;
+        this.capacity = resized.capacity;
+    }
+}
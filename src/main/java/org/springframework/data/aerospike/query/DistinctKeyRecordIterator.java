@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.query.KeyRecord;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over the records of several sources in turn that skips records whose key (digest) was already returned.
+ * Only the digests of the returned records are kept, in a {@link DigestSet}, until the iterator is discarded.
+ */
+class DistinctKeyRecordIterator implements Iterator<KeyRecord> {
+
+    private final Iterator<? extends Iterable<KeyRecord>> sources;
+    private final DigestSet returnedDigests = new DigestSet();
+    private Iterator<KeyRecord> current = Collections.emptyIterator();
+    private KeyRecord next;
+
+    DistinctKeyRecordIterator(Iterator<? extends Iterable<KeyRecord>> sources) {
+        this.sources = sources;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            if (current.hasNext()) {
+                KeyRecord keyRecord = current.next();
+                if (returnedDigests.add(keyRecord.key)) {
+                    next = keyRecord;
+                }
+            } else if (sources.hasNext()) {
+                current = sources.next().iterator();
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public KeyRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        KeyRecord keyRecord = next;
+        next = null;
+        return keyRecord;
+    }
+}
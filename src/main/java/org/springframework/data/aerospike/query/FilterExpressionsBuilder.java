@@ -10,10 +10,23 @@ import java.util.Objects;
 public class FilterExpressionsBuilder {
 
     public Expression build(Qualifier[] qualifiers) {
+        return build(qualifiers, null);
+    }
+
+    /**
+     * Build the filter expression of a query.
+     *
+     * @param qualifiers Qualifiers of the query.
+     * @param plan       Plan of the query, the qualifier served by the secondary index of an index query plan is not
+     *                   repeated in the filter expression unless its operation requires both. Can be null.
+     * @return The filter expression, null if there is nothing to filter by.
+     */
+    public Expression build(Qualifier[] qualifiers, QueryPlan plan) {
+        Qualifier indexedQualifier = plan != null && plan.isIndexQuery() ? plan.getQualifier() : null;
         if (qualifiers != null && qualifiers.length != 0) {
             List<Qualifier> relevantQualifiers = Arrays.stream(qualifiers)
                 .filter(Objects::nonNull)
-                .filter(this::excludeIrrelevantFilters).toList();
+                .filter(qualifier -> excludeIrrelevantFilters(qualifier, indexedQualifier)).toList();
 
             // in case there is more than 1 relevant qualifier -> the default behaviour is AND
             if (relevantQualifiers.size() > 1) {
@@ -23,18 +36,19 @@ public class FilterExpressionsBuilder {
                 Exp finalExp = Exp.and(exps);
                 return Exp.build(finalExp);
             } else if (relevantQualifiers.size() == 1) {
-                return Exp.build(relevantQualifiers.get(0).toFilterExp());
+                return relevantQualifiers.get(0).toFilterExpression();
             }
         }
         return null;
     }
 
     /**
-     * The filter allows only qualifiers without sIndexFilter and those with the dualFilterOperation that require both
-     * sIndexFilter and FilterExpression The filter is irrelevant for AND operation (nested qualifiers)
+     * The filter allows only qualifiers not served by the secondary index chosen by the planner and those with the
+     * dualFilterOperation that require both sIndexFilter and FilterExpression The filter is irrelevant for AND
+     * operation (nested qualifiers)
      */
-    private boolean excludeIrrelevantFilters(Qualifier qualifier) {
-        return !qualifier.queryAsFilter() ||
-            (qualifier.queryAsFilter() && FilterOperation.dualFilterOperations.contains(qualifier.getOperation()));
+    private boolean excludeIrrelevantFilters(Qualifier qualifier, Qualifier indexedQualifier) {
+        boolean servedByIndex = qualifier.queryAsFilter() || qualifier == indexedQualifier;
+        return !servedByIndex || FilterOperation.dualFilterOperations.contains(qualifier.getOperation());
     }
 }
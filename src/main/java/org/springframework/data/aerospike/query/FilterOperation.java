@@ -11,9 +11,11 @@ import com.aerospike.client.exp.ListExp;
 import com.aerospike.client.exp.MapExp;
 import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
 import com.aerospike.client.query.RegexFlag;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
 import org.springframework.data.aerospike.query.Qualifier.QualifierBuilder;
+import org.springframework.data.aerospike.query.model.IndexKey;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.StringUtils;
 
@@ -337,28 +339,18 @@ public enum FilterOperation {
         public Filter sIndexFilter(Map<String, Object> map) {
             String[] dotPathArr = getDotPathArray(getDotPath(map),
                 "MAP_VAL_EQ_BY_KEY secondary index filter: dotPath has not been set");
-            final boolean useCtx = dotPathArr.length > 2;
+            CTX[] ctx = dotPathToIndexCtx(dotPathArr);
 
             return switch (getValue1(map).getType()) {
                 case ParticleType.STRING -> {
                     if (ignoreCase(map)) { // there is no case-insensitive string comparison filter
                         yield null; // MAP_VALUE_EQ_BY_KEY sIndexFilter: case-insensitive comparison is not supported
                     }
-                    if (useCtx) {
-                        yield null; // currently not supported
-                    } else {
-                        yield Filter.contains(getField(map), IndexCollectionType.MAPVALUES,
-                            getValue1(map).toString());
-                    }
-                }
-                case ParticleType.INTEGER -> {
-                    if (useCtx) {
-                        yield null; // currently not supported
-                    } else {
-                        yield Filter.range(getField(map), IndexCollectionType.MAPVALUES, getValue1(map).toLong(),
-                            getValue1(map).toLong());
-                    }
+                    yield Filter.contains(getField(map), IndexCollectionType.MAPVALUES, getValue1(map).toString(),
+                        ctx);
                 }
+                case ParticleType.INTEGER -> Filter.range(getField(map), IndexCollectionType.MAPVALUES,
+                    getValue1(map).toLong(), getValue1(map).toLong(), ctx);
                 default -> null;
             };
         }
@@ -392,12 +384,8 @@ public enum FilterOperation {
 
             String[] dotPathArr = getDotPathArray(getDotPath(map),
                 "MAP_VAL_GT_BY_KEY secondary index filter: dotPath has not been set");
-            if (dotPathArr.length > 2) {
-                return null; // currently not supported
-            } else {
-                return Filter.range(getField(map), IndexCollectionType.MAPVALUES, getValue1(map).toLong() + 1,
-                    Long.MAX_VALUE);
-            }
+            return Filter.range(getField(map), IndexCollectionType.MAPVALUES,
+                getValue1(map).toLong() + 1, Long.MAX_VALUE, dotPathToIndexCtx(dotPathArr));
         }
     },
     MAP_VAL_GTEQ_BY_KEY {
@@ -417,12 +405,8 @@ public enum FilterOperation {
 
             String[] dotPathArr = getDotPathArray(getDotPath(map),
                 "MAP_VAL_GTEQ_BY_KEY secondary index filter: dotPath has not been set");
-            if (dotPathArr.length > 2) {
-                return null; // currently not supported
-            } else {
-                return Filter.range(getField(map), IndexCollectionType.MAPVALUES, getValue1(map).toLong(),
-                    Long.MAX_VALUE);
-            }
+            return Filter.range(getField(map), IndexCollectionType.MAPVALUES,
+                getValue1(map).toLong(), Long.MAX_VALUE, dotPathToIndexCtx(dotPathArr));
         }
     },
     MAP_VAL_LT_BY_KEY {
@@ -443,12 +427,8 @@ public enum FilterOperation {
 
             String[] dotPathArr = getDotPathArray(getDotPath(map),
                 "MAP_VAL_LT_BY_KEY secondary index filter: dotPath has not been set");
-            if (dotPathArr.length > 2) {
-                return null; // currently not supported
-            } else {
-                return Filter.range(getField(map), IndexCollectionType.MAPVALUES, Long.MIN_VALUE,
-                    getValue1(map).toLong() - 1);
-            }
+            return Filter.range(getField(map), IndexCollectionType.MAPVALUES,
+                Long.MIN_VALUE, getValue1(map).toLong() - 1, dotPathToIndexCtx(dotPathArr));
         }
     },
     MAP_VAL_LTEQ_BY_KEY {
@@ -468,12 +448,8 @@ public enum FilterOperation {
 
             String[] dotPathArr = getDotPathArray(getDotPath(map),
                 "MAP_VAL_LTEQ_BY_KEY secondary index filter: dotPath has not been set");
-            if (dotPathArr.length > 2) {
-                return null; // currently not supported
-            } else {
-                return Filter.range(getField(map), IndexCollectionType.MAPVALUES, Long.MIN_VALUE,
-                    getValue1(map).toLong());
-            }
+            return Filter.range(getField(map), IndexCollectionType.MAPVALUES,
+                Long.MIN_VALUE, getValue1(map).toLong(), dotPathToIndexCtx(dotPathArr));
         }
     },
     MAP_VAL_BETWEEN_BY_KEY {
@@ -512,12 +488,8 @@ public enum FilterOperation {
 
             String[] dotPathArr = getDotPathArray(getDotPath(map),
                 "MAP_VAL_BETWEEN_BY_KEY secondary index filter: dotPath has not been set");
-            if (dotPathArr.length > 2) {
-                return null; // currently not supported
-            } else {
-                return Filter.range(getField(map), IndexCollectionType.MAPVALUES, getValue1(map).toLong(),
-                    getValue3(map).toLong());
-            }
+            return Filter.range(getField(map), IndexCollectionType.MAPVALUES,
+                getValue1(map).toLong(), getValue3(map).toLong(), dotPathToIndexCtx(dotPathArr));
         }
     },
     MAP_VAL_STARTS_WITH_BY_KEY {
@@ -983,6 +955,13 @@ public enum FilterOperation {
         MAP_VAL_BETWEEN_BY_KEY
     );
 
+    /**
+     * @return context of the secondary index of a map value by key, null if the map is the bin itself
+     */
+    private static CTX[] dotPathToIndexCtx(String[] dotPathArray) {
+        return dotPathArray.length > 2 ? dotPathToCtxMapKeys(dotPathArray) : null;
+    }
+
     private static CTX[] dotPathToCtxMapKeys(String[] dotPathArray) {
         return Arrays.stream(dotPathArray).map(str -> CTX.mapKey(Value.get(str)))
             .skip(1) // first element is bin name
@@ -1021,6 +1000,56 @@ public enum FilterOperation {
 
     public abstract Filter sIndexFilter(Map<String, Object> map);
 
+    /**
+     * Get the key of the secondary index that can serve the secondary index filter of the operation: the bin, the type
+     * of the value, the collection type of the operation and, for map values by key in nested maps, the context of the
+     * map.
+     *
+     * @param namespace Namespace of the query.
+     * @param set       Set of the query.
+     * @param map       Qualifier of the operation.
+     * @return Key of the index in the indexes cache or null if the operation cannot be served by a secondary index.
+     */
+    public IndexKey indexKey(String namespace, String set, Map<String, Object> map) {
+        IndexCollectionType collectionType = getIndexCollectionType();
+        IndexType indexType = getIndexType(map);
+        if (collectionType == null || indexType == null || getField(map) == null) {
+            return null;
+        }
+        CTX[] ctx = null;
+        if (dualFilterOperations.contains(this) && StringUtils.hasLength(getDotPath(map))) {
+            ctx = dotPathToIndexCtx(getDotPath(map).split("\\."));
+        }
+        return new IndexKey(namespace, set, getField(map), indexType, collectionType, ctx);
+    }
+
+    private IndexCollectionType getIndexCollectionType() {
+        return switch (this) {
+            case EQ, GT, GTEQ, LT, LTEQ, BETWEEN, GEO_WITHIN -> IndexCollectionType.DEFAULT;
+            case LIST_VAL_CONTAINING, LIST_VAL_BETWEEN, LIST_VAL_GT, LIST_VAL_GTEQ, LIST_VAL_LT, LIST_VAL_LTEQ ->
+                IndexCollectionType.LIST;
+            case MAP_KEYS_CONTAIN, MAP_KEYS_BETWEEN -> IndexCollectionType.MAPKEYS;
+            case MAP_VAL_EQ_BY_KEY, MAP_VAL_GT_BY_KEY, MAP_VAL_GTEQ_BY_KEY, MAP_VAL_LT_BY_KEY, MAP_VAL_LTEQ_BY_KEY,
+                MAP_VAL_BETWEEN_BY_KEY, MAP_VAL_CONTAIN, MAP_VAL_BETWEEN -> IndexCollectionType.MAPVALUES;
+            // logical and regex operations are not served by a secondary index
+            default -> null;
+        };
+    }
+
+    private IndexType getIndexType(Map<String, Object> map) {
+        if (this == GEO_WITHIN) {
+            return IndexType.GEO2DSPHERE;
+        }
+        if (getValue1(map) == null) {
+            return null;
+        }
+        return switch (getValue1(map).getType()) {
+            case ParticleType.INTEGER -> IndexType.NUMERIC;
+            case ParticleType.STRING -> IndexType.STRING;
+            default -> null;
+        };
+    }
+
     protected static String getField(Map<String, Object> map) {
         return (String) map.get(FIELD);
     }
@@ -27,7 +27,10 @@ import org.slf4j.LoggerFactory;
 import java.io.Closeable;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Iterator for traversing a collection of KeyRecords
@@ -44,8 +47,10 @@ public class KeyRecordIterator implements Iterator<KeyRecord>, Closeable {
     private static final String GENERATION = "generation";
     private static final Logger log = LoggerFactory.getLogger(KeyRecordIterator.class);
     private final String namespace;
-    private final Integer closeLock = Integer.valueOf(0);
+    // not a monitor to avoid pinning virtual threads to their carrier threads while closing
+    private final Lock closeLock = new ReentrantLock();
     private RecordSet recordSet;
+    private List<RecordSet> recordSets;
     private ResultSet resultSet;
     private Iterator<KeyRecord> recordSetIterator;
     private Iterator<Object> resultSetIterator;
@@ -67,6 +72,21 @@ public class KeyRecordIterator implements Iterator<KeyRecord>, Closeable {
         this.recordSetIterator = recordSet.iterator();
     }
 
+    /**
+     * Iterate over the records of several record sets in turn, skipping records with the same digest as a record that
+     * was already returned.
+     */
+    public KeyRecordIterator(String namespace, List<RecordSet> recordSets) {
+        this(namespace);
+        this.recordSets = recordSets;
+        this.recordSetIterator = new DistinctKeyRecordIterator(recordSets.iterator());
+    }
+
+    public KeyRecordIterator(String namespace, Iterator<KeyRecord> keyRecords) {
+        this(namespace);
+        this.recordSetIterator = keyRecords;
+    }
+
     public KeyRecordIterator(String namespace, ResultSet resultSet) {
         this(namespace);
         this.resultSet = resultSet;
@@ -75,14 +95,18 @@ public class KeyRecordIterator implements Iterator<KeyRecord>, Closeable {
 
     @Override
     public void close() {
-        //noinspection synchronization
-        synchronized (closeLock) {
+        closeLock.lock();
+        try {
             if (recordSet != null)
                 recordSet.close();
+            if (recordSets != null)
+                recordSets.forEach(RecordSet::close);
             if (resultSet != null)
                 resultSet.close();
             if (singleRecord != null)
                 singleRecord = null;
+        } finally {
+            closeLock.unlock();
         }
     }
 
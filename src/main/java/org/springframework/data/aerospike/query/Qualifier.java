@@ -20,9 +20,11 @@ import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Value;
 import com.aerospike.client.command.ParticleType;
 import com.aerospike.client.exp.Exp;
+import com.aerospike.client.exp.Expression;
 import com.aerospike.client.query.Filter;
 import lombok.Data;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.query.model.IndexKey;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -35,6 +37,12 @@ import java.util.Set;
  * Generic Bin qualifier. It acts as a filter to exclude records that do not meet the given criteria.
  * <p>
  * For the list of the supported operations see {@link FilterOperation}
+ * <p>
+ * The secondary index filter and the filter expression are built once per qualifier instance. Aerospike expressions
+ * embed the values they compare against, so they cannot be shared between qualifiers with different values. Derived
+ * repository queries build new qualifiers on every execution and therefore only avoid building the same forms twice
+ * within one query. Queries that run the same {@link org.springframework.data.aerospike.repository.query.Query}
+ * or qualifier objects repeatedly reuse the compiled forms across executions.
  *
  * @author Peter Milne
  */
@@ -53,6 +61,11 @@ public class Qualifier implements Map<String, Object>, Serializable {
     @Serial
     private static final long serialVersionUID = -2689196529952712849L;
     protected final Map<String, Object> internalMap;
+    // compiled forms, built once per qualifier and reset when the qualifier is modified
+    private transient volatile Exp filterExp;
+    private transient volatile Expression filterExpression;
+    private transient volatile Filter sIndexFilter;
+    private transient volatile boolean sIndexFilterBuilt;
 
     public Qualifier(QualifierBuilder builder) {
         internalMap = new HashMap<>();
@@ -94,24 +107,67 @@ public class Qualifier implements Map<String, Object>, Serializable {
         return (Value) internalMap.get(VALUE3);
     }
 
+    /**
+     * @param namespace Namespace of the query.
+     * @param set       Set of the query.
+     * @return key of the secondary index that can serve the qualifier, null if the operation is not supported by
+     * secondary indexes.
+     */
+    public IndexKey getIndexKey(String namespace, String set) {
+        return getOperation().indexKey(namespace, set, internalMap);
+    }
+
+    /**
+     * @return secondary index filter of the qualifier, null if the operation is not supported by secondary indexes.
+     * The filter is built once and reused until the qualifier is modified.
+     */
     public Filter asFilter() {
-        try {
-            return FilterOperation.valueOf(getOperation().toString()).sIndexFilter(internalMap);
-        } catch (Exception e) {
-            throw new AerospikeException(
-                e.getMessage().isEmpty() ? "Secondary index filter unsupported operation: " + getOperation() :
-                    e.getMessage());
+        if (!sIndexFilterBuilt) {
+            try {
+                sIndexFilter = getOperation().sIndexFilter(internalMap);
+            } catch (Exception e) {
+                throw new AerospikeException(e.getMessage() == null || e.getMessage().isEmpty()
+                    ? "Secondary index filter unsupported operation: " + getOperation() : e.getMessage());
+            }
+            sIndexFilterBuilt = true;
         }
+        return sIndexFilter;
     }
 
+    /**
+     * @return filter expression of the qualifier, built once and reused until the qualifier is modified.
+     */
     public Exp toFilterExp() {
-        try {
-            return FilterOperation.valueOf(getOperation().toString()).filterExp(internalMap);
-        } catch (Exception e) {
-            throw new AerospikeException(
-                e.getMessage().isEmpty() ? "FilterExpression unsupported operation: " + getOperation() :
-                    e.getMessage());
+        Exp exp = filterExp;
+        if (exp == null) {
+            try {
+                exp = getOperation().filterExp(internalMap);
+            } catch (Exception e) {
+                throw new AerospikeException(e.getMessage() == null || e.getMessage().isEmpty()
+                    ? "FilterExpression unsupported operation: " + getOperation() : e.getMessage());
+            }
+            filterExp = exp;
         }
+        return exp;
+    }
+
+    /**
+     * @return packed filter expression of the qualifier, built once and reused until the qualifier is modified.
+     */
+    Expression toFilterExpression() {
+        Expression expression = filterExpression;
+        if (expression == null) {
+            expression = Exp.build(toFilterExp());
+            filterExpression = expression;
+        }
+        return expression;
+    }
+
+    private void resetCompiledForms() {
+        filterExp = null;
+        filterExpression = null;
+        sIndexFilter = null;
+        sIndexFilterBuilt = false;
     }
 
     protected String luaFieldString(String field) {
@@ -170,21 +226,25 @@ public class Qualifier implements Map<String, Object>, Serializable {
 
     @Override
     public Object put(String key, Object value) {
+        resetCompiledForms();
         return internalMap.put(key, value);
     }
 
     @Override
     public Object remove(Object key) {
+        resetCompiledForms();
         return internalMap.remove(key);
     }
 
     @Override
     public void putAll(Map<? extends String, ?> m) {
+        resetCompiledForms();
         internalMap.putAll(m);
     }
 
     @Override
     public void clear() {
+        resetCompiledForms();
         internalMap.clear();
     }
 
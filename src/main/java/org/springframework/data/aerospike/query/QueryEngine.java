@@ -18,13 +18,24 @@ package org.springframework.data.aerospike.query;
 
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
+import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
 import com.aerospike.client.query.RecordSet;
 import com.aerospike.client.query.Statement;
+import com.aerospike.client.task.ExecuteTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * This class provides a multi-filter query engine that augments the query capability in Aerospike.
@@ -39,6 +50,10 @@ public class QueryEngine {
             "disabled by default in spring-data-aerospike. " +
             "If you still need to use them, enable them via `scansEnabled` property in `org.springframework.data" +
             ".aerospike.config.AerospikeDataSettings`.";
+    /**
+     * Amount of keys read by one batch request of an index intersection.
+     */
+    static final int INTERSECTION_BATCH_SIZE = 100;
     private final IAerospikeClient client;
     private final StatementBuilder statementBuilder;
     private final FilterExpressionsBuilder filterExpressionsBuilder;
@@ -82,6 +97,25 @@ public class QueryEngine {
      */
     public KeyRecordIterator select(String namespace, String set, String[] binNames, Filter filter,
                                     Qualifier... qualifiers) {
+        return select(namespace, set, binNames, null, filter, qualifiers);
+    }
+
+    /**
+     * Select records filtered by a Filter and Qualifiers using a query policy adjusted by hints
+     * <p>
+     * When the qualifiers are served by an intersection of secondary indexes, the keys matched by every index are
+     * loaded and intersected before this method returns, only the records themselves are read lazily.
+     *
+     * @param namespace   Namespace to storing the data
+     * @param set         Set storing the data
+     * @param binNames    Bin names to return from the query
+     * @param policyHints Hints overriding the query policy, can be null
+     * @param filter      Aerospike Filter to be used
+     * @param qualifiers  Zero or more Qualifiers for the update query
+     * @return A KeyRecordIterator to iterate over the results
+     */
+    public KeyRecordIterator select(String namespace, String set, String[] binNames, QueryPolicyHints policyHints,
+                                    Filter filter, Qualifier... qualifiers) {
         /*
          * singleton using primary key
          */
@@ -100,9 +134,84 @@ public class QueryEngine {
         /*
          *  query with filters
          */
-        Statement statement = statementBuilder.build(namespace, set, filter, qualifiers, binNames);
         QueryPolicy localQueryPolicy = new QueryPolicy(queryPolicy);
-        localQueryPolicy.filterExp = filterExpressionsBuilder.build(qualifiers);
+        QueryPlan plan = plan(namespace, set, filter, qualifiers);
+        if (plan != null && plan.isUnion()) {
+            return selectUnion(namespace, set, binNames, localQueryPolicy, policyHints, 0, plan, qualifiers);
+        }
+        if (plan != null && plan.isIntersection()) {
+            return selectIntersection(namespace, set, binNames, true, policyHints, 0, plan, qualifiers);
+        }
+
+        Statement statement = statementBuilder.build(namespace, set, filter, plan, binNames);
+        localQueryPolicy.filterExp = filterExpressionsBuilder.build(qualifiers, plan);
+        if (policyHints != null) {
+            policyHints.applyTo(localQueryPolicy, statement);
+        }
+
+        if (!scansEnabled && statement.getFilter() == null) {
+            throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
+        }
+
+        RecordSet rs = client.query(localQueryPolicy, statement);
+        return new KeyRecordIterator(namespace, rs);
+    }
+
+    /**
+     * Select keys and metadata of records filtered by a Filter and Qualifiers without transferring the bins
+     *
+     * @param namespace  Namespace to storing the data
+     * @param set        Set storing the data
+     * @param maxRecords Approximate maximum amount of records to return, 0 for no limit
+     * @param filter     Aerospike Filter to be used
+     * @param qualifiers Zero or more Qualifiers for the query
+     * @return A KeyRecordIterator to iterate over the results, the records contain no bins
+     */
+    public KeyRecordIterator selectWithoutBins(String namespace, String set, long maxRecords, Filter filter,
+                                               Qualifier... qualifiers) {
+        return selectWithoutBins(namespace, set, maxRecords, null, filter, qualifiers);
+    }
+
+    /**
+     * Select keys and metadata of records filtered by a Filter and Qualifiers without transferring the bins using a
+     * query policy adjusted by hints
+     *
+     * @param namespace   Namespace to storing the data
+     * @param set         Set storing the data
+     * @param maxRecords  Approximate maximum amount of records to return, 0 for the limit of the hints or no limit
+     * @param policyHints Hints overriding the query policy, can be null
+     * @param filter      Aerospike Filter to be used
+     * @param qualifiers  Zero or more Qualifiers for the query
+     * @return A KeyRecordIterator to iterate over the results, the records contain no bins
+     */
+    public KeyRecordIterator selectWithoutBins(String namespace, String set, long maxRecords,
+                                               QueryPolicyHints policyHints, Filter filter,
+                                               Qualifier... qualifiers) {
+        if (qualifiers != null && qualifiers.length == 1 && qualifiers[0] instanceof KeyQualifier kq) {
+            Key key = kq.makeKey(namespace, set);
+            Record record = client.getHeader(null, key);
+            return record == null ? new KeyRecordIterator(namespace)
+                : new KeyRecordIterator(namespace, new KeyRecord(key, record));
+        }
+
+        QueryPolicy localQueryPolicy = new QueryPolicy(queryPolicy);
+        localQueryPolicy.includeBinData = false;
+        QueryPlan plan = plan(namespace, set, filter, qualifiers);
+        if (plan != null && plan.isUnion()) {
+            return selectUnion(namespace, set, null, localQueryPolicy, policyHints, maxRecords, plan, qualifiers);
+        }
+        if (plan != null && plan.isIntersection()) {
+            return selectIntersection(namespace, set, null, false, policyHints, maxRecords, plan, qualifiers);
+        }
+
+        Statement statement = statementBuilder.build(namespace, set, filter, plan, null);
+        localQueryPolicy.filterExp = filterExpressionsBuilder.build(qualifiers, plan);
+        if (policyHints != null) {
+            policyHints.applyTo(localQueryPolicy, statement);
+        }
+        if (maxRecords > 0) {
+            statement.setMaxRecords(maxRecords);
+        }
 
         if (!scansEnabled && statement.getFilter() == null) {
             throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
@@ -112,6 +221,213 @@ public class QueryEngine {
         return new KeyRecordIterator(namespace, rs);
     }
 
+    /**
+     * Select up to maxRecords records of the partitions of a PartitionFilter filtered by a Filter and Qualifiers. The
+     * partition filter is updated with the query progress when the results are consumed, so running the query again
+     * with it returns the next records.
+     *
+     * @param namespace       Namespace to storing the data
+     * @param set             Set storing the data
+     * @param partitionFilter Partitions to query and the digests to resume after
+     * @param maxRecords      Maximum amount of records to return
+     * @param filter          Aerospike Filter to be used
+     * @param qualifiers      Zero or more Qualifiers for the query
+     * @return A KeyRecordIterator to iterate over the results
+     */
+    public KeyRecordIterator selectPartitions(String namespace, String set, PartitionFilter partitionFilter,
+                                              long maxRecords, Filter filter, Qualifier... qualifiers) {
+        return selectPartitions(namespace, set, partitionFilter, maxRecords, queryPolicy.recordQueueSize, filter,
+            qualifiers);
+    }
+
+    /**
+     * Select up to maxRecords records of the partitions of a PartitionFilter filtered by a Filter and Qualifiers,
+     * buffering up to recordQueueSize records that are not consumed yet
+     *
+     * @param namespace       Namespace to storing the data
+     * @param set             Set storing the data
+     * @param partitionFilter Partitions to query and the digests to resume after
+     * @param maxRecords      Maximum amount of records to return, 0 for no limit
+     * @param recordQueueSize Size of the buffer of received records
+     * @param filter          Aerospike Filter to be used
+     * @param qualifiers      Zero or more Qualifiers for the query
+     * @return A KeyRecordIterator to iterate over the results
+     */
+    public KeyRecordIterator selectPartitions(String namespace, String set, PartitionFilter partitionFilter,
+                                              long maxRecords, int recordQueueSize, Filter filter,
+                                              Qualifier... qualifiers) {
+        QueryPlan plan = statementBuilder.plan(namespace, set, qualifiers);
+        Statement statement = statementBuilder.build(namespace, set, filter, plan, null);
+        statement.setMaxRecords(maxRecords);
+        QueryPolicy localQueryPolicy = new QueryPolicy(queryPolicy);
+        localQueryPolicy.filterExp = filterExpressionsBuilder.build(qualifiers, plan);
+        localQueryPolicy.recordQueueSize = recordQueueSize;
+
+        if (!scansEnabled && statement.getFilter() == null) {
+            throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
+        }
+
+        RecordSet rs = client.queryPartitions(localQueryPolicy, statement, partitionFilter);
+        return new KeyRecordIterator(namespace, rs);
+    }
+
+    /**
+     * Execute operations on all records filtered by a Filter and Qualifiers in a background task on the server, no
+     * record data is returned to the client.
+     *
+     * @param namespace   Namespace to storing the data
+     * @param set         Set storing the data
+     * @param writePolicy Write policy of the background task
+     * @param filter      Aerospike Filter to be used
+     * @param qualifiers  Zero or more Qualifiers for the query
+     * @param operations  Operations to execute on each record
+     * @return An ExecuteTask to wait for or poll the completion of the background task
+     */
+    public ExecuteTask execute(String namespace, String set, WritePolicy writePolicy, Filter filter,
+                               Qualifier[] qualifiers, Operation... operations) {
+        QueryPlan plan = statementBuilder.plan(namespace, set, qualifiers);
+        Statement statement = statementBuilder.build(namespace, set, filter, plan, null);
+        WritePolicy localWritePolicy = new WritePolicy(writePolicy);
+        localWritePolicy.filterExp = filterExpressionsBuilder.build(qualifiers, plan);
+
+        if (!scansEnabled && statement.getFilter() == null) {
+            throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
+        }
+
+        return client.execute(localWritePolicy, statement, operations);
+    }
+
+    /**
+     * Plan a select once, a union or an intersection is only chosen if no secondary index filter is given.
+     *
+     * @return The plan of the query, null if there are no qualifiers.
+     */
+    private QueryPlan plan(String namespace, String set, Filter filter, Qualifier[] qualifiers) {
+        if (qualifiers == null || qualifiers.length == 0) {
+            return null;
+        }
+        return filter == null ? statementBuilder.planSelect(namespace, set, qualifiers)
+            : statementBuilder.plan(namespace, set, qualifiers);
+    }
+
+    /**
+     * Run one secondary index query per branch of a union plan at once, each with the filter expression of all the
+     * qualifiers, and return their records without duplicates.
+     */
+    private KeyRecordIterator selectUnion(String namespace, String set, String[] binNames, QueryPolicy policy,
+                                          QueryPolicyHints policyHints, long maxRecords, QueryPlan unionPlan,
+                                          Qualifier[] qualifiers) {
+        policy.filterExp = filterExpressionsBuilder.build(qualifiers);
+        List<Statement> statements = new ArrayList<>(unionPlan.getBranches().size());
+        for (QueryPlan branch : unionPlan.getBranches()) {
+            Statement statement = statementBuilder.build(namespace, set, branch.getFilter(), null, binNames);
+            if (policyHints != null) {
+                policyHints.applyTo(policy, statement);
+            }
+            if (maxRecords > 0) {
+                statement.setMaxRecords(maxRecords);
+            }
+            statements.add(statement);
+        }
+
+        List<RecordSet> recordSets = new ArrayList<>(statements.size());
+        try {
+            for (Statement statement : statements) {
+                recordSets.add(client.query(policy, statement));
+            }
+        } catch (RuntimeException e) {
+            recordSets.forEach(RecordSet::close);
+            throw e;
+        }
+        return new KeyRecordIterator(namespace, recordSets);
+    }
+
+    /**
+     * Run a key-only secondary index query per branch of an intersection plan at once, intersect the digests of their
+     * records and batch read the remaining records with the filter expression of all the qualifiers. The keys of all
+     * the branches are loaded eagerly, the records are read in batches of {@link #INTERSECTION_BATCH_SIZE} as the
+     * iterator is consumed.
+     */
+    private KeyRecordIterator selectIntersection(String namespace, String set, String[] binNames,
+                                                 boolean includeBinData, QueryPolicyHints policyHints,
+                                                 long maxRecords, QueryPlan intersectionPlan,
+                                                 Qualifier[] qualifiers) {
+        QueryPolicy keysPolicy = new QueryPolicy(queryPolicy);
+        keysPolicy.includeBinData = false;
+        List<Statement> statements = new ArrayList<>(intersectionPlan.getBranches().size());
+        for (QueryPlan branch : intersectionPlan.getBranches()) {
+            Statement statement = statementBuilder.build(namespace, set, branch.getFilter(), null);
+            if (policyHints != null) {
+                policyHints.applyTo(keysPolicy, statement);
+                // limiting a branch would drop keys of the intersection
+                statement.setMaxRecords(0);
+            }
+            statements.add(statement);
+        }
+
+        DigestSet matches = null;
+        List<RecordSet> recordSets = new ArrayList<>(statements.size());
+        try {
+            for (Statement statement : statements) {
+                recordSets.add(client.query(keysPolicy, statement));
+            }
+            for (int branch = 0; branch < recordSets.size(); branch++) {
+                // only the records matching the last branch too are returned, so only their user keys are kept
+                DigestSet branchMatches = branch == recordSets.size() - 1 ? DigestSet.withUserKeys()
+                    : new DigestSet();
+                for (KeyRecord keyRecord : recordSets.get(branch)) {
+                    if (matches == null || matches.contains(keyRecord.key.digest)) {
+                        // keys returned by the query carry the user key that the batch read does not return
+                        branchMatches.add(keyRecord.key);
+                    }
+                }
+                matches = branchMatches;
+                if (matches.isEmpty()) {
+                    break;
+                }
+            }
+        } finally {
+            recordSets.forEach(RecordSet::close);
+        }
+
+        long limit = maxRecords > 0 ? maxRecords : getMaxRecords(policyHints);
+        Key[] keys = matches == null ? new Key[0] : matches.toKeys(namespace, set, limit);
+        if (keys.length == 0) {
+            return new KeyRecordIterator(namespace);
+        }
+        BatchPolicy batchPolicy = new BatchPolicy(client.getBatchPolicyDefault());
+        batchPolicy.filterExp = filterExpressionsBuilder.build(qualifiers);
+        Iterator<KeyRecord> keyRecords = IntStream.iterate(0, from -> from < keys.length,
+                from -> from + INTERSECTION_BATCH_SIZE)
+            .mapToObj(from -> Arrays.copyOfRange(keys, from, Math.min(from + INTERSECTION_BATCH_SIZE, keys.length)))
+            .flatMap(chunk -> batchRead(batchPolicy, chunk, binNames, includeBinData).stream())
+            .iterator();
+        return new KeyRecordIterator(namespace, keyRecords);
+    }
+
+    private List<KeyRecord> batchRead(BatchPolicy batchPolicy, Key[] keys, String[] binNames,
+                                      boolean includeBinData) {
+        Record[] records;
+        if (!includeBinData) {
+            records = client.getHeader(batchPolicy, keys);
+        } else if (binNames == null || binNames.length == 0) {
+            records = client.get(batchPolicy, keys);
+        } else {
+            records = client.get(batchPolicy, keys, binNames);
+        }
+        List<KeyRecord> keyRecords = new ArrayList<>(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            if (records[i] != null) {
+                keyRecords.add(new KeyRecord(keys[i], records[i]));
+            }
+        }
+        return keyRecords;
+    }
+
+    static long getMaxRecords(QueryPolicyHints policyHints) {
+        return policyHints != null && policyHints.getMaxRecords() != null ? policyHints.getMaxRecords() : 0;
+    }
+
     @SuppressWarnings("SameParameterValue")
     private Record getRecord(Policy policy, Key key, String[] binNames) {
         if (binNames == null || binNames.length == 0) {
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.query.Filter;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.springframework.data.aerospike.query.model.Index;
+
+import java.util.List;
+
+/**
+ * Execution plan of a query chosen by {@link StatementBuilder}: the qualifier served by a secondary index, a union of
+ * secondary index queries serving the branches of an OR or IN qualifier, an intersection of key-only secondary index
+ * queries serving several qualifiers combined with AND, or a scan with filter expressions when no qualifier can use an
+ * index.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class QueryPlan {
+
+    public static final long UNKNOWN_ESTIMATE = -1;
+    private static final QueryPlan SCAN = new QueryPlan(Strategy.SCAN, null, null, null, UNKNOWN_ESTIMATE, List.of());
+
+    Strategy strategy;
+
+    /**
+     * Qualifier served by the secondary index or by the union, null for a scan or an intersection.
+     */
+    Qualifier qualifier;
+    /**
+     * Secondary index used by the query, null for other plans.
+     */
+    Index index;
+    /**
+     * Secondary index filter of the query statement, null for other plans.
+     */
+    Filter filter;
+    /**
+     * Estimated amount of index entries matched on a node, {@link #UNKNOWN_ESTIMATE} if there are no statistics.
+     */
+    long estimatedRecords;
+    /**
+     * Secondary index queries of the branches of a union or of an intersection, empty for other plans.
+     */
+    List<QueryPlan> branches;
+
+    public static QueryPlan scan() {
+        return SCAN;
+    }
+
+    public static QueryPlan index(Qualifier qualifier, Index index, Filter filter, long estimatedRecords) {
+        return new QueryPlan(Strategy.INDEX, qualifier, index, filter, estimatedRecords, List.of());
+    }
+
+    public static QueryPlan union(Qualifier qualifier, List<QueryPlan> branches, long estimatedRecords) {
+        return new QueryPlan(Strategy.UNION, qualifier, null, null, estimatedRecords, List.copyOf(branches));
+    }
+
+    public static QueryPlan intersection(List<QueryPlan> branches, long estimatedRecords) {
+        return new QueryPlan(Strategy.INTERSECTION, null, null, null, estimatedRecords, List.copyOf(branches));
+    }
+
+    public boolean isIndexQuery() {
+        return strategy == Strategy.INDEX;
+    }
+
+    public boolean isUnion() {
+        return strategy == Strategy.UNION;
+    }
+
+    public boolean isIntersection() {
+        return strategy == Strategy.INTERSECTION;
+    }
+
+    public enum Strategy {
+        /**
+         * Scan of the set with filter expressions.
+         */
+        SCAN,
+        /**
+         * Single secondary index query with filter expressions.
+         */
+        INDEX,
+        /**
+         * Secondary index queries of the branches of an OR or IN qualifier merged without duplicates.
+         */
+        UNION,
+        /**
+         * Key-only secondary index queries of qualifiers combined with AND whose keys are intersected and read in
+         * batches.
+         */
+        INTERSECTION
+    }
+}
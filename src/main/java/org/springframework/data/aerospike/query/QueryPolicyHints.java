@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.query.Statement;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Settings of a single query that override the default query policy of the query engine. Hints that are not set keep
+ * the default value.
+ */
+@Builder(toBuilder = true)
+@Value
+public class QueryPolicyHints {
+
+    /**
+     * Approximate maximum amount of records to return, 0 for no limit.
+     */
+    Long maxRecords;
+    /**
+     * Maximum amount of records per second the server sends per node, 0 for no limit.
+     */
+    Integer recordsPerSecond;
+    /**
+     * Whether the query is expected to return a small amount of records and to be served by the server with low
+     * latency.
+     */
+    Boolean shortQuery;
+    /**
+     * Amount of received records buffered until they are consumed.
+     */
+    Integer recordQueueSize;
+    /**
+     * Total transaction timeout in milliseconds, 0 for no timeout.
+     */
+    Integer totalTimeout;
+    /**
+     * Maximum amount of nodes queried in parallel, 0 for all nodes.
+     */
+    Integer maxConcurrentNodes;
+
+    /**
+     * Apply the hints that are set to a copy of the query policy and to the statement of a query.
+     *
+     * @param policy    Query policy of the query.
+     * @param statement Statement of the query.
+     */
+    public void applyTo(QueryPolicy policy, Statement statement) {
+        if (maxRecords != null) {
+            statement.setMaxRecords(maxRecords);
+        }
+        if (recordsPerSecond != null) {
+            statement.setRecordsPerSecond(recordsPerSecond);
+        }
+        if (shortQuery != null) {
+            policy.shortQuery = shortQuery;
+        }
+        if (recordQueueSize != null) {
+            policy.recordQueueSize = recordQueueSize;
+        }
+        if (totalTimeout != null) {
+            policy.totalTimeout = totalTimeout;
+        }
+        if (maxConcurrentNodes != null) {
+            policy.maxConcurrentNodes = maxConcurrentNodes;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * Javadoc is not aware of the code modifications made by Lombok.
+     * You can fix it with either delombok or by adding a static inner class inside the class that uses the @Builder
+     * annotation,
+     * it will satisfy javadoc and won't interfere with the @Builder annotation's normal behaviour.
+     */
+    public static class QueryPolicyHintsBuilder {
+    }
+}
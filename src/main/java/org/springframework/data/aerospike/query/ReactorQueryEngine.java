@@ -17,6 +17,7 @@
 package org.springframework.data.aerospike.query;
 
 import com.aerospike.client.Key;
+import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.QueryPolicy;
 import com.aerospike.client.query.Filter;
@@ -26,7 +27,10 @@ import com.aerospike.client.reactor.IAerospikeReactorClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 /**
  * This class provides a multi-filter reactive query engine that augments the query capability in Aerospike.
@@ -79,6 +83,22 @@ public class ReactorQueryEngine {
      */
     public Flux<KeyRecord> select(String namespace, String set, String[] binNames, Filter filter,
                                   Qualifier... qualifiers) {
+        return select(namespace, set, binNames, null, filter, qualifiers);
+    }
+
+    /**
+     * Select records filtered by a Filter and Qualifiers using a query policy adjusted by hints
+     *
+     * @param namespace   Namespace to storing the data
+     * @param set         Set storing the data
+     * @param binNames    Bin names to return from the query
+     * @param policyHints Hints overriding the query policy, can be null
+     * @param filter      Aerospike Filter to be used
+     * @param qualifiers  Zero or more Qualifiers for the update query
+     * @return A Flux<KeyRecord> to iterate over the results
+     */
+    public Flux<KeyRecord> select(String namespace, String set, String[] binNames, QueryPolicyHints policyHints,
+                                  Filter filter, Qualifier... qualifiers) {
         /*
          * singleton using primary key
          */
@@ -92,15 +112,174 @@ public class ReactorQueryEngine {
         /*
          *  query with filters
          */
-        Statement statement = statementBuilder.build(namespace, set, filter, qualifiers, binNames);
         QueryPolicy localQueryPolicy = new QueryPolicy(queryPolicy);
-        localQueryPolicy.filterExp = filterExpressionsBuilder.build(qualifiers);
+        QueryPlan plan = plan(namespace, set, filter, qualifiers);
+        if (plan != null && plan.isUnion()) {
+            return selectUnion(namespace, set, binNames, localQueryPolicy, policyHints, 0, plan, qualifiers);
+        }
+        if (plan != null && plan.isIntersection()) {
+            return selectIntersection(namespace, set, binNames, true, policyHints, 0, plan, qualifiers);
+        }
+
+        Statement statement = statementBuilder.build(namespace, set, filter, plan, binNames);
+        localQueryPolicy.filterExp = filterExpressionsBuilder.build(qualifiers, plan);
+        if (policyHints != null) {
+            policyHints.applyTo(localQueryPolicy, statement);
+        }
+        if (!scansEnabled && statement.getFilter() == null) {
+            return Flux.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
+        }
+        return client.query(localQueryPolicy, statement);
+    }
+
+    /**
+     * Select keys and metadata of records filtered by a Filter and Qualifiers without transferring the bins
+     *
+     * @param namespace  Namespace to storing the data
+     * @param set        Set storing the data
+     * @param maxRecords Approximate maximum amount of records to return, 0 for no limit
+     * @param filter     Aerospike Filter to be used
+     * @param qualifiers Zero or more Qualifiers for the query
+     * @return A Flux<KeyRecord> to iterate over the results, the records contain no bins
+     */
+    public Flux<KeyRecord> selectWithoutBins(String namespace, String set, long maxRecords, Filter filter,
+                                             Qualifier... qualifiers) {
+        return selectWithoutBins(namespace, set, maxRecords, null, filter, qualifiers);
+    }
+
+    /**
+     * Select keys and metadata of records filtered by a Filter and Qualifiers without transferring the bins using a
+     * query policy adjusted by hints
+     *
+     * @param namespace   Namespace to storing the data
+     * @param set         Set storing the data
+     * @param maxRecords  Approximate maximum amount of records to return, 0 for the limit of the hints or no limit
+     * @param policyHints Hints overriding the query policy, can be null
+     * @param filter      Aerospike Filter to be used
+     * @param qualifiers  Zero or more Qualifiers for the query
+     * @return A Flux<KeyRecord> to iterate over the results, the records contain no bins
+     */
+    public Flux<KeyRecord> selectWithoutBins(String namespace, String set, long maxRecords,
+                                             QueryPolicyHints policyHints, Filter filter, Qualifier... qualifiers) {
+        if (qualifiers != null && qualifiers.length == 1 && qualifiers[0] instanceof KeyQualifier kq) {
+            Key key = kq.makeKey(namespace, set);
+            return Flux.from(client.getHeader(null, key))
+                .filter(keyRecord -> Objects.nonNull(keyRecord.record));
+        }
+
+        QueryPolicy localQueryPolicy = new QueryPolicy(queryPolicy);
+        localQueryPolicy.includeBinData = false;
+        QueryPlan plan = plan(namespace, set, filter, qualifiers);
+        if (plan != null && plan.isUnion()) {
+            return selectUnion(namespace, set, null, localQueryPolicy, policyHints, maxRecords, plan, qualifiers);
+        }
+        if (plan != null && plan.isIntersection()) {
+            return selectIntersection(namespace, set, null, false, policyHints, maxRecords, plan, qualifiers);
+        }
+
+        Statement statement = statementBuilder.build(namespace, set, filter, plan, null);
+        localQueryPolicy.filterExp = filterExpressionsBuilder.build(qualifiers, plan);
+        if (policyHints != null) {
+            policyHints.applyTo(localQueryPolicy, statement);
+        }
+        if (maxRecords > 0) {
+            statement.setMaxRecords(maxRecords);
+        }
         if (!scansEnabled && statement.getFilter() == null) {
             return Flux.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
         }
         return client.query(localQueryPolicy, statement);
     }
 
+    /**
+     * Plan a select once, a union or an intersection is only chosen if no secondary index filter is given.
+     *
+     * @return The plan of the query, null if there are no qualifiers.
+     */
+    private QueryPlan plan(String namespace, String set, Filter filter, Qualifier[] qualifiers) {
+        if (qualifiers == null || qualifiers.length == 0) {
+            return null;
+        }
+        return filter == null ? statementBuilder.planSelect(namespace, set, qualifiers)
+            : statementBuilder.plan(namespace, set, qualifiers);
+    }
+
+    /**
+     * Run one secondary index query per branch of a union plan concurrently, each with the filter expression of all
+     * the qualifiers, and merge their records without duplicates.
+     */
+    private Flux<KeyRecord> selectUnion(String namespace, String set, String[] binNames, QueryPolicy policy,
+                                        QueryPolicyHints policyHints, long maxRecords, QueryPlan unionPlan,
+                                        Qualifier[] qualifiers) {
+        policy.filterExp = filterExpressionsBuilder.build(qualifiers);
+        List<Statement> statements = new ArrayList<>(unionPlan.getBranches().size());
+        for (QueryPlan branch : unionPlan.getBranches()) {
+            Statement statement = statementBuilder.build(namespace, set, branch.getFilter(), null, binNames);
+            if (policyHints != null) {
+                policyHints.applyTo(policy, statement);
+            }
+            if (maxRecords > 0) {
+                statement.setMaxRecords(maxRecords);
+            }
+            statements.add(statement);
+        }
+        return Flux.fromIterable(statements)
+            .flatMap(statement -> client.query(policy, statement), statements.size())
+            .distinct(keyRecord -> keyRecord.key, DigestSet::new, DigestSet::add, digests -> { });
+    }
+
+    /**
+     * Run a key-only secondary index query per branch of an intersection plan concurrently, intersect the digests of
+     * their records and batch read the remaining records with the filter expression of all the qualifiers, in batches
+     * of {@link QueryEngine#INTERSECTION_BATCH_SIZE} keys.
+     */
+    private Flux<KeyRecord> selectIntersection(String namespace, String set, String[] binNames,
+                                               boolean includeBinData, QueryPolicyHints policyHints, long maxRecords,
+                                               QueryPlan intersectionPlan, Qualifier[] qualifiers) {
+        QueryPolicy keysPolicy = new QueryPolicy(queryPolicy);
+        keysPolicy.includeBinData = false;
+        List<Statement> statements = new ArrayList<>(intersectionPlan.getBranches().size());
+        for (QueryPlan branch : intersectionPlan.getBranches()) {
+            Statement statement = statementBuilder.build(namespace, set, branch.getFilter(), null);
+            if (policyHints != null) {
+                policyHints.applyTo(keysPolicy, statement);
+                // limiting a branch would drop keys of the intersection
+                statement.setMaxRecords(0);
+            }
+            statements.add(statement);
+        }
+        long limit = maxRecords > 0 ? maxRecords : QueryEngine.getMaxRecords(policyHints);
+        BatchPolicy batchPolicy = new BatchPolicy(client.getBatchPolicyDefault());
+        batchPolicy.filterExp = filterExpressionsBuilder.build(qualifiers);
+
+        List<Statement> leadingStatements = statements.subList(0, statements.size() - 1);
+        Statement lastStatement = statements.get(statements.size() - 1);
+
+        return Flux.fromIterable(leadingStatements)
+            .flatMapSequential(statement -> client.query(keysPolicy, statement)
+                .collect(DigestSet::new, (digests, keyRecord) -> digests.add(keyRecord.key)), leadingStatements.size())
+            .reduce(DigestSet::intersect)
+            // the last branch runs once the others are intersected, so only user keys of matching records are kept
+            .flatMap(matches -> matches.isEmpty() ? Mono.just(matches) : client.query(keysPolicy, lastStatement)
+                .filter(keyRecord -> matches.contains(keyRecord.key.digest))
+                // keys returned by the query carry the user key that the batch read does not return
+                .collect(DigestSet::withUserKeys, (keys, keyRecord) -> keys.add(keyRecord.key)))
+            .flatMapMany(matches -> Flux.fromArray(matches.toKeys(namespace, set, limit)))
+            .buffer(QueryEngine.INTERSECTION_BATCH_SIZE)
+            .concatMap(chunk -> {
+                Key[] keys = chunk.toArray(Key[]::new);
+                if (!includeBinData) {
+                    return client.getHeaders(batchPolicy, keys);
+                }
+                return binNames == null || binNames.length == 0 ? client.get(batchPolicy, keys)
+                    : client.get(batchPolicy, keys, binNames);
+            })
+            .flatMapIterable(keysRecords -> IntStream.range(0, keysRecords.keys.length)
+                .filter(index -> keysRecords.records[index] != null)
+                .mapToObj(index -> new KeyRecord(keysRecords.keys[index], keysRecords.records[index]))
+                .toList());
+    }
+
     @SuppressWarnings("SameParameterValue")
     private Mono<KeyRecord> getRecord(Policy policy, Key key, String[] binNames) {
         if (binNames == null || binNames.length == 0) {
@@ -15,10 +15,23 @@
  */
 package org.springframework.data.aerospike.query;
 
+import com.aerospike.client.Value;
+import com.aerospike.client.command.ParticleType;
 import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.Statement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.aerospike.query.cache.IndexesCache;
-import org.springframework.data.aerospike.query.model.IndexedField;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStats;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * @author peter
@@ -26,7 +39,17 @@ import org.springframework.data.aerospike.query.model.IndexedField;
  */
 public class StatementBuilder {
 
+    private static final Logger log = LoggerFactory.getLogger(StatementBuilder.class);
+    // share of index entries assumed to match a range or a geo filter
+    private static final long RANGE_SELECTIVITY_DIVISOR = 3;
+
+    public static final int DEFAULT_MAX_INDEX_QUERY_FAN_OUT = 16;
+    // below this estimate a single secondary index query is cheaper than an extra query and a batch read
+    private static final long INDEX_INTERSECTION_MIN_ENTRIES = 100;
+
     private final IndexesCache indexesCache;
+    private int maxIndexQueryFanOut = DEFAULT_MAX_INDEX_QUERY_FAN_OUT;
+    private long indexIntersectionMaxEntries = 0;
 
     public StatementBuilder(IndexesCache indexesCache) {
         this.indexesCache = indexesCache;
@@ -37,6 +60,22 @@ public class StatementBuilder {
     }
 
     public Statement build(String namespace, String set, Filter filter, Qualifier[] qualifiers, String[] binNames) {
+        QueryPlan plan = qualifiers != null && qualifiers.length != 0 ? plan(namespace, set, qualifiers) : null;
+        return build(namespace, set, filter, plan, binNames);
+    }
+
+    /**
+     * Build the statement of a query that was already planned, the secondary index filter of an index query plan
+     * replaces the given filter.
+     *
+     * @param namespace Namespace of the query.
+     * @param set       Set of the query.
+     * @param filter    Secondary index filter, can be null.
+     * @param plan      Plan of the query, can be null if there are no qualifiers.
+     * @param binNames  Bin names to return, can be null.
+     * @return The statement of the query.
+     */
+    public Statement build(String namespace, String set, Filter filter, QueryPlan plan, String[] binNames) {
         Statement stmt = new Statement();
         stmt.setNamespace(namespace);
         stmt.setSetName(set);
@@ -46,54 +85,282 @@ public class StatementBuilder {
         if (filter != null) {
             stmt.setFilter(filter);
         }
-        if (qualifiers != null && qualifiers.length != 0) {
-            updateStatement(stmt, qualifiers);
+        if (plan != null) {
+            log.debug("Query plan for {}.{}: {}", namespace, set, plan);
+            if (plan.isIndexQuery()) {
+                stmt.setFilter(plan.getFilter());
+            }
         }
         return stmt;
     }
 
-    private void updateStatement(Statement stmt, Qualifier[] qualifiers) {
-        /*
-         *  query with filters
-         */
-        for (int i = 0; i < qualifiers.length; i++) {
-            Qualifier qualifier = qualifiers[i];
+    /**
+     * Plan a query without a given secondary index filter once: a union (see
+     * {@link #planUnion(String, String, Qualifier[])}) or an intersection (see
+     * {@link #planIntersection(String, String, Qualifier[])}) if one is chosen, otherwise the single secondary index
+     * query or scan of {@link #plan(String, String, Qualifier[])}. The index of every candidate qualifier is looked up
+     * once.
+     *
+     * @param namespace  Namespace of the query.
+     * @param set        Set of the query.
+     * @param qualifiers Qualifiers of the query, combined with AND.
+     * @return The plan of the query.
+     */
+    public QueryPlan planSelect(String namespace, String set, Qualifier[] qualifiers) {
+        if (qualifiers == null) {
+            return QueryPlan.scan();
+        }
+        List<QueryPlan> candidatePlans = planCandidates(namespace, set, qualifiers);
+        QueryPlan single = cheapest(candidatePlans);
+        QueryPlan union = planUnion(namespace, set, qualifiers, single);
+        if (union != null) {
+            return union;
+        }
+        QueryPlan intersection = planIntersection(candidatePlans);
+        return intersection != null ? intersection : single;
+    }
+
+    /**
+     * Choose the qualifier to be served by a secondary index. Candidates are the qualifiers that have an index of the
+     * matching type and collection type, the one with the lowest estimated amount of matching entries is chosen.
+     * Candidates without index statistics are only chosen if no candidate has statistics, in the order of the
+     * qualifiers.
+     *
+     * @param namespace  Namespace of the query.
+     * @param set        Set of the query.
+     * @param qualifiers Qualifiers of the query, combined with AND.
+     * @return The plan of the query, a scan if no qualifier can use an index.
+     */
+    public QueryPlan plan(String namespace, String set, Qualifier[] qualifiers) {
+        if (qualifiers == null) {
+            return QueryPlan.scan();
+        }
+        return cheapest(planCandidates(namespace, set, qualifiers));
+    }
 
+    /**
+     * Choose an OR or IN qualifier whose branches (or values) can all be served by secondary indexes, to run the query
+     * as a union of one secondary index query per branch. A union is only chosen over a single secondary index query
+     * if both have statistics and the union is estimated to match fewer entries.
+     *
+     * @param namespace  Namespace of the query.
+     * @param set        Set of the query.
+     * @param qualifiers Qualifiers of the query, combined with AND.
+     * @return The union plan, null if the query should run as a single statement.
+     */
+    public QueryPlan planUnion(String namespace, String set, Qualifier[] qualifiers) {
+        if (qualifiers == null) {
+            return null;
+        }
+        return planUnion(namespace, set, qualifiers, plan(namespace, set, qualifiers));
+    }
+
+    private QueryPlan planUnion(String namespace, String set, Qualifier[] qualifiers, QueryPlan single) {
+        if (maxIndexQueryFanOut <= 0) {
+            return null;
+        }
+        QueryPlan best = null;
+        for (Qualifier qualifier : qualifiers) {
+            if (qualifier == null) continue;
+            List<Qualifier> branches = getUnionBranches(qualifier);
+            if (branches.isEmpty() || branches.size() > maxIndexQueryFanOut) continue;
+            QueryPlan union = planUnionBranches(namespace, set, qualifier, branches);
+            if (union != null && (best == null || isCheaper(union, best))) {
+                best = union;
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+        return !single.isIndexQuery() || isCheaper(best, single) ? best : null;
+    }
+
+    private static List<Qualifier> getUnionBranches(Qualifier qualifier) {
+        if (qualifier.getOperation() == FilterOperation.OR) {
+            Qualifier[] branches = qualifier.getQualifiers();
+            return branches == null || Arrays.stream(branches).anyMatch(Objects::isNull) ? List.of()
+                : List.of(branches);
+        }
+        if (qualifier.getOperation() == FilterOperation.IN && qualifier.getField() != null
+            && qualifier.getValue1() != null && qualifier.getValue1().getType() == ParticleType.LIST) {
+            // same as the filter expression of IN: an EQ qualifier per value
+            return ((List<?>) qualifier.getValue1().getObject()).stream()
+                .map(value -> new Qualifier(new Qualifier.QualifierBuilder()
+                    .setField(qualifier.getField())
+                    .setIgnoreCase(Boolean.TRUE.equals(qualifier.get(Qualifier.IGNORE_CASE)))
+                    .setFilterOperation(FilterOperation.EQ)
+                    .setValue1(Value.get(value))))
+                .toList();
+        }
+        return List.of();
+    }
+
+    private QueryPlan planUnionBranches(String namespace, String set, Qualifier qualifier, List<Qualifier> branches) {
+        List<QueryPlan> branchPlans = new ArrayList<>(branches.size());
+        long estimatedRecords = 0;
+        for (Qualifier branch : branches) {
+            QueryPlan branchPlan = plan(namespace, set, new Qualifier[]{branch});
+            if (!branchPlan.isIndexQuery()) {
+                return null;
+            }
+            branchPlans.add(branchPlan);
+            if (estimatedRecords != QueryPlan.UNKNOWN_ESTIMATE) {
+                estimatedRecords = branchPlan.getEstimatedRecords() == QueryPlan.UNKNOWN_ESTIMATE
+                    ? QueryPlan.UNKNOWN_ESTIMATE : estimatedRecords + branchPlan.getEstimatedRecords();
+            }
+        }
+        return QueryPlan.union(qualifier, branchPlans, estimatedRecords);
+    }
+
+    /**
+     * Choose the qualifiers combined with AND to be served by an intersection of key-only secondary index queries. An
+     * intersection is chosen if at least two qualifiers have an index with statistics estimating at most
+     * indexIntersectionMaxEntries matching entries each, and the most selective of them matches too many entries to be
+     * cheaper as a single secondary index query.
+     *
+     * @param namespace  Namespace of the query.
+     * @param set        Set of the query.
+     * @param qualifiers Qualifiers of the query, combined with AND.
+     * @return The intersection plan with the branches ordered from the most selective, null if the query should run
+     * as a single statement.
+     */
+    public QueryPlan planIntersection(String namespace, String set, Qualifier[] qualifiers) {
+        if (qualifiers == null) {
+            return null;
+        }
+        return planIntersection(planCandidates(namespace, set, qualifiers));
+    }
+
+    private QueryPlan planIntersection(List<QueryPlan> candidatePlans) {
+        if (indexIntersectionMaxEntries <= 0) {
+            return null;
+        }
+        List<QueryPlan> branches = new ArrayList<>();
+        for (QueryPlan plan : candidatePlans) {
+            if (plan.getEstimatedRecords() != QueryPlan.UNKNOWN_ESTIMATE
+                && plan.getEstimatedRecords() <= indexIntersectionMaxEntries) {
+                branches.add(plan);
+            }
+        }
+        if (branches.size() < 2) {
+            return null;
+        }
+        branches.sort(Comparator.comparingLong(QueryPlan::getEstimatedRecords));
+        long mostSelective = branches.get(0).getEstimatedRecords();
+        return mostSelective < INDEX_INTERSECTION_MIN_ENTRIES ? null : QueryPlan.intersection(branches, mostSelective);
+    }
+
+    /**
+     * Set the maximum estimated amount of entries matched by each qualifier of an index intersection, see
+     * {@link #planIntersection(String, String, Qualifier[])}. 0 disables index intersections.
+     *
+     * @param indexIntersectionMaxEntries The maximum estimated amount of entries. Must not be negative.
+     */
+    public void setIndexIntersectionMaxEntries(long indexIntersectionMaxEntries) {
+        Assert.isTrue(indexIntersectionMaxEntries >= 0, "Index intersection max entries must not be negative");
+        this.indexIntersectionMaxEntries = indexIntersectionMaxEntries;
+    }
+
+    public long getIndexIntersectionMaxEntries() {
+        return indexIntersectionMaxEntries;
+    }
+
+    /**
+     * Set the maximum amount of secondary index queries an OR or IN qualifier is split into, queries with more
+     * branches are run as a single statement. 0 disables splitting.
+     *
+     * @param maxIndexQueryFanOut The maximum amount of secondary index queries of a union. Must not be negative.
+     */
+    public void setMaxIndexQueryFanOut(int maxIndexQueryFanOut) {
+        Assert.isTrue(maxIndexQueryFanOut >= 0, "Max index query fan-out must not be negative");
+        this.maxIndexQueryFanOut = maxIndexQueryFanOut;
+    }
+
+    public int getMaxIndexQueryFanOut() {
+        return maxIndexQueryFanOut;
+    }
+
+    private List<Qualifier> getCandidates(Qualifier[] qualifiers) {
+        List<Qualifier> candidates = new ArrayList<>();
+        for (Qualifier qualifier : qualifiers) {
             if (qualifier == null) continue;
             if (qualifier.getOperation() == FilterOperation.AND) {
-                // no sense to use secondary index in case of OR
-                // as it requires to enlarge selection to more than 1 field
                 for (Qualifier q : qualifier.getQualifiers()) {
-                    if (q != null && isIndexedBin(stmt, q)) {
-                        Filter filter = q.asFilter();
-                        if (filter != null) {
-                            stmt.setFilter(filter);
-                            q.asFilter(true);
-                            break;
-                        }
+                    if (q != null) {
+                        candidates.add(q);
                     }
                 }
-            } else if (isIndexedBin(stmt, qualifier)) {
-                Filter filter = qualifier.asFilter();
-                if (filter != null) {
-                    stmt.setFilter(filter);
-                    qualifier.asFilter(true);
-                    /* If this was the only qualifier, we do not need to do anymore work, just return
-                     * the query iterator.
-                     */
-                    if (qualifiers.length == 1) {
-                        return;
-                    }
-                    break;
-                }
+            } else {
+                // no sense to use secondary index in case of OR
+                // as it requires to enlarge selection to more than 1 field
+                candidates.add(qualifier);
             }
         }
+        return candidates;
     }
 
-    private boolean isIndexedBin(Statement stmt, Qualifier qualifier) {
-        if (qualifier.getField() == null) return false;
+    /**
+     * @return the index query plans of the candidate qualifiers that can use an index, in the order of the qualifiers.
+     */
+    private List<QueryPlan> planCandidates(String namespace, String set, Qualifier[] qualifiers) {
+        List<QueryPlan> plans = new ArrayList<>();
+        for (Qualifier candidate : getCandidates(qualifiers)) {
+            QueryPlan plan = planIndexQuery(namespace, set, candidate);
+            if (plan != null) {
+                plans.add(plan);
+            }
+        }
+        return plans;
+    }
 
-        // TODO: skips check on index-type and index-collection-type
-        return indexesCache.hasIndexFor(new IndexedField(stmt.getNamespace(), stmt.getSetName(), qualifier.getField()));
+    private static QueryPlan cheapest(List<QueryPlan> candidatePlans) {
+        QueryPlan best = QueryPlan.scan();
+        for (QueryPlan plan : candidatePlans) {
+            if (isCheaper(plan, best)) {
+                best = plan;
+            }
+        }
+        return best;
+    }
+
+    private QueryPlan planIndexQuery(String namespace, String set, Qualifier qualifier) {
+        IndexKey indexKey = qualifier.getIndexKey(namespace, set);
+        if (indexKey == null) {
+            return null;
+        }
+        Index index = indexesCache.getIndex(indexKey).orElse(null);
+        if (index == null) {
+            return null;
+        }
+        Filter filter = qualifier.asFilter();
+        if (filter == null) {
+            return null;
+        }
+        long estimatedRecords = indexesCache.getIndexStats(indexKey)
+            .map(stats -> estimateRecords(qualifier.getOperation(), stats))
+            .orElse(QueryPlan.UNKNOWN_ESTIMATE);
+        return QueryPlan.index(qualifier, index, filter, estimatedRecords);
+    }
+
+    private static boolean isCheaper(QueryPlan plan, QueryPlan best) {
+        if (!best.isIndexQuery() && !best.isUnion()) {
+            return true;
+        }
+        if (plan.getEstimatedRecords() == QueryPlan.UNKNOWN_ESTIMATE) {
+            return false;
+        }
+        return best.getEstimatedRecords() == QueryPlan.UNKNOWN_ESTIMATE
+            || plan.getEstimatedRecords() < best.getEstimatedRecords();
+    }
+
+    private static long estimateRecords(FilterOperation operation, IndexStats stats) {
+        if (stats.getEntries() <= 0) {
+            return QueryPlan.UNKNOWN_ESTIMATE;
+        }
+        return switch (operation) {
+            case EQ, MAP_VAL_EQ_BY_KEY, MAP_KEYS_CONTAIN, MAP_VAL_CONTAIN, LIST_VAL_CONTAINING ->
+                stats.getEntriesPerBval() > 0 ? (long) Math.ceil(stats.getEntriesPerBval()) : stats.getEntries();
+            default -> Math.max(stats.getEntries() / RANGE_SELECTIVITY_DIVISOR, 1);
+        };
     }
 }
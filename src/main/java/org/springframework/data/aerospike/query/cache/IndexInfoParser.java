@@ -44,6 +44,7 @@ public class IndexInfoParser {
     private static final String GEO2DSPHERE_TYPE = "GEO2DSPHERE";
     private static final String NUMERIC_TYPE = "NUMERIC";
     private static final String NONE = "NONE";
+    private static final String DEFAULT = "DEFAULT";
     private static final String LIST = "LIST";
     private static final String MAPKEYS = "MAPKEYS";
     private static final String MAPVALUES = "MAPVALUES";
@@ -131,7 +132,7 @@ public class IndexInfoParser {
         if (indexTypeString == null) {
             throw new IllegalStateException("Index type not present in info: " + values);
         }
-        if (indexTypeString.equalsIgnoreCase(NONE))
+        if (indexTypeString.equalsIgnoreCase(NONE) || indexTypeString.equalsIgnoreCase(DEFAULT))
             return IndexCollectionType.DEFAULT;
         else if (indexTypeString.equalsIgnoreCase(LIST))
             return IndexCollectionType.LIST;
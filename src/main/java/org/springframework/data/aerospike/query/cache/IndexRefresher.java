@@ -15,15 +15,20 @@
  */
 package org.springframework.data.aerospike.query.cache;
 
+import com.aerospike.client.AerospikeException;
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Info;
 import com.aerospike.client.cluster.Node;
 import com.aerospike.client.policy.InfoPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStats;
 import org.springframework.data.aerospike.query.model.IndexesInfo;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * @author Anastasiia Smirnova
@@ -51,13 +56,45 @@ public class IndexRefresher {
             .filter(Node::isActive)
             .findAny() // we do want to send info request to the random node (sending request to the first node may
             // lead to uneven request distribution)
-            .map(node -> Info.request(infoPolicy, node, indexOperations.buildGetIndexesCommand()))
-            .map(indexOperations::parseIndexesInfo)
+            .map(node -> withStats(node,
+                indexOperations.parseIndexesInfo(Info.request(infoPolicy, node,
+                    indexOperations.buildGetIndexesCommand()))))
             .orElse(IndexesInfo.empty());
         log.debug("Loaded indexes: {}", cache.indexes);
         this.indexesCacheUpdater.update(cache);
     }
 
+    private IndexesInfo withStats(Node node, IndexesInfo indexesInfo) {
+        if (indexesInfo.indexes.isEmpty()) {
+            return indexesInfo;
+        }
+        Map<IndexKey, String> commands = new HashMap<>();
+        indexesInfo.indexes.forEach((key, index) ->
+            commands.put(key, indexOperations.buildGetIndexStatsCommand(index)));
+        Map<String, String> responses;
+        try {
+            responses = Info.request(infoPolicy, node, commands.values().toArray(String[]::new));
+        } catch (AerospikeException e) {
+            // statistics only drive the choice between indexes, queries still use indexes without them
+            log.warn("Failed to load index statistics", e);
+            return indexesInfo;
+        }
+        Map<IndexKey, IndexStats> stats = new HashMap<>();
+        commands.forEach((key, command) -> {
+            String response = responses.get(command);
+            if (response != null) {
+                try {
+                    stats.put(key, indexOperations.parseIndexStats(response));
+                } catch (IllegalStateException e) {
+                    // an index without statistics is still used, it is just not preferred over the others
+                    log.warn("Failed to parse index statistics: {}", response, e);
+                }
+            }
+        });
+        log.debug("Loaded index statistics: {}", stats);
+        return IndexesInfo.of(indexesInfo.indexes, stats);
+    }
+
     public void clearCache() {
         indexesCacheUpdater.update(IndexesInfo.empty());
     }
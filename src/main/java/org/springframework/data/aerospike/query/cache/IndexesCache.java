@@ -17,6 +17,7 @@ package org.springframework.data.aerospike.query.cache;
 
 import org.springframework.data.aerospike.query.model.Index;
 import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStats;
 import org.springframework.data.aerospike.query.model.IndexedField;
 
 import java.util.Optional;
@@ -29,6 +30,12 @@ public interface IndexesCache {
      */
     Optional<Index> getIndex(IndexKey indexKey);
 
+    /**
+     * @param indexKey to search by
+     * @return Optional {@link IndexStats} of the index, empty if the index or its statistics are not loaded
+     */
+    Optional<IndexStats> getIndexStats(IndexKey indexKey);
+
     /**
      * @param indexedField to search by
      * @return true if there is an index for the given indexed field
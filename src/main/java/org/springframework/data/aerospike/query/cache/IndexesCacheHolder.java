@@ -17,6 +17,7 @@ package org.springframework.data.aerospike.query.cache;
 
 import org.springframework.data.aerospike.query.model.Index;
 import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStats;
 import org.springframework.data.aerospike.query.model.IndexedField;
 import org.springframework.data.aerospike.query.model.IndexesInfo;
 
@@ -34,6 +35,11 @@ public class IndexesCacheHolder implements IndexesCache, IndexesCacheUpdater {
         return Optional.ofNullable(cache.indexes.get(indexKey));
     }
 
+    @Override
+    public Optional<IndexStats> getIndexStats(IndexKey indexKey) {
+        return Optional.ofNullable(cache.stats.get(indexKey));
+    }
+
     @Override
     public boolean hasIndexFor(IndexedField indexedField) {
         return cache.indexedFields.contains(indexedField);
@@ -17,6 +17,7 @@ package org.springframework.data.aerospike.query.cache;
 
 import org.springframework.data.aerospike.query.model.Index;
 import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStats;
 import org.springframework.data.aerospike.query.model.IndexesInfo;
 
 import java.util.Arrays;
@@ -34,6 +35,9 @@ public class InternalIndexOperations {
 
     // Base64 will return index context as a base64 response
     private static final String SINDEX_WITH_BASE64 = "sindex-list:;b64=true";
+    private static final String SINDEX_STAT = "sindex-stat:namespace=%s;indexname=%s";
+    private static final String ENTRIES = "entries";
+    private static final String ENTRIES_PER_BVAL = "entries_per_bval";
 
     private final IndexInfoParser indexInfoParser;
 
@@ -60,4 +64,37 @@ public class InternalIndexOperations {
     public String buildGetIndexesCommand() {
         return SINDEX_WITH_BASE64;
     }
+
+    public String buildGetIndexStatsCommand(Index index) {
+        return String.format(SINDEX_STAT, index.getNamespace(), index.getName());
+    }
+
+    /**
+     * Parse the response of a sindex-stat info command, statistics that the server does not report are 0.
+     *
+     * @param infoResponse Response of the command.
+     * @return statistics of the index
+     */
+    public IndexStats parseIndexStats(String infoResponse) {
+        long entries = 0;
+        double entriesPerBval = 0;
+        for (String property : infoResponse.split(";")) {
+            String[] keyValue = property.split("=", 2);
+            if (keyValue.length != 2) {
+                continue;
+            }
+            try {
+                switch (keyValue[0]) {
+                    case ENTRIES -> entries = Long.parseLong(keyValue[1]);
+                    case ENTRIES_PER_BVAL -> entriesPerBval = Double.parseDouble(keyValue[1]);
+                    default -> {
+                        // other statistics are not used
+                    }
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("Failed to parse index statistic: " + property, e);
+            }
+        }
+        return new IndexStats(entries, entriesPerBval);
+    }
 }
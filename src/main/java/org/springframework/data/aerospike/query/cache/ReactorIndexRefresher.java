@@ -15,13 +15,21 @@
  */
 package org.springframework.data.aerospike.query.cache;
 
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.cluster.Node;
 import com.aerospike.client.policy.InfoPolicy;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.aerospike.query.model.IndexStats;
 import org.springframework.data.aerospike.query.model.IndexesInfo;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * @author Sergii Karpenko
  */
@@ -43,15 +51,51 @@ public class ReactorIndexRefresher {
     }
 
     public Mono<Void> refreshIndexes() {
-        return client.info(infoPolicy, null, indexOperations.buildGetIndexesCommand())
+        return Mono.defer(() -> Arrays.stream(client.getAerospikeClient().getNodes())
+                .filter(Node::isActive)
+                .findAny() // random node, statistics are requested from the same node that listed the indexes
+                .map(this::loadIndexes)
+                .orElseGet(() -> Mono.just(IndexesInfo.empty())))
             .doOnSubscribe(subscription -> log.trace("Loading indexes"))
-            .doOnNext(indexInfo -> {
-                IndexesInfo cache = indexOperations.parseIndexesInfo(indexInfo);
+            .doOnNext(cache -> {
                 this.indexesCacheUpdater.update(cache);
                 log.debug("Loaded indexes: {}", cache.indexes);
             }).then();
     }
 
+    private Mono<IndexesInfo> loadIndexes(Node node) {
+        return client.info(infoPolicy, node, indexOperations.buildGetIndexesCommand())
+            .map(indexOperations::parseIndexesInfo)
+            .flatMap(indexesInfo -> withStats(node, indexesInfo));
+    }
+
+    private Mono<IndexesInfo> withStats(Node node, IndexesInfo indexesInfo) {
+        if (indexesInfo.indexes.isEmpty()) {
+            return Mono.just(indexesInfo);
+        }
+        return Flux.fromIterable(indexesInfo.indexes.entrySet())
+            .flatMap(entry -> client.info(infoPolicy, node, indexOperations.buildGetIndexStatsCommand(entry.getValue()))
+                .flatMap(response -> Mono.justOrEmpty(parseIndexStats(response)))
+                .map(stats -> Map.entry(entry.getKey(), stats)))
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .doOnNext(stats -> log.debug("Loaded index statistics: {}", stats))
+            .map(stats -> IndexesInfo.of(indexesInfo.indexes, stats))
+            // statistics only drive the choice between indexes, queries still use indexes without them
+            .onErrorResume(AerospikeException.class, e -> {
+                log.warn("Failed to load index statistics", e);
+                return Mono.just(indexesInfo);
+            });
+    }
+
+    private Optional<IndexStats> parseIndexStats(String response) {
+        try {
+            return Optional.of(indexOperations.parseIndexStats(response));
+        } catch (IllegalStateException e) {
+            log.warn("Failed to parse index statistics: {}", response, e);
+            return Optional.empty();
+        }
+    }
+
     public Mono<Void> clearCache() {
         return Mono.fromRunnable(() -> indexesCacheUpdater.update(IndexesInfo.empty()));
     }
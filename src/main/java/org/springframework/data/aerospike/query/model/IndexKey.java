@@ -23,6 +23,10 @@ import java.util.Arrays;
 import java.util.Objects;
 
 /**
+ * Key of a secondary index in the indexes cache: the bin, the type of the indexed values, the collection type and the
+ * context of the indexed element. A null collection type is the same as {@link IndexCollectionType#DEFAULT}, contexts
+ * are compared by their elements, a null context is the same as an empty one.
+ *
  * @author Anastasiia Smirnova
  */
 public class IndexKey {
@@ -85,13 +89,40 @@ public class IndexKey {
             Objects.equals(set, indexKey.set) &&
             Objects.equals(field, indexKey.field) &&
             type == indexKey.type &&
-            collectionType == indexKey.collectionType &&
-            ctx == indexKey.ctx;
+            getCollectionTypeOrDefault() == indexKey.getCollectionTypeOrDefault() &&
+            ctxEquals(ctx, indexKey.ctx);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(namespace, set, field, type, collectionType, ctx);
+        return Objects.hash(namespace, set, field, type, getCollectionTypeOrDefault(), ctxHashCode(ctx));
+    }
+
+    private IndexCollectionType getCollectionTypeOrDefault() {
+        return collectionType == null ? IndexCollectionType.DEFAULT : collectionType;
+    }
+
+    private static boolean ctxEquals(CTX[] ctx, CTX[] other) {
+        int length = ctx == null ? 0 : ctx.length;
+        if (length != (other == null ? 0 : other.length)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (ctx[i].id != other[i].id || !Objects.equals(ctx[i].value, other[i].value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int ctxHashCode(CTX[] ctx) {
+        int result = 1;
+        if (ctx != null) {
+            for (CTX element : ctx) {
+                result = 31 * result + Objects.hash(element.id, element.value);
+            }
+        }
+        return result;
     }
 
     @Override
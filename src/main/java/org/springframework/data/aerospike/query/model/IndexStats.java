@@ -0,0 +1,34 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query.model;
+
+import lombok.Value;
+
+/**
+ * Statistics of a secondary index as reported by a cluster node, used to estimate the selectivity of queries.
+ */
+@Value
+public class IndexStats {
+
+    /**
+     * Amount of index entries on the node, 0 if unknown.
+     */
+    long entries;
+    /**
+     * Average amount of entries per indexed bin value on the node, 0 if unknown.
+     */
+    double entriesPerBval;
+}
@@ -22,16 +22,18 @@ import java.util.stream.Collectors;
 
 public class IndexesInfo {
 
-    private static final IndexesInfo EMPTY = new IndexesInfo(Collections.emptyMap());
+    private static final IndexesInfo EMPTY = new IndexesInfo(Collections.emptyMap(), Collections.emptyMap());
 
     public final Map<IndexKey, Index> indexes;
+    public final Map<IndexKey, IndexStats> stats;
     public final Set<IndexedField> indexedFields;
 
-    private IndexesInfo(Map<IndexKey, Index> indexes) {
+    private IndexesInfo(Map<IndexKey, Index> indexes, Map<IndexKey, IndexStats> stats) {
         this.indexes = Collections.unmodifiableMap(indexes);
+        this.stats = Collections.unmodifiableMap(stats);
         this.indexedFields = indexes.keySet().stream()
             .map(key -> new IndexedField(key.getNamespace(), key.getSet(), key.getField()))
-            .distinct() // TODO: since we skip check on index type and index collection type in StatementBuilder
+            .distinct() // bin level only, queries match indexes by the whole IndexKey
             .collect(Collectors.collectingAndThen(Collectors.toSet(), Collections::unmodifiableSet));
     }
 
@@ -40,6 +42,10 @@ public class IndexesInfo {
     }
 
     public static IndexesInfo of(Map<IndexKey, Index> cache) {
-        return new IndexesInfo(cache);
+        return new IndexesInfo(cache, Collections.emptyMap());
+    }
+
+    public static IndexesInfo of(Map<IndexKey, Index> cache, Map<IndexKey, IndexStats> stats) {
+        return new IndexesInfo(cache, stats);
     }
 }
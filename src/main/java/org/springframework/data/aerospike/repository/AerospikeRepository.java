@@ -16,6 +16,8 @@
 package org.springframework.data.aerospike.repository;
 
 import com.aerospike.client.query.IndexType;
+import org.springframework.data.aerospike.core.model.AerospikeScrollPosition;
+import org.springframework.data.aerospike.core.model.AerospikeWindow;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.Repository;
@@ -54,4 +56,16 @@ public interface AerospikeRepository<T, ID> extends PagingAndSortingRepository<T
      * @return true if exists
      */
     boolean indexExists(String indexName);
+
+    /**
+     * Find a window of entities starting after the given position. Unlike offset paging, each window resumes on the
+     * server where the previous one stopped, see
+     * {@link org.springframework.data.aerospike.core.AerospikeOperations#scroll(Class, AerospikeScrollPosition, int)}.
+     *
+     * @param position The position to continue from, {@link AerospikeScrollPosition#initial()} for the first window.
+     *                 Must not be {@literal null}.
+     * @param limit    Maximum amount of entities in the window. Must be positive.
+     * @return A window of entities and the position after them.
+     */
+    AerospikeWindow<T> scroll(AerospikeScrollPosition position, int limit);
 }
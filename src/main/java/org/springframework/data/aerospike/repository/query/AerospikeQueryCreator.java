@@ -47,22 +47,26 @@ import java.util.Optional;
 public class AerospikeQueryCreator extends AbstractQueryCreator<Query, AerospikeCriteria> {
 
     private static final Logger LOG = LoggerFactory.getLogger(AerospikeQueryCreator.class);
+    // shared by all the creators, a creator is instantiated for every execution of a query method
+    private static final AerospikeMappingContext DEFAULT_CONTEXT = new AerospikeMappingContext();
+    private static final AerospikeCustomConversions CONVERSIONS =
+        new AerospikeCustomConversions(Collections.emptyList());
+    private static final MappingAerospikeConverter CONVERTER = getMappingAerospikeConverter(CONVERSIONS);
     private final AerospikeMappingContext context;
-    private final AerospikeCustomConversions conversions = new AerospikeCustomConversions(Collections.emptyList());
-    private final MappingAerospikeConverter converter = getMappingAerospikeConverter(conversions);
+    private final Integer maxResults;
 
     public AerospikeQueryCreator(PartTree tree, ParameterAccessor parameters) {
-        super(tree, parameters);
-        this.context = new AerospikeMappingContext();
+        this(tree, parameters, DEFAULT_CONTEXT);
     }
 
     public AerospikeQueryCreator(PartTree tree, ParameterAccessor parameters,
                                  AerospikeMappingContext context) {
         super(tree, parameters);
         this.context = context;
+        this.maxResults = tree.getMaxResults();
     }
 
-    private MappingAerospikeConverter getMappingAerospikeConverter(AerospikeCustomConversions conversions) {
+    private static MappingAerospikeConverter getMappingAerospikeConverter(AerospikeCustomConversions conversions) {
         MappingAerospikeConverter converter = new MappingAerospikeConverter(new AerospikeMappingContext(),
             conversions, new AerospikeTypeAliasAccessor());
         converter.afterPropertiesSet();
@@ -82,9 +86,9 @@ public class AerospikeQueryCreator extends AbstractQueryCreator<Query, Aerospike
 
         // converting if necessary (e.g., Date to Long so that proper filter expression or sIndex filter can be built)
         final Object value = v1;
-        Optional<Class<?>> basicTargetType = conversions.getCustomWriteTarget(v1.getClass());
+        Optional<Class<?>> basicTargetType = CONVERSIONS.getCustomWriteTarget(v1.getClass());
         v1 = basicTargetType
-            .<Object>map(aClass -> converter.getConversionService().convert(value, aClass))
+            .<Object>map(aClass -> CONVERTER.getConversionService().convert(value, aClass))
             .orElse(v1);
 
         return switch (part.getType()) {
@@ -171,7 +175,7 @@ public class AerospikeQueryCreator extends AbstractQueryCreator<Query, Aerospike
         qb.setField(fieldName)
             .setFilterOperation(op)
             .setIgnoreCase(ignoreCaseToBoolean(part))
-            .setConverter(converter);
+            .setConverter(CONVERTER);
 
         setNotNullQbValues(qb, value1, value2, value3, dotPath);
 
@@ -211,7 +215,7 @@ public class AerospikeQueryCreator extends AbstractQueryCreator<Query, Aerospike
     private boolean isPojo(Part part) { // if it is a first level POJO
         TypeInformation<?> type = TypeInformation.of(part.getProperty().getType());
         // returns true if it is a POJO or a Map
-        return !conversions.isSimpleType(part.getProperty().getType()) && !type.isCollectionLike();
+        return !CONVERSIONS.isSimpleType(part.getProperty().getType()) && !type.isCollectionLike();
     }
 
     @Override
@@ -241,6 +245,10 @@ public class AerospikeQueryCreator extends AbstractQueryCreator<Query, Aerospike
     @Override
     protected Query complete(AerospikeCriteria criteria, Sort sort) {
         Query query = criteria == null ? null : new Query(criteria).with(sort);
+        // Top/First limit of the method name
+        if (query != null && maxResults != null) {
+            query.setRows(maxResults);
+        }
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Created query {}", query);
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.repository.query;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.aerospike.annotation.QueryHints;
+import org.springframework.data.aerospike.query.QueryPolicyHints;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.lang.Nullable;
+
+import java.lang.reflect.Method;
+
+/**
+ * Aerospike specific {@link QueryMethod}, resolves the {@link QueryHints} of the method once.
+ */
+public class AerospikeQueryMethod extends QueryMethod {
+
+    @Nullable
+    private final QueryPolicyHints policyHints;
+
+    public AerospikeQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
+        super(method, metadata, factory);
+        this.policyHints = toPolicyHints(AnnotatedElementUtils.findMergedAnnotation(method, QueryHints.class));
+    }
+
+    /**
+     * @return hints overriding the query policy of the method's queries, {@literal null} if the method is not
+     * annotated with {@link QueryHints}.
+     */
+    @Nullable
+    public QueryPolicyHints getPolicyHints() {
+        return policyHints;
+    }
+
+    @Nullable
+    private static QueryPolicyHints toPolicyHints(@Nullable QueryHints hints) {
+        if (hints == null) {
+            return null;
+        }
+        return QueryPolicyHints.builder()
+            .maxRecords(hints.maxRecords() >= 0 ? hints.maxRecords() : null)
+            .recordsPerSecond(hints.recordsPerSecond() >= 0 ? hints.recordsPerSecond() : null)
+            .shortQuery(hints.shortQuery() ? Boolean.TRUE : null)
+            .recordQueueSize(hints.recordQueueSize() >= 0 ? hints.recordQueueSize() : null)
+            .totalTimeout(hints.totalTimeout() >= 0 ? hints.totalTimeout() : null)
+            .maxConcurrentNodes(hints.maxConcurrentNodes() >= 0 ? hints.maxConcurrentNodes() : null)
+            .build();
+    }
+}
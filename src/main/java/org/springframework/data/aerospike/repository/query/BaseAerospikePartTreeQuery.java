@@ -16,6 +16,7 @@
 package org.springframework.data.aerospike.repository.query;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
@@ -25,6 +26,7 @@ import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Constructor;
@@ -38,14 +40,20 @@ public abstract class BaseAerospikePartTreeQuery implements RepositoryQuery {
 
     protected final QueryMethod queryMethod;
     private final QueryMethodEvaluationContextProvider evaluationContextProvider;
-    private final Class<? extends AbstractQueryCreator<?, ?>> queryCreator;
+    // parsed once per query method, only the parameters are bound on execution
+    private final PartTree tree;
+    private final Constructor<? extends AbstractQueryCreator<?, ?>> queryCreatorConstructor;
 
     protected BaseAerospikePartTreeQuery(QueryMethod queryMethod,
                                          QueryMethodEvaluationContextProvider evalContextProvider,
                                          Class<? extends AbstractQueryCreator<?, ?>> queryCreator) {
         this.queryMethod = queryMethod;
         this.evaluationContextProvider = evalContextProvider;
-        this.queryCreator = queryCreator;
+        this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
+        this.queryCreatorConstructor = ClassUtils.getConstructorIfAvailable(queryCreator, PartTree.class,
+            ParameterAccessor.class);
+        Assert.notNull(queryCreatorConstructor, () -> "Query creator " + queryCreator.getName()
+            + " must have a constructor accepting PartTree and ParameterAccessor");
     }
 
     @Override
@@ -61,10 +69,11 @@ public abstract class BaseAerospikePartTreeQuery implements RepositoryQuery {
 
         if (accessor.getPageable().isPaged()) {
             q.setOffset(accessor.getPageable().getOffset());
-            q.setRows(accessor.getPageable().getPageSize());
+            q.setRows(getPageRows(query, accessor.getPageable()));
         } else {
             q.setOffset(-1);
-            q.setRows(-1);
+            // the Top/First limit, if any
+            q.setRows(query.getRows());
         }
 
         if (accessor.getSort().isSorted()) {
@@ -73,6 +82,10 @@ public abstract class BaseAerospikePartTreeQuery implements RepositoryQuery {
             q.setSort(query.getSort());
         }
 
+        if (queryMethod instanceof AerospikeQueryMethod aerospikeQueryMethod) {
+            q.setPolicyHints(aerospikeQueryMethod.getPolicyHints());
+        }
+
         if (q.getCriteria() instanceof SpelExpression) {
             EvaluationContext context = this.evaluationContextProvider.getEvaluationContext(queryMethod.getParameters(),
                 parameters);
@@ -82,11 +95,18 @@ public abstract class BaseAerospikePartTreeQuery implements RepositoryQuery {
         return q;
     }
 
-    public Query createQuery(ParametersParameterAccessor accessor) {
-        PartTree tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
+    /**
+     * Rows of a page limited by the Top/First limit of the method name, the results beyond the limit are not paged.
+     */
+    private static int getPageRows(Query query, Pageable pageable) {
+        if (!query.hasRows()) {
+            return pageable.getPageSize();
+        }
+        long remaining = Math.max(query.getRows() - pageable.getOffset(), 0);
+        return (int) Math.min(pageable.getPageSize(), remaining);
+    }
 
-        Constructor<? extends AbstractQueryCreator<?, ?>> constructor = ClassUtils
-            .getConstructorIfAvailable(queryCreator, PartTree.class, ParameterAccessor.class);
-        return (Query) BeanUtils.instantiateClass(constructor, tree, accessor).createQuery();
+    public Query createQuery(ParametersParameterAccessor accessor) {
+        return (Query) BeanUtils.instantiateClass(queryCreatorConstructor, tree, accessor).createQuery();
     }
 }
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.aerospike.repository.query;
 
+import org.springframework.data.aerospike.query.QueryPolicyHints;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
@@ -31,6 +32,7 @@ public class Query {
     private long offset = NOT_SPECIFIED;
     private int rows = NOT_SPECIFIED;
     private CriteriaDefinition criteria;
+    private QueryPolicyHints policyHints;
 
     /**
      * Creates new instance of {@link KeyValueQuery} with given criteria.
@@ -113,6 +115,24 @@ public class Query {
         this.rows = rows;
     }
 
+    /**
+     * Get the hints overriding the query policy.
+     *
+     * @return {@literal null} if not set.
+     */
+    public QueryPolicyHints getPolicyHints() {
+        return policyHints;
+    }
+
+    /**
+     * Set the hints overriding the query policy.
+     *
+     * @param policyHints can be {@literal null}.
+     */
+    public void setPolicyHints(QueryPolicyHints policyHints) {
+        this.policyHints = policyHints;
+    }
+
     /**
      * Add given {@link Sort}.
      *
@@ -147,6 +167,14 @@ public class Query {
         return this;
     }
 
+    /**
+     * @see Query#setPolicyHints(QueryPolicyHints)
+     */
+    public Query with(QueryPolicyHints policyHints) {
+        setPolicyHints(policyHints);
+        return this;
+    }
+
     public Query with(Sort sort) {
         if (sort == null) {
             return this;
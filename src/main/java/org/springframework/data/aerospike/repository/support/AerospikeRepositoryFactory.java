@@ -20,6 +20,7 @@ import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
 import org.springframework.data.aerospike.repository.query.AerospikePartTreeQuery;
 import org.springframework.data.aerospike.repository.query.AerospikeQueryCreator;
+import org.springframework.data.aerospike.repository.query.AerospikeQueryMethod;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.keyvalue.repository.support.QuerydslKeyValuePredicateExecutor;
 import org.springframework.data.keyvalue.repository.support.SimpleKeyValueRepository;
@@ -148,7 +149,7 @@ public class AerospikeRepositoryFactory extends RepositoryFactorySupport {
         public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata,
                                             ProjectionFactory projectionFactory,
                                             NamedQueries namedQueries) {
-            QueryMethod queryMethod = new QueryMethod(method, metadata, projectionFactory);
+            QueryMethod queryMethod = new AerospikeQueryMethod(method, metadata, projectionFactory);
             return new AerospikePartTreeQuery(queryMethod, evaluationContextProvider, this.aerospikeOperations,
                 this.queryCreator);
         }
@@ -19,6 +19,7 @@ import org.springframework.data.aerospike.core.ReactiveAerospikeOperations;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
 import org.springframework.data.aerospike.repository.query.AerospikeQueryCreator;
+import org.springframework.data.aerospike.repository.query.AerospikeQueryMethod;
 import org.springframework.data.aerospike.repository.query.ReactiveAerospikePartTreeQuery;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.keyvalue.repository.support.QuerydslKeyValuePredicateExecutor;
@@ -147,7 +148,7 @@ public class ReactiveAerospikeRepositoryFactory extends ReactiveRepositoryFactor
         public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata,
                                             ProjectionFactory projectionFactory,
                                             NamedQueries namedQueries) {
-            QueryMethod queryMethod = new QueryMethod(method, metadata, projectionFactory);
+            QueryMethod queryMethod = new AerospikeQueryMethod(method, metadata, projectionFactory);
             return new ReactiveAerospikePartTreeQuery(queryMethod, evaluationContextProvider, this.aerospikeOperations,
                 this.queryCreator);
         }
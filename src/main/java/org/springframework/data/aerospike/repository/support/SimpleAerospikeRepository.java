@@ -17,6 +17,8 @@ package org.springframework.data.aerospike.repository.support;
 
 import com.aerospike.client.query.IndexType;
 import org.springframework.data.aerospike.core.AerospikeOperations;
+import org.springframework.data.aerospike.core.model.AerospikeScrollPosition;
+import org.springframework.data.aerospike.core.model.AerospikeWindow;
 import org.springframework.data.aerospike.repository.AerospikeRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -30,6 +32,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class SimpleAerospikeRepository<T, ID> implements AerospikeRepository<T, ID> {
 
@@ -59,9 +62,7 @@ public class SimpleAerospikeRepository<T, ID> implements AerospikeRepository<T,
         Assert.notNull(entities, "The given Iterable of entities not be null!");
 
         List<S> result = IterableConverter.toList(entities);
-        for (S entity : result) {
-            save(entity);
-        }
+        operations.saveAll(result);
 
         return result;
     }
@@ -74,7 +75,7 @@ public class SimpleAerospikeRepository<T, ID> implements AerospikeRepository<T,
     @Override
     public void deleteAllById(Iterable<? extends ID> iterable) {
         Assert.notNull(iterable, "The given Iterable must not be null!");
-        iterable.forEach(this::deleteById);
+        operations.deleteByIds(iterable, entityInformation.getJavaType());
     }
 
     @Override
@@ -100,6 +101,11 @@ public class SimpleAerospikeRepository<T, ID> implements AerospikeRepository<T,
         return new PageImpl<>(content.collect(Collectors.toList()), pageable, totalCount);
     }
 
+    @Override
+    public AerospikeWindow<T> scroll(AerospikeScrollPosition position, int limit) {
+        return operations.scroll(entityInformation.getJavaType(), position, limit);
+    }
+
     @Override
     public boolean existsById(ID id) {
         return operations.exists(id, entityInformation.getJavaType());
@@ -128,9 +134,11 @@ public class SimpleAerospikeRepository<T, ID> implements AerospikeRepository<T,
 
     @Override
     public void deleteAll(Iterable<? extends T> entities) {
-        for (T entity : entities) {
-            delete(entity);
-        }
+        Assert.notNull(entities, "The given Iterable of entities must not be null!");
+        List<ID> ids = StreamSupport.stream(entities.spliterator(), false)
+            .map(entityInformation::getRequiredId)
+            .collect(Collectors.toList());
+        operations.deleteByIds(ids, entityInformation.getJavaType());
     }
 
     @Override
@@ -25,6 +25,10 @@ import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
 /**
  * Stub implementation of {@link ReactiveAerospikeRepository}.
  *
@@ -45,13 +49,13 @@ public class SimpleReactiveAerospikeRepository<T, ID> implements ReactiveAerospi
     @Override
     public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
         Assert.notNull(entities, "The given Iterable of entities must not be null!");
-        return Flux.fromIterable(entities).flatMap(this::save);
+        return operations.saveAll(Flux.fromIterable(entities));
     }
 
     @Override
     public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
         Assert.notNull(entityStream, "The given Publisher of entities must not be null!");
-        return Flux.from(entityStream).flatMap(this::save);
+        return operations.saveAll(entityStream);
     }
 
     @Override
@@ -80,7 +84,7 @@ public class SimpleReactiveAerospikeRepository<T, ID> implements ReactiveAerospi
     @Override
     public Flux<T> findAllById(Publisher<ID> publisher) {
         Assert.notNull(publisher, "The given publisher of Id's must not be null!");
-        return Flux.from(publisher).flatMap(id -> operations.findById(id, entityInformation.getJavaType()));
+        return operations.findByIds(publisher, entityInformation.getJavaType());
     }
 
     @Override
@@ -124,7 +128,7 @@ public class SimpleReactiveAerospikeRepository<T, ID> implements ReactiveAerospi
         Assert.notNull(iterable, "The given Iterable must not be null!");
         iterable.forEach(id ->
             Assert.notNull(id, "The given Iterable of entities must not contain null!"));
-        return Flux.fromIterable(iterable).flatMap(this::deleteById).then();
+        return operations.deleteByIds(iterable, entityInformation.getJavaType());
     }
 
     @Override
@@ -132,7 +136,10 @@ public class SimpleReactiveAerospikeRepository<T, ID> implements ReactiveAerospi
         Assert.notNull(entities, "The given Iterable of entities must not be null!");
         entities.forEach(entity ->
             Assert.notNull(entity, "The given Iterable of entities must not contain null!"));
-        return Flux.fromIterable(entities).flatMap(this::delete).then();
+        List<ID> ids = StreamSupport.stream(entities.spliterator(), false)
+            .map(entityInformation::getRequiredId)
+            .collect(Collectors.toList());
+        return operations.deleteByIds(ids, entityInformation.getJavaType());
     }
 
     @Override
@@ -55,6 +55,17 @@ public class Utils {
         Node randomNode = getRandomNode(nodes);
 
         String response = Info.request(randomNode, "get-config:context=namespace;id=" + namespace);
+        return parseReplicationFactor(namespace, response);
+    }
+
+    /**
+     * Parse the replication factor from the response of a "get-config:context=namespace;id=namespace" info request.
+     *
+     * @param namespace Name of the namespace the config was requested for.
+     * @param response  Info response.
+     * @return replication factor of the namespace.
+     */
+    public static int parseReplicationFactor(String namespace, String response) {
         if (response.equalsIgnoreCase("ns_type=unknown")) {
             throw new InvalidDataAccessResourceUsageException("Namespace: " + namespace + " does not exist");
         }
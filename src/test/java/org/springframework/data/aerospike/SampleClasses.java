@@ -32,6 +32,7 @@ import org.springframework.data.aerospike.convert.AerospikeReadData;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.mapping.Document;
 import org.springframework.data.aerospike.mapping.Field;
+import org.springframework.data.aerospike.mapping.WriteMode;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.PersistenceCreator;
 import org.springframework.data.annotation.TypeAlias;
@@ -414,6 +415,81 @@ public class SampleClasses {
         }
     }
 
+    @Data
+    @AllArgsConstructor
+    @Document(collection = "dirty-tracked-set", dirtyTracking = true)
+    public static class DirtyTrackedDocument {
+
+        @Id
+        String id;
+        String field1;
+        int field2;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @Document(collection = "dirty-tracked-set", dirtyTracking = true)
+    public static class VersionedDirtyTrackedDocument {
+
+        @Id
+        String id;
+        String field1;
+        @Version
+        Long version;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @Document(collection = "dirty-tracked-set", dirtyTracking = true, expiration = 600)
+    public static class ExpiringDirtyTrackedDocument {
+
+        @Id
+        String id;
+        String field1;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @Document(collection = "write-behind-set", writeBehind = true)
+    public static class WriteBehindDocument {
+
+        @Id
+        String id;
+        String field;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @Document(collection = "write-behind-set", writeBehind = true)
+    public static class VersionedWriteBehindDocument {
+
+        @Id
+        String id;
+        String field;
+        @Version
+        Long version;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @Document(collection = "replace-set", writeMode = WriteMode.REPLACE)
+    public static class ReplaceModeDocument {
+
+        @Id
+        String id;
+        String field;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @Document(collection = "update-set", writeMode = WriteMode.UPDATE)
+    public static class UpdateModeDocument {
+
+        @Id
+        String id;
+        String field;
+    }
+
     @Getter
     public static class VersionedClassWithAllArgsConstructor {
 
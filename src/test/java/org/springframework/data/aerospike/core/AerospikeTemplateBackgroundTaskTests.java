@@ -0,0 +1,72 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Value;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.repository.query.AerospikeCriteria;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AerospikeTemplateBackgroundTaskTests extends BaseBlockingIntegrationTests {
+
+    @Test
+    public void deleteAll_shouldDeleteMatchingDocuments() {
+        Person first = Person.builder().id(nextId()).firstName(id).age(1).build();
+        Person second = Person.builder().id(nextId()).firstName(id).age(2).build();
+        Person other = Person.builder().id(nextId()).firstName("other" + id).age(3).build();
+        template.insertAll(List.of(first, second, other));
+
+        template.deleteAll(firstNameQuery(id), Person.class).waitTillComplete();
+
+        assertThat(template.findById(first.getId(), Person.class)).isNull();
+        assertThat(template.findById(second.getId(), Person.class)).isNull();
+        assertThat(template.findById(other.getId(), Person.class)).isEqualTo(other);
+        template.delete(other); // cleanup
+    }
+
+    @Test
+    public void updateAll_shouldUpdateMatchingDocuments() {
+        Person first = Person.builder().id(nextId()).firstName(id).age(1).build();
+        Person other = Person.builder().id(nextId()).firstName("other" + id).age(3).build();
+        template.insertAll(List.of(first, other));
+
+        template.updateAll(firstNameQuery(id), Person.class, Operation.put(new Bin("age", 42))).waitTillComplete();
+
+        assertThat(template.findById(first.getId(), Person.class).getAge()).isEqualTo(42);
+        assertThat(template.findById(other.getId(), Person.class).getAge()).isEqualTo(3);
+        template.deleteByIds(List.of(first.getId(), other.getId()), Person.class); // cleanup
+    }
+
+    @Test
+    public void deleteAll_shouldRejectSortedQuery() {
+        Query query = firstNameQuery(id);
+        query.setSort(Sort.by("age"));
+
+        assertThatThrownBy(() -> template.deleteAll(query, Person.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Sort is not supported by background tasks");
+    }
+
+    @Test
+    public void updateAll_shouldRejectEmptyOperations() {
+        assertThatThrownBy(() -> template.updateAll(firstNameQuery(id), Person.class))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Query firstNameQuery(String firstName) {
+        return new Query(new AerospikeCriteria(new Qualifier.QualifierBuilder()
+            .setFilterOperation(FilterOperation.EQ)
+            .setField("firstName")
+            .setValue1(Value.get(firstName))));
+    }
+}
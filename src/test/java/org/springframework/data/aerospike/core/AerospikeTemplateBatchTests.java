@@ -0,0 +1,114 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.SampleClasses.VersionedClass;
+import org.springframework.data.aerospike.core.model.BatchEntryResult;
+import org.springframework.data.aerospike.core.model.BatchEntryResult.EntryType;
+import org.springframework.data.aerospike.core.model.BatchEntryResults;
+import org.springframework.data.aerospike.sample.Person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AerospikeTemplateBatchTests extends BaseBlockingIntegrationTests {
+
+    @Test
+    public void batch_shouldExecuteMixedEntries() {
+        String deletedId = nextId();
+        String counterId = nextId();
+        String readId = nextId();
+        template.insert(Person.builder().id(deletedId).firstName("deleted").build());
+        template.insert(Person.builder().id(counterId).firstName("counter").age(1).build());
+        Person read = Person.builder().id(readId).firstName("read").age(30).build();
+        template.insert(read);
+        VersionedClass saved = new VersionedClass(id, "saved");
+
+        BatchEntryResults results = template.batch()
+            .save(saved)
+            .deleteById(deletedId, Person.class)
+            .operate(counterId, Person.class, Operation.add(new Bin("age", 1)), Operation.get("age"))
+            .findById(readId, Person.class)
+            .findById(nextId(), Person.class)
+            .execute();
+
+        assertThat(results.isSuccess()).isTrue();
+        assertThat(results.size()).isEqualTo(5);
+        BatchEntryResult<VersionedClass> saveResult = results.get(0, VersionedClass.class);
+        assertThat(saveResult.getType()).isEqualTo(EntryType.SAVE);
+        assertThat(saveResult.getValue().version).isEqualTo(1);
+        assertThat(results.get(1, Boolean.class).getValue()).isTrue();
+        assertThat(results.get(2, Record.class).getValue().getInt("age")).isEqualTo(2);
+        assertThat(results.get(3, Person.class).getValue()).isEqualTo(read);
+        assertThat(results.get(4, Person.class).getValue()).isNull();
+
+        assertThat(template.findById(id, VersionedClass.class).field).isEqualTo("saved");
+        assertThat(template.findById(deletedId, Person.class)).isNull();
+        template.delete(saved); // cleanup
+        template.delete(template.findById(counterId, Person.class)); // cleanup
+        template.delete(read); // cleanup
+    }
+
+    @Test
+    public void batch_shouldReportFailedEntries() {
+        Person existing = Person.builder().id(id).firstName("existing").build();
+        template.insert(existing);
+        VersionedClass versioned = new VersionedClass(nextId(), "foo");
+        template.save(versioned);
+
+        BatchEntryResults results = template.batch()
+            .insert(existing)
+            .save(new VersionedClass(versioned.getId(), "bar", 5L))
+            .deleteById(nextId(), Person.class)
+            .execute();
+
+        assertThat(results.isSuccess()).isFalse();
+        assertThat(results.get(0, Person.class).getException()).isInstanceOf(DuplicateKeyException.class);
+        assertThat(results.get(1, VersionedClass.class).getException())
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        BatchEntryResult<Boolean> deleteResult = results.get(2, Boolean.class);
+        assertThat(deleteResult.isSuccess()).isTrue();
+        assertThat(deleteResult.getValue()).isFalse();
+        template.delete(existing); // cleanup
+        template.delete(versioned); // cleanup
+    }
+
+    @Test
+    public void batch_shouldWriteOperationsWithWritePolicyOfTemplate() {
+        Key key = new Key(getNameSpace(), template.getSetName(Person.class), id);
+
+        template.batch()
+            .operate(id, Person.class, Operation.put(new Bin("firstName", "operated")))
+            .execute();
+
+        // the default write policy sends the user key, a batch write without policy would not store it
+        List<Key> scannedKeys = Collections.synchronizedList(new ArrayList<>());
+        client.scanAll(null, key.namespace, key.setName, (scannedKey, aeroRecord) -> {
+            if (Arrays.equals(scannedKey.digest, key.digest)) {
+                scannedKeys.add(scannedKey);
+            }
+        });
+        assertThat(scannedKeys).singleElement()
+            .satisfies(scannedKey -> assertThat(scannedKey.userKey).isEqualTo(Value.get(id)));
+        client.delete(null, key); // cleanup
+    }
+
+    @Test
+    public void batch_shouldReturnEmptyResults() {
+        BatchEntryResults results = template.batch().execute();
+
+        assertThat(results.size()).isZero();
+        assertThat(results.isSuccess()).isTrue();
+    }
+}
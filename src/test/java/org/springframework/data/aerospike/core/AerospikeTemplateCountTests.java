@@ -199,6 +199,40 @@ public class AerospikeTemplateCountTests extends BaseBlockingIntegrationTests {
         template.delete(template.findById(id4, Person.class));
     }
 
+    @Test
+    void existsByQuery() {
+        template.insert(new Person(id, "vasili", 50));
+
+        Query vasili = new Query(new AerospikeCriteria(new Qualifier.QualifierBuilder()
+            .setFilterOperation(FilterOperation.EQ)
+            .setField("firstName")
+            .setValue1(Value.get("vasili"))));
+        Query petya = new Query(new AerospikeCriteria(new Qualifier.QualifierBuilder()
+            .setFilterOperation(FilterOperation.EQ)
+            .setField("firstName")
+            .setValue1(Value.get("petya"))));
+
+        assertThat(template.exists(vasili, Person.class)).isTrue();
+        assertThat(template.exists(petya, Person.class)).isFalse();
+
+        template.delete(template.findById(id, Person.class));
+    }
+
+    @Test
+    void setStatisticsForObjects() {
+        template.insert(new Person(id, "vasili", 50));
+        String id2 = nextId();
+        template.insert(new Person(id2, "petya", 52));
+
+        Awaitility.await()
+            .atMost(Duration.ofSeconds(15))
+            .until(() -> template.getSetStatistics(Person.class).getObjects() == 2L);
+        assertThat(template.getSetStatistics("not-existing-set-name").getObjects()).isZero();
+
+        template.delete(template.findById(id, Person.class));
+        template.delete(template.findById(id2, Person.class));
+    }
+
     @SuppressWarnings("SameParameterValue")
     private boolean isCountExactlyNum(Long num) {
         return Objects.equals(template.count(Person.class), num);
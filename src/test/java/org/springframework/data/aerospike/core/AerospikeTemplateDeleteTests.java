@@ -21,6 +21,7 @@ import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
 import org.springframework.data.aerospike.SampleClasses.CustomCollectionClassToDelete;
 import org.springframework.data.aerospike.SampleClasses.DocumentWithExpiration;
 import org.springframework.data.aerospike.SampleClasses.VersionedClass;
+import org.springframework.data.aerospike.SampleClasses.WriteBehindDocument;
 import org.springframework.data.aerospike.sample.Person;
 
 import java.util.Arrays;
@@ -141,4 +142,38 @@ public class AerospikeTemplateDeleteTests extends BaseBlockingIntegrationTests {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Type must not be null!");
     }
+
+    @Test
+    public void deleteByIds_deletesExistingAndIgnoresMissingDocuments() {
+        String otherId = nextId();
+        template.save(new Person(id, "one"));
+        template.save(new Person(otherId, "two"));
+
+        template.deleteByIds(Arrays.asList(id, otherId, nextId()), Person.class);
+
+        assertThat(template.existsByIds(Arrays.asList(id, otherId), Person.class)).containsOnly(false);
+    }
+
+    @Test
+    public void deleteById_dropsPendingWriteBehindDocument() {
+        template.save(new WriteBehindDocument(id, "pending"));
+
+        template.delete(id, WriteBehindDocument.class);
+        template.getWriteBehindBuffer().flush();
+
+        assertThat(template.findById(id, WriteBehindDocument.class)).isNull();
+    }
+
+    @Test
+    public void deleteByIdsAndBatchDelete_dropPendingWriteBehindDocuments() {
+        String otherId = nextId();
+        template.save(new WriteBehindDocument(id, "pending"));
+        template.save(new WriteBehindDocument(otherId, "pending"));
+
+        template.deleteByIds(Arrays.asList(id), WriteBehindDocument.class);
+        template.batch().deleteById(otherId, WriteBehindDocument.class).execute();
+        template.getWriteBehindBuffer().flush();
+
+        assertThat(template.existsByIds(Arrays.asList(id, otherId), WriteBehindDocument.class)).containsOnly(false);
+    }
 }
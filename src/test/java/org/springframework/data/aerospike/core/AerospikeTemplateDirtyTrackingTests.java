@@ -0,0 +1,167 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.SampleClasses.DirtyTrackedDocument;
+import org.springframework.data.aerospike.SampleClasses.ExpiringDirtyTrackedDocument;
+import org.springframework.data.aerospike.SampleClasses.VersionedDirtyTrackedDocument;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AerospikeTemplateDirtyTrackingTests extends BaseBlockingIntegrationTests {
+
+    @Test
+    public void updateWritesOnlyChangedBins() {
+        template.insert(new DirtyTrackedDocument(id, "value1", 1));
+        DirtyTrackedDocument document = template.findById(id, DirtyTrackedDocument.class);
+        putBin(new Bin("field2", 2));
+
+        document.setField1("value2");
+        template.update(document);
+
+        Record aeroRecord = getRecord();
+        assertThat(aeroRecord.getString("field1")).isEqualTo("value2");
+        assertThat(aeroRecord.getInt("field2")).isEqualTo(2);
+        template.delete(document); // cleanup
+    }
+
+    @Test
+    public void saveDoesNotWriteUnchangedDocument() {
+        template.insert(new DirtyTrackedDocument(id, "value1", 1));
+        DirtyTrackedDocument document = template.findById(id, DirtyTrackedDocument.class);
+        int generation = getRecord().generation;
+
+        template.save(document);
+
+        assertThat(getRecord().generation).isEqualTo(generation);
+        template.delete(document); // cleanup
+    }
+
+    @Test
+    public void saveOnlyTouchesRecordOfUnchangedExpiringDocument() {
+        template.insert(new ExpiringDirtyTrackedDocument(id, "value1"));
+        ExpiringDirtyTrackedDocument document = template.findById(id, ExpiringDirtyTrackedDocument.class);
+        putBin(new Bin("field1", "changedConcurrently"));
+        int generation = getRecord().generation;
+
+        template.save(document);
+
+        Record aeroRecord = getRecord();
+        assertThat(aeroRecord.getString("field1")).isEqualTo("changedConcurrently");
+        assertThat(aeroRecord.generation).isEqualTo(generation + 1);
+        template.delete(document); // cleanup
+    }
+
+    @Test
+    public void saveAfterSaveAllWritesValueRestoredToSnapshot() {
+        DirtyTrackedDocument document = new DirtyTrackedDocument(id, "A", 1);
+        template.insert(document);
+        document.setField1("B");
+        template.saveAll(List.of(document));
+
+        document.setField1("A");
+        template.save(document);
+
+        assertThat(getRecord().getString("field1")).isEqualTo("A");
+        template.delete(document); // cleanup
+    }
+
+    @Test
+    public void saveAfterPartialUpdateWritesValueRestoredToSnapshot() {
+        DirtyTrackedDocument document = new DirtyTrackedDocument(id, "A", 1);
+        template.insert(document);
+        document.setField1("B");
+        template.update(document, List.of("field1"));
+
+        document.setField1("A");
+        template.save(document);
+
+        assertThat(getRecord().getString("field1")).isEqualTo("A");
+        template.delete(document); // cleanup
+    }
+
+    @Test
+    public void updateWritesChangedValueWithSameHashCode() {
+        // "Aa" and "BB" have the same String hash code
+        template.insert(new DirtyTrackedDocument(id, "Aa", 1));
+        DirtyTrackedDocument document = template.findById(id, DirtyTrackedDocument.class);
+
+        document.setField1("BB");
+        template.update(document);
+
+        assertThat(getRecord().getString("field1")).isEqualTo("BB");
+        template.delete(document); // cleanup
+    }
+
+    @Test
+    public void saveOfUnchangedStaleVersionedDocumentFails() {
+        template.insert(new VersionedDirtyTrackedDocument(id, "value1", null));
+        VersionedDirtyTrackedDocument stale = template.findById(id, VersionedDirtyTrackedDocument.class);
+        VersionedDirtyTrackedDocument current = template.findById(id, VersionedDirtyTrackedDocument.class);
+        current.setField1("value2");
+        template.save(current);
+
+        assertThatThrownBy(() -> template.save(stale))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        template.delete(current); // cleanup
+    }
+
+    @Test
+    public void updateRemovesBinOfFieldSetToNull() {
+        DirtyTrackedDocument document = new DirtyTrackedDocument(id, "value1", 1);
+        template.insert(document);
+
+        document.setField1(null);
+        template.update(document);
+
+        Record aeroRecord = getRecord();
+        assertThat(aeroRecord.bins).doesNotContainKey("field1");
+        assertThat(aeroRecord.getInt("field2")).isEqualTo(1);
+        template.delete(document); // cleanup
+    }
+
+    @Test
+    public void saveWritesWholeDocumentIfRecordWasDeleted() {
+        DirtyTrackedDocument document = new DirtyTrackedDocument(id, "value1", 1);
+        template.insert(document);
+        client.delete(null, key());
+
+        document.setField2(2);
+        template.save(document);
+
+        assertThat(template.findById(id, DirtyTrackedDocument.class))
+            .isEqualTo(new DirtyTrackedDocument(id, "value1", 2));
+        template.delete(document); // cleanup
+    }
+
+    @Test
+    public void updateFailsIfRecordWasDeleted() {
+        DirtyTrackedDocument document = new DirtyTrackedDocument(id, "value1", 1);
+        template.insert(document);
+        client.delete(null, key());
+
+        document.setField2(2);
+        assertThatThrownBy(() -> template.update(document))
+            .isInstanceOf(DataRetrievalFailureException.class);
+    }
+
+    private void putBin(Bin bin) {
+        client.put(null, key(), bin);
+    }
+
+    private Record getRecord() {
+        return client.get(null, key());
+    }
+
+    private Key key() {
+        return new Key(getNameSpace(), template.getSetName(DirtyTrackedDocument.class), id);
+    }
+}
@@ -19,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
 import org.springframework.data.aerospike.sample.Person;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class AerospikeTemplateExistsTests extends BaseBlockingIntegrationTests {
@@ -36,4 +38,13 @@ public class AerospikeTemplateExistsTests extends BaseBlockingIntegrationTests {
     public void exists_shouldReturnFalseIfValueIsAbsent() {
         assertThat(template.exists(id, Person.class)).isFalse();
     }
+
+    @Test
+    public void existsByIds_shouldReturnResultsInOrderOfIds() {
+        Person one = Person.builder().id(id).firstName("tya").build();
+        template.insert(one);
+
+        assertThat(template.existsByIds(List.of(nextId(), id), Person.class)).containsExactly(false, true);
+        template.delete(one); // cleanup
+    }
 }
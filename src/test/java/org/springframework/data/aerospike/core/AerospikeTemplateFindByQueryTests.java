@@ -202,6 +202,16 @@ public class AerospikeTemplateFindByQueryTests extends BaseBlockingIntegrationTe
             .containsExactly(aabbot, alister, ashley, beatrice, dave);
     }
 
+    @Test
+    public void findInRange_shouldFindLimitedNumberOfDocumentsWithOrderByDescendingAgeAndSkip() {
+        Sort sort = Sort.by(Sort.Order.desc("age"));
+        List<Person> result = template.findInRange(2, 3, sort, Person.class)
+            .collect(Collectors.toList());
+
+        assertThat(result)
+            .containsExactly(mitch, xylophone, knowlen);
+    }
+
     @Test
     public void findAll_OrderByFirstName() {
         Sort sort = Sort.by(asc("firstName"));
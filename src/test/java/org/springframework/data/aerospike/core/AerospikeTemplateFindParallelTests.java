@@ -0,0 +1,67 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Value;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.repository.query.AerospikeCriteria;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AerospikeTemplateFindParallelTests extends BaseBlockingIntegrationTests {
+
+    @Test
+    public void findParallel_shouldReturnAllMatchingDocumentsOnce() {
+        List<Person> persons = IntStream.range(0, 50)
+            .mapToObj(age -> Person.builder().id(nextId()).firstName(id).age(age).build())
+            .collect(Collectors.toList());
+        template.insertAll(persons);
+
+        try (Stream<Person> stream = template.findParallel(firstNameQuery(id), Person.class)) {
+            assertThat(stream.isParallel()).isTrue();
+            assertThat(stream.collect(Collectors.toList())).containsExactlyInAnyOrderElementsOf(persons);
+        }
+        template.deleteByIds(persons.stream().map(Person::getId).collect(Collectors.toList()), Person.class);
+    }
+
+    @Test
+    public void findAllParallel_shouldReturnAllDocuments() {
+        List<Person> persons = IntStream.range(0, 20)
+            .mapToObj(age -> Person.builder().id(nextId()).firstName(id).age(age).build())
+            .collect(Collectors.toList());
+        template.insertAll(persons);
+
+        try (Stream<Person> stream = template.findAllParallel(Person.class)) {
+            assertThat(stream.filter(person -> id.equals(person.getFirstName())).collect(Collectors.toList()))
+                .containsExactlyInAnyOrderElementsOf(persons);
+        }
+        template.deleteByIds(persons.stream().map(Person::getId).collect(Collectors.toList()), Person.class);
+    }
+
+    @Test
+    public void findParallel_shouldRejectSortedQuery() {
+        Query query = firstNameQuery(id);
+        query.setSort(Sort.by("age"));
+
+        assertThatThrownBy(() -> template.findParallel(query, Person.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Sort is not supported by parallel queries, documents are returned in no particular order");
+    }
+
+    private static Query firstNameQuery(String firstName) {
+        return new Query(new AerospikeCriteria(new Qualifier.QualifierBuilder()
+            .setFilterOperation(FilterOperation.EQ)
+            .setField("firstName")
+            .setValue1(Value.get(firstName))));
+    }
+}
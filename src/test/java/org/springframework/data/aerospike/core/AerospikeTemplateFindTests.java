@@ -23,9 +23,13 @@ import org.springframework.data.aerospike.SampleClasses.DocumentWithTouchOnRead;
 import org.springframework.data.aerospike.SampleClasses.VersionedClassWithAllArgsConstructor;
 import org.springframework.data.aerospike.sample.Person;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -99,6 +103,38 @@ public class AerospikeTemplateFindTests extends BaseBlockingIntegrationTests {
         assertThat(actual).isEmpty();
     }
 
+    @Test
+    public void findByIdsStream_shouldReturnDocumentsInOrderOfIds() {
+        List<Person> persons = IntStream.range(0, 25)
+            .mapToObj(i -> Person.builder().id(nextId()).firstName("name" + i).build())
+            .collect(Collectors.toList());
+        template.insertAll(persons);
+
+        List<String> ids = new ArrayList<>();
+        persons.forEach(person -> {
+            ids.add(person.getId());
+            ids.add(nextId()); // non-existing
+        });
+        try (Stream<Person> actual = template.findByIdsStream(ids, Person.class, 4)) {
+            assertThat(actual).containsExactlyElementsOf(persons);
+        }
+        template.deleteByIds(persons.stream().map(Person::getId).collect(Collectors.toList()),
+            Person.class); // cleanup
+    }
+
+    @Test
+    public void findByIdsStream_shouldReturnEmptyStream() {
+        try (Stream<Person> actual = template.findByIdsStream(Collections.emptyList(), Person.class, 10)) {
+            assertThat(actual).isEmpty();
+        }
+    }
+
+    @Test
+    public void findByIdsStream_shouldFailOnNonPositiveChunkSize() {
+        assertThatThrownBy(() -> template.findByIdsStream(List.of(id), Person.class, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     public void findById_shouldFailOnTouchOnReadWithExpirationProperty() {
         template.insert(new DocumentWithTouchOnReadAndExpirationProperty(id, EXPIRATION_ONE_MINUTE));
@@ -0,0 +1,77 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.query.IndexType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.QueryUtils;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.query.StatementBuilder;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.sample.Person;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.aerospike.AwaitilityUtils.awaitTenSecondsUntil;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AerospikeTemplateIndexIntersectionTests extends BaseBlockingIntegrationTests {
+
+    private static final int PERSONS = 600;
+
+    @Autowired
+    StatementBuilder statementBuilder;
+    List<Person> persons;
+
+    @BeforeAll
+    public void beforeAllSetUp() {
+        // every third person has another first name and every second person another last name, so both indexes
+        // match hundreds of records per value while their intersection spans several batch reads
+        persons = IntStream.range(0, PERSONS)
+            .mapToObj(i -> Person.builder().id(nextId())
+                .firstName(i % 3 == 0 ? "Other" : "Intersected")
+                .lastName(i % 2 == 0 ? "Indexed" : "Unindexed")
+                .age(i).build())
+            .collect(Collectors.toList());
+        template.insertAll(persons);
+        additionalAerospikeTestOperations.createIndexIfNotExists(Person.class, "person_first_name_index", "firstName",
+            IndexType.STRING);
+        additionalAerospikeTestOperations.createIndexIfNotExists(Person.class, "person_last_name_index", "lastName",
+            IndexType.STRING);
+    }
+
+    @AfterAll
+    public void afterAll() {
+        statementBuilder.setIndexIntersectionMaxEntries(0);
+        deleteAll(persons);
+        additionalAerospikeTestOperations.dropIndexIfExists(Person.class, "person_first_name_index");
+        additionalAerospikeTestOperations.dropIndexIfExists(Person.class, "person_last_name_index");
+    }
+
+    @Test
+    public void findMapsEntitiesReadThroughIndexIntersection() {
+        Query query = QueryUtils.createQueryForMethodWithArgs("findByFirstNameAndLastName", "Intersected", "Indexed");
+        Qualifier[] qualifiers = {query.getCriteria().getCriteriaObject()};
+        statementBuilder.setIndexIntersectionMaxEntries(PERSONS);
+        // statistics of new indexes are reported once the indexes are built
+        awaitTenSecondsUntil(() -> {
+            indexRefresher.refreshIndexes();
+            assertThat(statementBuilder.planIntersection(namespace, template.getSetName(Person.class), qualifiers))
+                .isNotNull();
+        });
+
+        List<Person> result = template.find(query, Person.class).toList();
+
+        List<Person> expected = IntStream.range(0, PERSONS)
+            .filter(i -> i % 3 != 0 && i % 2 == 0)
+            .mapToObj(persons::get)
+            .toList();
+        assertThat(result).hasSize(expected.size()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+}
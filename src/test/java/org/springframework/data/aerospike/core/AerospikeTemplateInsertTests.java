@@ -20,6 +20,7 @@ import com.aerospike.client.Record;
 import com.aerospike.client.policy.Policy;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.aerospike.AerospikeBatchWriteException;
 import org.springframework.data.aerospike.AsyncUtils;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
 import org.springframework.data.aerospike.SampleClasses.CustomCollectionClass;
@@ -179,7 +180,10 @@ public class AerospikeTemplateInsertTests extends BaseBlockingIntegrationTests {
         List<Person> records = Arrays.asList(person, person);
 
         assertThatThrownBy(() -> template.insertAll(records))
-            .isInstanceOf(DuplicateKeyException.class);
+            .isInstanceOf(AerospikeBatchWriteException.class)
+            .hasCauseInstanceOf(DuplicateKeyException.class)
+            .satisfies(e -> assertThat(((AerospikeBatchWriteException) e).getFailures()).hasSize(1));
+        assertThat(template.findById(id, Person.class)).isEqualTo(person);
         template.delete(person); // cleanup
     }
 
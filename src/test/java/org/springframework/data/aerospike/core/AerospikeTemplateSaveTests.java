@@ -15,28 +15,51 @@
  */
 package org.springframework.data.aerospike.core;
 
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Key;
 import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.Policy;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.aerospike.AerospikeBatchWriteException;
 import org.springframework.data.aerospike.AsyncUtils;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.sample.Person;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.spy;
 import static org.springframework.data.aerospike.SampleClasses.CustomCollectionClass;
 import static org.springframework.data.aerospike.SampleClasses.DocumentWithByteArray;
 import static org.springframework.data.aerospike.SampleClasses.DocumentWithTouchOnRead;
 import static org.springframework.data.aerospike.SampleClasses.VersionedClass;
+import static org.springframework.data.aerospike.SampleClasses.VersionedWriteBehindDocument;
 
 public class AerospikeTemplateSaveTests extends BaseBlockingIntegrationTests {
 
+    @Autowired
+    MappingAerospikeConverter converter;
+    @Autowired
+    AerospikeMappingContext mappingContext;
+    @Autowired
+    AerospikeExceptionTranslator exceptionTranslator;
+
     // test for RecordExistsAction.REPLACE_ONLY policy
     @Test
     public void shouldReplaceAllBinsPresentInAerospikeWhenSavingDocument() {
@@ -69,6 +92,18 @@ public class AerospikeTemplateSaveTests extends BaseBlockingIntegrationTests {
             .isInstanceOf(OptimisticLockingFailureException.class);
     }
 
+    @Test
+    public void shouldSaveVersionedWriteBehindDocumentDirectlyWithGenerationCheck() {
+        VersionedWriteBehindDocument document = new VersionedWriteBehindDocument(id, "foo", null);
+        template.save(document);
+
+        assertThat(template.getWriteBehindBuffer().getPendingCount()).isZero();
+        assertThat(document.getVersion()).isEqualTo(1);
+        assertThatThrownBy(() -> template.save(new VersionedWriteBehindDocument(id, "stale", null)))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(template.findById(id, VersionedWriteBehindDocument.class).getField()).isEqualTo("foo");
+    }
+
     @Test
     public void shouldSaveDocumentWithEqualVersion() {
         template.save(new VersionedClass(id, "foo", 0L));
@@ -259,4 +294,61 @@ public class AerospikeTemplateSaveTests extends BaseBlockingIntegrationTests {
 
         assertThat(result).isEqualTo(document);
     }
+
+    @Test
+    public void shouldSaveAllAndSetVersion() {
+        VersionedClass first = new VersionedClass(id, "foo");
+        VersionedClass second = new VersionedClass(nextId(), "bar");
+
+        template.saveAll(List.of(first, second));
+
+        assertThat(first.version).isEqualTo(1);
+        assertThat(second.version).isEqualTo(1);
+        assertThat(template.findById(second.getId(), VersionedClass.class).field).isEqualTo("bar");
+        template.delete(second); // cleanup
+    }
+
+    @Test
+    public void shouldSaveAllAndReportVersionMismatchPerRecord() {
+        template.save(new VersionedClass(id, "foo"));
+        VersionedClass outdated = new VersionedClass(id, "foo2", 0L);
+        VersionedClass valid = new VersionedClass(nextId(), "bar");
+
+        assertThatThrownBy(() -> template.saveAll(List.of(outdated, valid)))
+            .isInstanceOf(AerospikeBatchWriteException.class)
+            .satisfies(e -> assertThat(((AerospikeBatchWriteException) e).getFailures())
+                .singleElement()
+                .satisfies(failure -> {
+                    assertThat(failure.getDocument()).isSameAs(outdated);
+                    assertThat(failure.getCause()).isInstanceOf(OptimisticLockingFailureException.class);
+                }));
+
+        assertThat(template.findById(valid.getId(), VersionedClass.class).field).isEqualTo("bar");
+        template.delete(valid); // cleanup
+    }
+
+    @Test
+    public void shouldUpdateVersionsOfWrittenChunksIfLaterChunkFails() {
+        IAerospikeClient failingClient = spy(client);
+        doCallRealMethod().doThrow(new AerospikeException(ResultCode.TIMEOUT))
+            .when(failingClient).operate(isNull(BatchPolicy.class), anyList());
+        AerospikeTemplate failingTemplate = new AerospikeTemplate(failingClient, getNameSpace(), converter,
+            mappingContext, exceptionTranslator, queryEngine, indexRefresher);
+        failingTemplate.setBatchWriteSize(2);
+        List<VersionedClass> documents = IntStream.range(0, 4)
+            .mapToObj(i -> new VersionedClass(nextId(), "foo"))
+            .toList();
+
+        try {
+            assertThatThrownBy(() -> failingTemplate.saveAll(documents))
+                .isInstanceOf(DataAccessException.class)
+                .isNotInstanceOf(AerospikeBatchWriteException.class);
+
+            assertThat(documents).extracting(VersionedClass::getVersion).containsExactly(1L, 1L, null, null);
+            assertThat(template.findById(documents.get(1).getId(), VersionedClass.class).version).isEqualTo(1);
+        } finally {
+            failingTemplate.destroy();
+            documents.forEach(document -> template.delete(document.getId(), VersionedClass.class)); // cleanup
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Value;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.core.model.AerospikeScrollPosition;
+import org.springframework.data.aerospike.core.model.AerospikeWindow;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.repository.query.AerospikeCriteria;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AerospikeTemplateScrollTests extends BaseBlockingIntegrationTests {
+
+    @Test
+    public void scroll_shouldReturnAllMatchingDocumentsOnce() {
+        List<Person> persons = IntStream.range(0, 7)
+            .mapToObj(age -> Person.builder().id(nextId()).firstName(id).age(age).build())
+            .collect(Collectors.toList());
+        template.insertAll(persons);
+
+        List<Person> scrolled = new ArrayList<>();
+        AerospikeScrollPosition position = AerospikeScrollPosition.initial();
+        AerospikeWindow<Person> window;
+        do {
+            window = template.scroll(firstNameQuery(id), Person.class, position, 3);
+            assertThat(window.size()).isLessThanOrEqualTo(3);
+            scrolled.addAll(window.getContent());
+            // positions survive being passed around as strings
+            position = AerospikeScrollPosition.deserialize(window.getPositionAfterLast().serialize());
+        } while (window.hasNext());
+
+        assertThat(scrolled).containsExactlyInAnyOrderElementsOf(persons);
+        template.deleteByIds(persons.stream().map(Person::getId).collect(Collectors.toList()), Person.class);
+    }
+
+    @Test
+    public void scroll_shouldRepeatWindowFromSamePosition() {
+        List<Person> persons = IntStream.range(0, 4)
+            .mapToObj(age -> Person.builder().id(nextId()).firstName(id).age(age).build())
+            .collect(Collectors.toList());
+        template.insertAll(persons);
+
+        AerospikeWindow<Person> first = template.scroll(firstNameQuery(id), Person.class,
+            AerospikeScrollPosition.initial(), 2);
+        AerospikeWindow<Person> second = template.scroll(firstNameQuery(id), Person.class,
+            first.getPositionAfterLast(), 2);
+        AerospikeWindow<Person> secondAgain = template.scroll(firstNameQuery(id), Person.class,
+            first.getPositionAfterLast(), 2);
+
+        assertThat(second.getContent()).isEqualTo(secondAgain.getContent());
+        assertThat(second.getContent()).doesNotContainAnyElementsOf(first.getContent());
+        template.deleteByIds(persons.stream().map(Person::getId).collect(Collectors.toList()), Person.class);
+    }
+
+    @Test
+    public void scroll_shouldRejectSortedQuery() {
+        Query query = firstNameQuery(id);
+        query.setSort(Sort.by("age"));
+
+        assertThatThrownBy(() -> template.scroll(query, Person.class, AerospikeScrollPosition.initial(), 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Sort is not supported by scroll, documents are returned in partition order");
+    }
+
+    private static Query firstNameQuery(String firstName) {
+        return new Query(new AerospikeCriteria(new Qualifier.QualifierBuilder()
+            .setFilterOperation(FilterOperation.EQ)
+            .setField("firstName")
+            .setValue1(Value.get(firstName))));
+    }
+}
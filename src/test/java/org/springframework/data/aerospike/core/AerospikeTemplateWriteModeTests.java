@@ -0,0 +1,55 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.SampleClasses.ReplaceModeDocument;
+import org.springframework.data.aerospike.SampleClasses.UpdateModeDocument;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AerospikeTemplateWriteModeTests extends BaseBlockingIntegrationTests {
+
+    @Test
+    public void saveReplacesRecordInReplaceMode() {
+        template.save(new ReplaceModeDocument(id, "value1"));
+        Key key = key(ReplaceModeDocument.class);
+        client.put(null, key, new Bin("otherBin", "other"));
+
+        template.save(new ReplaceModeDocument(id, "value2"));
+
+        Record aeroRecord = client.get(null, key);
+        assertThat(aeroRecord.getString("field")).isEqualTo("value2");
+        assertThat(aeroRecord.bins).doesNotContainKey("otherBin");
+        template.delete(template.findById(id, ReplaceModeDocument.class)); // cleanup
+    }
+
+    @Test
+    public void updateFailsForNonExistingRecordInReplaceMode() {
+        assertThatThrownBy(() -> template.update(new ReplaceModeDocument(id, "value")))
+            .isInstanceOf(DataRetrievalFailureException.class);
+    }
+
+    @Test
+    public void saveAndUpdateMergeBinsInUpdateMode() {
+        template.save(new UpdateModeDocument(id, "value1"));
+        Key key = key(UpdateModeDocument.class);
+        client.put(null, key, new Bin("otherBin", "other"));
+
+        template.save(new UpdateModeDocument(id, "value2"));
+        template.update(new UpdateModeDocument(id, null));
+
+        Record aeroRecord = client.get(null, key);
+        assertThat(aeroRecord.getString("field")).isEqualTo("value2");
+        assertThat(aeroRecord.getString("otherBin")).isEqualTo("other");
+        client.delete(null, key); // cleanup
+    }
+
+    private Key key(Class<?> entityClass) {
+        return new Key(getNameSpace(), template.getSetName(entityClass), id);
+    }
+}
@@ -0,0 +1,32 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BinSnapshotsTest {
+
+    @Test
+    public void shouldHashEqualValuesEqually() {
+        assertThat(BinSnapshots.hash(Value.get("value"))).isEqualTo(BinSnapshots.hash(Value.get("value")));
+        assertThat(BinSnapshots.hash(Value.get(List.of(1, 2, 3))))
+            .isEqualTo(BinSnapshots.hash(Value.get(List.of(1, 2, 3))));
+    }
+
+    @Test
+    public void shouldDistinguishValuesWithSameHashCode() {
+        // "Aa" and "BB" have the same String hash code
+        assertThat(BinSnapshots.hash(Value.get("Aa"))).isNotEqualTo(BinSnapshots.hash(Value.get("BB")));
+    }
+
+    @Test
+    public void shouldDistinguishTypesAndLengths() {
+        assertThat(BinSnapshots.hash(Value.get(1))).isNotEqualTo(BinSnapshots.hash(Value.get("1")));
+        assertThat(BinSnapshots.hash(Value.get("value"))).isNotEqualTo(BinSnapshots.hash(Value.get("value ")));
+        assertThat(BinSnapshots.hash(Value.get(List.of(1, 2))))
+            .isNotEqualTo(BinSnapshots.hash(Value.get(List.of(2, 1))));
+    }
+}
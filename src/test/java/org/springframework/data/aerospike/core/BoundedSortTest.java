@@ -0,0 +1,67 @@
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedSortTest {
+
+    @Test
+    public void shouldKeepFirstValuesInOrder() {
+        List<Integer> result = BoundedSort.sort(Stream.of(5, 3, 9, 1, 7, 2), Comparator.naturalOrder(), 3);
+
+        assertThat(result).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void shouldKeepOrderOfEqualValues() {
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+
+        List<String> result = BoundedSort.sort(Stream.of("bb", "a1", "c", "a2", "a3"), byLength, 3);
+
+        assertThat(result).containsExactly("c", "bb", "a1");
+    }
+
+    @Test
+    public void shouldReturnAllValuesIfLessThanSize() {
+        List<Integer> result = BoundedSort.sort(Stream.of(2, 1), Comparator.naturalOrder(), 5);
+
+        assertThat(result).containsExactly(1, 2);
+    }
+
+    @Test
+    public void shouldSortAllWithoutLimitOrWithTooLargeSize() {
+        assertThat(BoundedSort.sizeFor(10, 20)).isEqualTo(30);
+        assertThat(BoundedSort.sizeFor(0, 0)).isEqualTo(-1);
+        assertThat(BoundedSort.sizeFor(Long.MAX_VALUE / 2, 20)).isEqualTo(-1);
+    }
+
+    @Test
+    public void shouldSortLazilyAndCloseValuesWithStream() {
+        AtomicBoolean consumed = new AtomicBoolean();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> values = Stream.of(5, 3, 9, 1)
+            .peek(value -> consumed.set(true))
+            .onClose(() -> closed.set(true));
+
+        Stream<Integer> sorted = BoundedSort.sortLazily(values, Comparator.naturalOrder(), 2);
+        sorted.close();
+
+        assertThat(consumed).isFalse();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void shouldSortLazilyOnTerminalOperation() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> values = Stream.of(5, 3, 9, 1).onClose(() -> closed.set(true));
+
+        assertThat(BoundedSort.sortLazily(values, Comparator.naturalOrder(), 2)).containsExactly(1, 3);
+        assertThat(closed).isTrue();
+    }
+}
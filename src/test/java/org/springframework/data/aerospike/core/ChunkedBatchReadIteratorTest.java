@@ -0,0 +1,110 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ChunkedBatchReadIteratorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldReadChunksInOrderOfKeys() {
+        ChunkedBatchReadIterator<String> iterator = new ChunkedBatchReadIterator<>(keys(5), 2, 2,
+            ChunkedBatchReadIteratorTest::userKeys, executor);
+
+        List<String> result = drain(iterator);
+
+        assertThat(result).containsExactly("0", "1", "2", "3", "4");
+    }
+
+    @Test
+    public void shouldKeepSharedExecutorRunningAfterClose() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        ChunkedBatchReadIterator<String> iterator = new ChunkedBatchReadIterator<>(keys(4), 1, 2, chunk -> {
+            if (!chunk[0].userKey.toString().equals("0")) {
+                reading.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return userKeys(chunk);
+        }, executor);
+        assertThat(iterator.next()).isEqualTo("0");
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        iterator.close();
+
+        assertThat(executor.isShutdown()).isFalse();
+        assertThat(drain(new ChunkedBatchReadIterator<>(keys(3), 2, 2, ChunkedBatchReadIteratorTest::userKeys,
+            executor))).containsExactly("0", "1", "2");
+    }
+
+    @Test
+    public void shouldCloseWhenChunkWasCancelled() {
+        // every submitted chunk is cancelled before it runs
+        ExecutorService cancellingExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>()) {
+            @Override
+            protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+                RunnableFuture<T> task = super.newTaskFor(callable);
+                task.cancel(false);
+                return task;
+            }
+        };
+        List<Key[]> readChunks = new ArrayList<>();
+        ChunkedBatchReadIterator<String> iterator = new ChunkedBatchReadIterator<>(keys(4), 1, 1, chunk -> {
+            readChunks.add(chunk);
+            return userKeys(chunk);
+        }, cancellingExecutor);
+
+        try {
+            assertThatThrownBy(iterator::hasNext)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Batch read was cancelled");
+            assertThat(iterator.hasNext()).isFalse();
+            assertThat(readChunks).isEmpty();
+        } finally {
+            cancellingExecutor.shutdownNow();
+        }
+    }
+
+    private static List<String> drain(ChunkedBatchReadIterator<String> iterator) {
+        List<String> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+    private static List<String> userKeys(Key[] chunk) {
+        return Arrays.stream(chunk).map(key -> key.userKey.toString()).collect(Collectors.toList());
+    }
+
+    private static Iterator<Key> keys(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new Key("test", "set", String.valueOf(i))).iterator();
+    }
+}
@@ -0,0 +1,67 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.KeyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.query.KeyRecordIterator;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PartitionRangeSpliteratorTest {
+
+    @Test
+    public void shouldQueryEachPartitionOnce() {
+        List<int[]> ranges = queriedRanges(7, true);
+
+        assertThat(ranges).hasSize(7);
+        assertCoversAllPartitions(ranges);
+    }
+
+    @Test
+    public void shouldQueryRangesSequentially() {
+        List<int[]> ranges = queriedRanges(5, false);
+
+        assertThat(ranges).hasSize(5);
+        assertCoversAllPartitions(ranges);
+    }
+
+    @Test
+    public void shouldQueryAllPartitionsWithSingleRange() {
+        List<int[]> ranges = queriedRanges(1, true);
+
+        assertThat(ranges).containsExactly(new int[]{0, 4096});
+    }
+
+    private static List<int[]> queriedRanges(int amount, boolean parallel) {
+        try (Stream<int[]> stream = PartitionRangeSpliterator.stream(4096, amount,
+            PartitionRangeSpliteratorTest::rangeQuery,
+            keyRecord -> new int[]{keyRecord.record.getInt("begin"), keyRecord.record.getInt("count")})) {
+            return (parallel ? stream : stream.sequential())
+                .sorted(Comparator.comparingInt(range -> range[0]))
+                .collect(Collectors.toList());
+        }
+    }
+
+    private static void assertCoversAllPartitions(List<int[]> ranges) {
+        int next = 0;
+        for (int[] range : ranges) {
+            assertThat(range[0]).isEqualTo(next);
+            assertThat(range[1]).isPositive();
+            next += range[1];
+        }
+        assertThat(next).isEqualTo(4096);
+    }
+
+    // a single record describing the queried range
+    private static KeyRecordIterator rangeQuery(int begin, int count) {
+        return new KeyRecordIterator("test", new KeyRecord(new Key("test", "set", begin),
+            new Record(Map.of("begin", begin, "count", count), 0, 0)));
+    }
+}
@@ -0,0 +1,53 @@
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.core.model.SetStatistics;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SetStatisticsCacheTest {
+
+    private static final String NODE_RESPONSE = "ns=test:set=Person:objects=10:tombstones=2:memory_data_bytes=100:" +
+        "device_data_bytes=200:truncate_lut=0:stop-writes-count=0:disable-eviction=false;";
+
+    @Test
+    public void shouldSumNodesAndDivideCountsByReplicationFactor() {
+        SetStatistics statistics = SetStatisticsCache.aggregate("test", "Person", 2,
+            List.of(NODE_RESPONSE, NODE_RESPONSE));
+
+        assertThat(statistics).isEqualTo(new SetStatistics("test", "Person", 10, 2, 200, 400));
+    }
+
+    @Test
+    public void shouldNotDivideByMoreCopiesThanNodes() {
+        SetStatistics statistics = SetStatisticsCache.aggregate("test", "Person", 2, List.of(NODE_RESPONSE));
+
+        assertThat(statistics.getObjects()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldTreatMissingSetAsEmpty() {
+        SetStatistics statistics = SetStatisticsCache.aggregate("test", "missing", 2, List.of("", ""));
+
+        assertThat(statistics).isEqualTo(new SetStatistics("test", "missing", 0, 0, 0, 0));
+    }
+
+    @Test
+    public void shouldExpireCachedValues() {
+        SetStatisticsCache cache = new SetStatisticsCache(Duration.ofHours(1));
+        SetStatistics statistics = new SetStatistics("test", "Person", 1, 0, 0, 0);
+        cache.putStatistics(statistics);
+        cache.putReplicationFactor(2);
+
+        assertThat(cache.getStatistics("Person")).isEqualTo(statistics);
+        assertThat(cache.getReplicationFactor()).isEqualTo(2);
+
+        cache.setTtl(Duration.ZERO);
+
+        assertThat(cache.getStatistics("Person")).isNull();
+        assertThat(cache.getReplicationFactor()).isNull();
+    }
+}
@@ -0,0 +1,121 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Host;
+import com.aerospike.client.Value;
+import com.aerospike.client.policy.ClientPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.query.FilterExpressionsBuilder;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.query.QueryEngine;
+import org.springframework.data.aerospike.query.StatementBuilder;
+import org.springframework.data.aerospike.repository.query.AerospikeCriteria;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.aerospike.utility.VirtualThreads;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the throughput of concurrent blocking queries executed on platform threads (client's default thread pool)
+ * and on virtual threads (client's thread pool replaced as with
+ * {@link org.springframework.data.aerospike.config.AerospikeDataSettings#isVirtualThreadsEnabled()}).
+ * <p>
+ * Not executed by default, run with {@code -Dbenchmark=true} on JDK 21 or newer.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class VirtualThreadsBenchmarkTests extends BaseBlockingIntegrationTests {
+
+    private static final int DOCUMENTS = 1_000;
+    private static final int CONCURRENT_CALLERS = 1_000;
+    private static final int PLATFORM_CALLER_THREADS = 200;
+    private static final Duration MEASUREMENT_TIME = Duration.ofSeconds(10);
+
+    @Autowired
+    MappingAerospikeConverter converter;
+    @Autowired
+    AerospikeMappingContext mappingContext;
+    @Autowired
+    AerospikeExceptionTranslator exceptionTranslator;
+    @Autowired
+    StatementBuilder statementBuilder;
+    @Autowired
+    FilterExpressionsBuilder filterExpressionsBuilder;
+
+    @Test
+    public void compareQueryThroughputOfPlatformAndVirtualThreads() throws InterruptedException {
+        assumeTrue(VirtualThreads.isSupported(), "Virtual threads are not supported by the running JVM");
+
+        List<Person> persons = IntStream.range(0, DOCUMENTS)
+            .mapToObj(age -> Person.builder().id(nextId()).firstName("Benchmark").age(age % 100).build())
+            .collect(Collectors.toList());
+        template.insertAll(persons);
+
+        try {
+            double platform = measure(new ClientPolicy(), Executors.newFixedThreadPool(PLATFORM_CALLER_THREADS));
+            ClientPolicy virtualThreadsPolicy = new ClientPolicy();
+            virtualThreadsPolicy.threadPool = VirtualThreads.newVirtualThreadPerTaskExecutor();
+            double virtual = measure(virtualThreadsPolicy, VirtualThreads.newVirtualThreadPerTaskExecutor());
+
+            log.info("Queries per second with {} concurrent callers: platform threads {}, virtual threads {}",
+                CONCURRENT_CALLERS, String.format("%.1f", platform), String.format("%.1f", virtual));
+            assertThat(platform).isPositive();
+            assertThat(virtual).isPositive();
+        } finally {
+            template.deleteByIds(persons.stream().map(Person::getId).collect(Collectors.toList()), Person.class);
+        }
+    }
+
+    private double measure(ClientPolicy clientPolicy, ExecutorService callers) throws InterruptedException {
+        Host host = client.getNodes()[0].getHost();
+        clientPolicy.failIfNotConnected = true;
+        clientPolicy.writePolicyDefault.sendKey = true;
+
+        try (AerospikeClient benchmarkClient = new AerospikeClient(clientPolicy, host)) {
+            QueryEngine benchmarkQueryEngine = new QueryEngine(benchmarkClient, statementBuilder,
+                filterExpressionsBuilder, benchmarkClient.getQueryPolicyDefault());
+            benchmarkQueryEngine.setScansEnabled(true);
+            AerospikeTemplate benchmarkTemplate = new AerospikeTemplate(benchmarkClient, getNameSpace(), converter,
+                mappingContext, exceptionTranslator, benchmarkQueryEngine, indexRefresher);
+            Query query = new Query(new AerospikeCriteria(new Qualifier.QualifierBuilder()
+                .setFilterOperation(FilterOperation.EQ)
+                .setField("age")
+                .setValue1(Value.get(42))));
+
+            LongAdder completed = new LongAdder();
+            long deadline = System.nanoTime() + MEASUREMENT_TIME.toNanos();
+            for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+                callers.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        try (var results = benchmarkTemplate.find(query, Person.class)) {
+                            results.forEach(person -> {
+                            });
+                        }
+                        completed.increment();
+                    }
+                });
+            }
+            callers.shutdown();
+            assertThat(callers.awaitTermination(MEASUREMENT_TIME.toSeconds() * 3, TimeUnit.SECONDS)).isTrue();
+            return completed.sum() / (double) MEASUREMENT_TIME.toSeconds();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.aerospike.AerospikeBatchWriteException;
+import org.springframework.data.aerospike.sample.Person;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class WriteBehindBufferTest {
+
+    private static final Duration LONG_INTERVAL = Duration.ofHours(1);
+
+    @Mock
+    private AerospikeOperations operations;
+    private final List<Collection<?>> failedDocuments = new ArrayList<>();
+    private final List<RuntimeException> failures = new ArrayList<>();
+    private WriteBehindBuffer buffer;
+
+    @BeforeEach
+    public void setUp() {
+        buffer = new WriteBehindBuffer(operations, LONG_INTERVAL, 10, (documents, exception) -> {
+            failedDocuments.add(documents);
+            failures.add(exception);
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        buffer.close();
+    }
+
+    @Test
+    public void shouldKeepOnlyLatestDocumentPerKey() {
+        Person first = Person.builder().id("1").age(1).build();
+        Person second = Person.builder().id("1").age(2).build();
+        Person other = Person.builder().id("2").age(3).build();
+
+        buffer.offer(key("1"), first);
+        buffer.offer(key("1"), second);
+        buffer.offer(key("2"), other);
+        assertThat(buffer.getPendingCount()).isEqualTo(2);
+
+        buffer.flush();
+
+        assertThat(savedDocuments()).containsExactlyInAnyOrder(second, other);
+        assertThat(buffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    public void shouldFlushWhenFlushSizeIsReached() {
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(key(String.valueOf(i)), Person.builder().id(String.valueOf(i)).build());
+        }
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(buffer.getPendingCount()).isZero());
+        assertThat(savedDocuments()).hasSize(10);
+    }
+
+    @Test
+    public void shouldFlushOnCloseAndRejectLaterDocuments() {
+        Person person = Person.builder().id("1").build();
+        buffer.offer(key("1"), person);
+
+        buffer.close();
+
+        assertThat(savedDocuments()).containsExactly(person);
+        assertThat(buffer.offer(key("2"), Person.builder().id("2").build())).isFalse();
+    }
+
+    @Test
+    public void shouldNotWriteEvictedDocument() {
+        Person deleted = Person.builder().id("1").build();
+        Person other = Person.builder().id("2").build();
+        buffer.offer(key("1"), deleted);
+        buffer.offer(key("2"), other);
+
+        buffer.evict(key("1"));
+        buffer.flush();
+
+        assertThat(savedDocuments()).containsExactly(other);
+    }
+
+    @Test
+    public void shouldNotWriteEvictedDocumentsOfSet() {
+        Person other = Person.builder().id("2").build();
+        buffer.offer(key("1"), Person.builder().id("1").build());
+        buffer.offer(new Key("test", "other-set", "2"), other);
+
+        buffer.evictAll("test", "Person");
+        buffer.flush();
+
+        assertThat(savedDocuments()).containsExactly(other);
+    }
+
+    @Test
+    public void shouldEvictOtherKeyWithoutWaitingForFlushAndWaitForKeyBeingWritten() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(operations).saveAll(any());
+        buffer.offer(key("1"), Person.builder().id("1").build());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(buffer::flush);
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            buffer.offer(key("2"), Person.builder().id("2").build());
+            executor.submit(() -> buffer.evict(key("2"))).get(5, TimeUnit.SECONDS);
+            Future<?> evictWritten = executor.submit(() -> buffer.evict(key("1")));
+            assertThatThrownBy(() -> evictWritten.get(200, TimeUnit.MILLISECONDS))
+                .isInstanceOf(TimeoutException.class);
+
+            release.countDown();
+            evictWritten.get(5, TimeUnit.SECONDS);
+            assertThat(buffer.getPendingCount()).isZero();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldWriteOrRejectDocumentsOfferedDuringClose() throws Exception {
+        WriteBehindBuffer smallBuffer = new WriteBehindBuffer(operations, LONG_INTERVAL, 1,
+            (documents, exception) -> failures.add(exception));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch started = new CountDownLatch(4);
+        List<Future<List<Person>>> offers = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            String prefix = thread + "-";
+            offers.add(executor.submit(() -> {
+                List<Person> accepted = new ArrayList<>();
+                started.countDown();
+                for (int i = 0; ; i++) {
+                    Person person = Person.builder().id(prefix + i).build();
+                    if (!smallBuffer.offer(key(person.getId()), person)) {
+                        return accepted;
+                    }
+                    accepted.add(person);
+                }
+            }));
+        }
+
+        started.await();
+        smallBuffer.close();
+
+        List<Object> accepted = new ArrayList<>();
+        for (Future<List<Person>> offer : offers) {
+            accepted.addAll(offer.get(5, TimeUnit.SECONDS)); // fails if an offer threw
+        }
+        executor.shutdown();
+        assertThat(allSavedDocuments()).containsExactlyInAnyOrderElementsOf(accepted);
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    public void shouldReportFailedDocumentsOfBatch() {
+        Person ok = Person.builder().id("1").build();
+        Person failed = Person.builder().id("2").build();
+        AerospikeBatchWriteException exception = new AerospikeBatchWriteException("Errors during batch save",
+            List.of(new AerospikeBatchWriteException.Failure(failed, new QueryTimeoutException("timeout"))));
+        doThrow(exception).when(operations).saveAll(any());
+
+        buffer.offer(key("1"), ok);
+        buffer.offer(key("2"), failed);
+        buffer.flush();
+
+        assertThat(failedDocuments).containsExactly(List.of(failed));
+        assertThat(failures).containsExactly(exception);
+    }
+
+    @Test
+    public void shouldReportAllDocumentsWhenWholeFlushFails() {
+        Person person = Person.builder().id("1").build();
+        QueryTimeoutException exception = new QueryTimeoutException("timeout");
+        doThrow(exception).when(operations).saveAll(any());
+
+        buffer.offer(key("1"), person);
+        buffer.flush();
+
+        assertThat(failedDocuments).containsExactly(List.of(person));
+        assertThat(failures).containsExactly(exception);
+    }
+
+    @Test
+    public void shouldNotWriteWhenNothingIsPending() {
+        buffer.flush();
+
+        verify(operations, never()).saveAll(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> savedDocuments() {
+        ArgumentCaptor<Iterable<Object>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(operations).saveAll(captor.capture());
+        List<Object> documents = new ArrayList<>();
+        captor.getValue().forEach(documents::add);
+        return documents;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> allSavedDocuments() {
+        ArgumentCaptor<Iterable<Object>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(operations, atLeast(0)).saveAll(captor.capture());
+        List<Object> documents = new ArrayList<>();
+        captor.getAllValues().forEach(saved -> saved.forEach(documents::add));
+        return documents;
+    }
+
+    private static Key key(String id) {
+        return new Key("test", "Person", id);
+    }
+}
@@ -0,0 +1,184 @@
+package org.springframework.data.aerospike.core.async;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
+import org.springframework.data.aerospike.SampleClasses.VersionedClass;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.AerospikeExceptionTranslator;
+import org.springframework.data.aerospike.core.AsyncAerospikeTemplate;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.query.AsyncQueryEngine;
+import org.springframework.data.aerospike.query.FilterExpressionsBuilder;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.query.StatementBuilder;
+import org.springframework.data.aerospike.repository.query.AerospikeCriteria;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link AsyncAerospikeTemplate}, uses the client of the reactive configuration as it has event loops
+ * configured.
+ */
+public class AsyncAerospikeTemplateTests extends BaseReactiveIntegrationTests {
+
+    @Autowired
+    IAerospikeClient client;
+    @Autowired
+    MappingAerospikeConverter converter;
+    @Autowired
+    AerospikeMappingContext mappingContext;
+    @Autowired
+    AerospikeExceptionTranslator exceptionTranslator;
+    @Autowired
+    StatementBuilder statementBuilder;
+    @Autowired
+    FilterExpressionsBuilder filterExpressionsBuilder;
+
+    AsyncAerospikeTemplate asyncTemplate;
+
+    @BeforeEach
+    public void setUpAsyncTemplate() {
+        AsyncQueryEngine queryEngine = new AsyncQueryEngine(client, statementBuilder, filterExpressionsBuilder,
+            client.getQueryPolicyDefault());
+        queryEngine.setScansEnabled(true);
+        asyncTemplate = new AsyncAerospikeTemplate(client, reactiveTemplate.getNamespace(), converter,
+            mappingContext, exceptionTranslator, queryEngine);
+    }
+
+    @Test
+    public void save_shouldSaveAndSetVersion() {
+        VersionedClass document = new VersionedClass(id, "foo");
+
+        VersionedClass saved = asyncTemplate.save(document).join();
+
+        assertThat(saved.version).isEqualTo(1);
+        assertThat(findById(id, VersionedClass.class).version).isEqualTo(1);
+    }
+
+    @Test
+    public void save_shouldFailWithOptimisticLockingForStaleVersion() {
+        asyncTemplate.save(new VersionedClass(id, "foo")).join();
+
+        CompletableFuture<VersionedClass> future = asyncTemplate.save(new VersionedClass(id, "bar", 0L));
+
+        assertThatThrownBy(future::get)
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    public void save_shouldReportConversionErrorThroughFuture() {
+        CompletableFuture<VersionedClass> future = asyncTemplate.save(new VersionedClass(null, "foo"));
+
+        assertThatThrownBy(future::get)
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void insert_shouldFailWithDuplicateKey() {
+        Person person = Person.builder().id(id).firstName("Dave").build();
+        asyncTemplate.insert(person).join();
+
+        assertThatThrownBy(() -> asyncTemplate.insert(person).get())
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    public void update_shouldUpdateExistingDocument() {
+        asyncTemplate.insert(Person.builder().id(id).firstName("Dave").build()).join();
+
+        asyncTemplate.update(Person.builder().id(id).firstName("Carter").build()).join();
+
+        assertThat(asyncTemplate.findById(id, Person.class).join().getFirstName()).isEqualTo("Carter");
+    }
+
+    @Test
+    public void findById_shouldReturnNullForMissingDocument() {
+        assertThat(asyncTemplate.findById(id, Person.class).join()).isNull();
+    }
+
+    @Test
+    public void findByIds_shouldPipelineCommandsAndReturnExistingDocumentsInOrder() {
+        List<Person> persons = IntStream.range(0, 100)
+            .mapToObj(age -> Person.builder().id(nextId()).firstName("name" + age).age(age).build())
+            .collect(Collectors.toList());
+        CompletableFuture.allOf(persons.stream()
+            .map(asyncTemplate::save)
+            .toArray(CompletableFuture[]::new)).join();
+
+        List<String> ids = persons.stream().map(Person::getId).collect(Collectors.toList());
+        List<Person> result = asyncTemplate.findByIds(ids, Person.class).join();
+
+        assertThat(result).containsExactlyElementsOf(persons);
+        assertThat(asyncTemplate.findByIds(Arrays.asList(nextId(), nextId()), Person.class).join()).isEmpty();
+        deleteAll(persons);
+    }
+
+    @Test
+    public void find_shouldReturnDocumentsMatchingQuery() {
+        Person dave = Person.builder().id(id).firstName("Dave").lastName("AsyncQuery").build();
+        Person carter = Person.builder().id(nextId()).firstName("Carter").lastName("AsyncQuery").build();
+        asyncTemplate.save(dave).join();
+        asyncTemplate.save(carter).join();
+
+        Query query = new Query(new AerospikeCriteria(new Qualifier.QualifierBuilder()
+            .setFilterOperation(FilterOperation.EQ)
+            .setField("lastName")
+            .setValue1(Value.get("AsyncQuery"))));
+
+        assertThat(asyncTemplate.find(query, Person.class).join()).containsExactlyInAnyOrder(dave, carter);
+        deleteAll(Arrays.asList(dave, carter));
+    }
+
+    @Test
+    public void find_shouldReturnPageOfSortedDocuments() {
+        List<Person> persons = IntStream.range(0, 10)
+            .mapToObj(age -> Person.builder().id(nextId()).firstName("Person" + age).lastName("AsyncSortedQuery")
+                .age(age).build())
+            .collect(Collectors.toList());
+        persons.forEach(person -> asyncTemplate.save(person).join());
+
+        Query query = new Query(new AerospikeCriteria(new Qualifier.QualifierBuilder()
+            .setFilterOperation(FilterOperation.EQ)
+            .setField("lastName")
+            .setValue1(Value.get("AsyncSortedQuery"))))
+            .with(Sort.by(Sort.Order.desc("age")))
+            .skip(2)
+            .limit(3);
+
+        assertThat(asyncTemplate.find(query, Person.class).join()).extracting(Person::getAge)
+            .containsExactly(7, 6, 5);
+        deleteAll(persons);
+    }
+
+    @Test
+    public void deleteAndExists_shouldReportExistence() {
+        asyncTemplate.save(Person.builder().id(id).firstName("Dave").build()).join();
+        assertThat(asyncTemplate.exists(id, Person.class).join()).isTrue();
+
+        assertThat(asyncTemplate.delete(id, Person.class).join()).isTrue();
+
+        assertThat(asyncTemplate.exists(id, Person.class).join()).isFalse();
+        assertThat(asyncTemplate.delete(id, Person.class).join()).isFalse();
+    }
+}
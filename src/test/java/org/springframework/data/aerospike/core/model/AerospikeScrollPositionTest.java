@@ -0,0 +1,77 @@
+package org.springframework.data.aerospike.core.model;
+
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.PartitionStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AerospikeScrollPositionTest {
+
+    @Test
+    public void shouldRestoreSerializedPartitionState() {
+        PartitionStatus done = new PartitionStatus(10);
+        done.retry = false;
+        PartitionStatus resumed = new PartitionStatus(11);
+        resumed.retry = true;
+        resumed.bval = 42;
+        resumed.digest = new byte[20];
+        resumed.digest[0] = 7;
+        PartitionFilter partitionFilter = PartitionFilter.range(10, 2);
+        partitionFilter.setPartitions(new PartitionStatus[]{done, resumed});
+
+        AerospikeScrollPosition position = AerospikeScrollPosition.of(partitionFilter);
+        AerospikeScrollPosition restored = AerospikeScrollPosition.deserialize(position.serialize());
+
+        assertThat(restored).isEqualTo(position);
+        PartitionStatus[] partitions = restored.getPartitionFilter().getPartitions();
+        assertThat(partitions).hasSize(2);
+        assertThat(partitions[0].id).isEqualTo(10);
+        assertThat(partitions[0].retry).isFalse();
+        assertThat(partitions[0].digest).isNull();
+        assertThat(partitions[1].id).isEqualTo(11);
+        assertThat(partitions[1].retry).isTrue();
+        assertThat(partitions[1].bval).isEqualTo(42);
+        assertThat(partitions[1].digest).isEqualTo(resumed.digest);
+    }
+
+    @Test
+    public void shouldNotSerializeCursorOfCompletedPartitions() {
+        PartitionStatus[] partitions = new PartitionStatus[4096];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new PartitionStatus(i);
+            partitions[i].retry = i == 0;
+            partitions[i].bval = i + 1;
+            partitions[i].digest = new byte[20];
+            partitions[i].digest[0] = (byte) i;
+            partitions[i].digest[1] = (byte) (i >> 8);
+        }
+        PartitionFilter partitionFilter = PartitionFilter.all();
+        partitionFilter.setPartitions(partitions);
+
+        String position = AerospikeScrollPosition.of(partitionFilter).serialize();
+        PartitionStatus[] restored = AerospikeScrollPosition.deserialize(position).getPartitionFilter().getPartitions();
+
+        assertThat(position.length()).isLessThan(200);
+        assertThat(restored[0].digest).isEqualTo(partitions[0].digest);
+        assertThat(restored[0].bval).isEqualTo(1);
+        assertThat(restored[1].retry).isFalse();
+        assertThat(restored[1].digest).isNull();
+        assertThat(restored[1].bval).isZero();
+    }
+
+    @Test
+    public void shouldUseEmptyStringForInitialPosition() {
+        assertThat(AerospikeScrollPosition.initial().serialize()).isEmpty();
+        assertThat(AerospikeScrollPosition.deserialize("").isInitial()).isTrue();
+        assertThat(AerospikeScrollPosition.initial().getPartitionFilter().getPartitions()).isNull();
+    }
+
+    @Test
+    public void shouldRejectMalformedPosition() {
+        assertThatThrownBy(() -> AerospikeScrollPosition.deserialize("not a position"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Malformed scroll position");
+    }
+}
@@ -0,0 +1,39 @@
+package org.springframework.data.aerospike.core.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
+import org.springframework.data.aerospike.core.model.BatchEntryResults;
+import org.springframework.data.aerospike.sample.Person;
+import reactor.core.scheduler.Schedulers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReactiveAerospikeTemplateBatchTests extends BaseReactiveIntegrationTests {
+
+    @Test
+    public void batch_shouldExecuteMixedEntries() {
+        Person saved = Person.builder().id(id).firstName("saved").build();
+        Person deleted = Person.builder().id(nextId()).firstName("deleted").build();
+        Person read = Person.builder().id(nextId()).firstName("read").build();
+        reactiveTemplate.insert(deleted).block();
+        reactiveTemplate.insert(read).block();
+
+        BatchEntryResults results = reactiveTemplate.batch()
+            .save(saved)
+            .delete(deleted)
+            .findById(read.getId(), Person.class)
+            .execute()
+            .subscribeOn(Schedulers.parallel())
+            .block();
+
+        assertThat(results).isNotNull();
+        assertThat(results.isSuccess()).isTrue();
+        assertThat(results.get(0, Person.class).getValue()).isEqualTo(saved);
+        assertThat(results.get(1, Boolean.class).getValue()).isTrue();
+        assertThat(results.get(2, Person.class).getValue()).isEqualTo(read);
+        assertThat(findById(id, Person.class)).isEqualTo(saved);
+        assertThat(findById(deleted.getId(), Person.class)).isNull();
+        reactiveTemplate.delete(saved).block(); // cleanup
+        reactiveTemplate.delete(read).block(); // cleanup
+    }
+}
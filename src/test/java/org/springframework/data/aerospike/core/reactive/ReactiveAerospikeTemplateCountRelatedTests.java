@@ -163,6 +163,25 @@ public class ReactiveAerospikeTemplateCountRelatedTests extends BaseReactiveInte
         reactiveTemplate.delete(reactiveTemplate.findById(id4, Person.class).block()).block(); // cleanup
     }
 
+    @Test
+    public void exists_shouldCheckIfAnyItemMatchesGivenCriteria() {
+        reactiveTemplate.insert(new Person(id, "vasili", 50)).block();
+
+        Query vasili = new Query(new AerospikeCriteria(new Qualifier.QualifierBuilder()
+            .setField("firstName")
+            .setValue1(Value.get("vasili"))
+            .setFilterOperation(FilterOperation.EQ)));
+        Query petya = new Query(new AerospikeCriteria(new Qualifier.QualifierBuilder()
+            .setField("firstName")
+            .setValue1(Value.get("petya"))
+            .setFilterOperation(FilterOperation.EQ)));
+
+        assertThat(reactiveTemplate.exists(vasili, Person.class).subscribeOn(Schedulers.parallel()).block()).isTrue();
+        assertThat(reactiveTemplate.exists(petya, Person.class).subscribeOn(Schedulers.parallel()).block()).isFalse();
+
+        reactiveTemplate.delete(reactiveTemplate.findById(id, Person.class).block()).block(); // cleanup
+    }
+
     @SuppressWarnings("SameParameterValue")
     private boolean isCountExactlyNum(Long num) {
         return Objects.equals(reactiveTemplate.count(Person.class).block(), num);
@@ -6,6 +6,7 @@ import org.springframework.data.aerospike.SampleClasses.DocumentWithTouchOnRead;
 import org.springframework.data.aerospike.SampleClasses.DocumentWithTouchOnReadAndExpirationProperty;
 import org.springframework.data.aerospike.core.ReactiveAerospikeTemplate;
 import org.springframework.data.aerospike.sample.Person;
+import reactor.core.publisher.Flux;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
@@ -102,4 +103,28 @@ public class ReactiveAerospikeTemplateFindTests extends BaseReactiveIntegrationT
         reactiveTemplate.delete(customer2).block(); // cleanup
         reactiveTemplate.delete(customer3).block(); // cleanup
     }
+
+    @Test
+    public void findByIds_shouldFindExistingInOrderOfIdsAcrossBatches() {
+        Person customer1 = new Person(nextId(), "Dave", "Matthews");
+        Person customer2 = new Person(nextId(), "James", "Bond");
+        Person customer3 = new Person(nextId(), "Matt", "Groening");
+        reactiveTemplate.insertAll(Arrays.asList(customer1, customer2, customer3)).blockLast();
+
+        int initialBatchReadSize = reactiveTemplate.getBatchReadSize();
+        reactiveTemplate.setBatchReadSize(2);
+        try {
+            Flux<String> ids = Flux.just(customer3.getId(), "unknown", customer1.getId(), customer2.getId());
+            List<Person> actual = reactiveTemplate.findByIds(ids, Person.class)
+                .subscribeOn(Schedulers.parallel())
+                .collectList().block();
+
+            assertThat(actual).containsExactly(customer3, customer1, customer2);
+        } finally {
+            reactiveTemplate.setBatchReadSize(initialBatchReadSize);
+        }
+        reactiveTemplate.delete(customer1).block(); // cleanup
+        reactiveTemplate.delete(customer2).block(); // cleanup
+        reactiveTemplate.delete(customer3).block(); // cleanup
+    }
 }
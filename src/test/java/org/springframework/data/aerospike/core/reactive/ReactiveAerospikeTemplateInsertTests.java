@@ -4,6 +4,7 @@ import com.aerospike.client.Key;
 import com.aerospike.client.policy.Policy;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.aerospike.AerospikeBatchWriteException;
 import org.springframework.data.aerospike.AsyncUtils;
 import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
 import org.springframework.data.aerospike.SampleClasses.CustomCollectionClass;
@@ -190,7 +191,9 @@ public class ReactiveAerospikeTemplateInsertTests extends BaseReactiveIntegratio
         assertThat(findById(id, Person.class)).isEqualTo(person);
 
         StepVerifier.create(reactiveTemplate.insertAll(List.of(person)))
-            .expectError(DuplicateKeyException.class)
+            .expectErrorSatisfies(e -> assertThat(e)
+                .isInstanceOf(AerospikeBatchWriteException.class)
+                .hasCauseInstanceOf(DuplicateKeyException.class))
             .verify();
         reactiveTemplate.delete(findById(id, Person.class)).block(); // cleanup
     }
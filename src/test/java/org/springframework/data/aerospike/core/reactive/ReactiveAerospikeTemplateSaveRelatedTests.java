@@ -11,11 +11,15 @@ import org.springframework.data.aerospike.SampleClasses.CustomCollectionClass;
 import org.springframework.data.aerospike.SampleClasses.VersionedClass;
 import org.springframework.data.aerospike.core.ReactiveAerospikeTemplate;
 import org.springframework.data.aerospike.sample.Person;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -217,4 +221,20 @@ public class ReactiveAerospikeTemplateSaveRelatedTests extends BaseReactiveInteg
         assertThatThrownBy(() -> reactiveTemplate.save(null).block())
             .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    public void saveAll_shouldSaveInBatchesAndEmitInOrder() {
+        List<VersionedClass> documents = IntStream.range(0, 250)
+            .mapToObj(i -> new VersionedClass(nextId(), "foo" + i))
+            .collect(Collectors.toList());
+
+        List<VersionedClass> saved = reactiveTemplate.saveAll(Flux.fromIterable(documents))
+            .subscribeOn(Schedulers.parallel())
+            .collectList().block();
+
+        assertThat(saved).containsExactlyElementsOf(documents);
+        assertThat(saved).allSatisfy(document -> assertThat(document.version).isEqualTo(1));
+        reactiveTemplate.deleteByIds(documents.stream().map(VersionedClass::getId).collect(Collectors.toList()),
+            VersionedClass.class).block(); // cleanup
+    }
 }
@@ -114,6 +114,22 @@ public class AerospikePersistentEntityTest extends BaseBlockingIntegrationTests
             .hasMessage("Property id is not expiration property");
     }
 
+    @Test
+    public void shouldReturnWriteMode() {
+        assertThat(context.getRequiredPersistentEntity(ReplaceModeDocument.class).getWriteMode())
+            .isEqualTo(WriteMode.REPLACE);
+        assertThat(context.getRequiredPersistentEntity(UpdateModeDocument.class).getWriteMode())
+            .isEqualTo(WriteMode.UPDATE);
+    }
+
+    @Test
+    public void shouldReturnDeleteAndPutWriteModeByDefault() {
+        assertThat(context.getRequiredPersistentEntity(DocumentWithoutExpiration.class).getWriteMode())
+            .isEqualTo(WriteMode.DELETE_AND_PUT);
+        assertThat(context.getRequiredPersistentEntity(DocumentWithoutAnnotation.class).getWriteMode())
+            .isEqualTo(WriteMode.DELETE_AND_PUT);
+    }
+
     @Test
     public void shouldResolvePlaceholdersInCollection() {
         BasicAerospikePersistentEntity<?> persistentEntity =
@@ -0,0 +1,86 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Key;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DigestSetTest {
+
+    @Test
+    public void shouldAddDigestsOnce() {
+        DigestSet digests = new DigestSet();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(digests.add(key(i))).isTrue();
+        }
+
+        assertThat(digests.add(key(500))).isFalse();
+        assertThat(digests.size()).isEqualTo(1_000);
+        assertThat(digests.contains(digest(999))).isTrue();
+        assertThat(digests.contains(digest(1_000))).isFalse();
+    }
+
+    @Test
+    public void shouldIntersect() {
+        DigestSet even = new DigestSet();
+        DigestSet belowHundred = new DigestSet();
+        for (int i = 0; i < 1_000; i++) {
+            if (i % 2 == 0) {
+                even.add(key(i));
+            }
+            if (i < 100) {
+                belowHundred.add(key(i));
+            }
+        }
+
+        DigestSet intersection = even.intersect(belowHundred);
+
+        assertThat(intersection.size()).isEqualTo(50);
+        assertThat(intersection.contains(digest(42))).isTrue();
+        assertThat(intersection.contains(digest(43))).isFalse();
+        assertThat(intersection.contains(digest(200))).isFalse();
+    }
+
+    @Test
+    public void shouldReturnKeysOfAddedDigests() {
+        DigestSet digests = new DigestSet();
+        digests.add(key(1));
+        digests.add(key(2));
+        digests.add(key(3));
+
+        Key[] keys = digests.toKeys("test", "set", 2);
+
+        assertThat(keys).hasSize(2).allSatisfy(key -> {
+            assertThat(key.namespace).isEqualTo("test");
+            assertThat(key.setName).isEqualTo("set");
+            assertThat(key.userKey).isNull();
+            assertThat(digests.contains(key.digest)).isTrue();
+        });
+        assertThat(Arrays.equals(keys[0].digest, keys[1].digest)).isFalse();
+        assertThat(digests.toKeys("test", "set", 0)).hasSize(3);
+    }
+
+    @Test
+    public void shouldReturnUserKeysOnlyIfKept() {
+        DigestSet digests = DigestSet.withUserKeys();
+        for (int i = 0; i < 200; i++) {
+            digests.add(key(i));
+        }
+
+        assertThat(digests.toKeys("test", "set", 0)).hasSize(200)
+            .allSatisfy(key -> assertThat(key.digest).isEqualTo(key(key.userKey.toInteger()).digest));
+        assertThat(digests.intersect(digests).toKeys("test", "set", 0)).hasSize(200)
+            .allSatisfy(key -> assertThat(key.userKey).isNull());
+    }
+
+    private static Key key(int id) {
+        return new Key("test", "set", id);
+    }
+
+    private static byte[] digest(int id) {
+        return key(id).digest;
+    }
+}
@@ -0,0 +1,35 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.KeyRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DistinctKeyRecordIteratorTest {
+
+    @Test
+    public void shouldSkipRecordsWithKeysAlreadyReturned() {
+        KeyRecord first = keyRecord("1");
+        KeyRecord second = keyRecord("2");
+        KeyRecord third = keyRecord("3");
+
+        DistinctKeyRecordIterator iterator = new DistinctKeyRecordIterator(List.of(
+            List.of(first, second), List.<KeyRecord>of(), List.of(keyRecord("2"), third, keyRecord("1"))).iterator());
+
+        assertThat(iterator).toIterable().containsExactly(first, second, third);
+    }
+
+    @Test
+    public void shouldBeEmptyWithoutSources() {
+        assertThat(new DistinctKeyRecordIterator(List.<List<KeyRecord>>of().iterator()).hasNext()).isFalse();
+    }
+
+    private static KeyRecord keyRecord(String id) {
+        return new KeyRecord(new Key("test", "set", id), new Record(Map.of(), 1, 0));
+    }
+}
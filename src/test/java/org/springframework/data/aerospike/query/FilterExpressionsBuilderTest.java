@@ -0,0 +1,77 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Value;
+import com.aerospike.client.exp.Expression;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.query.cache.IndexesCache;
+import org.springframework.data.aerospike.query.model.Index;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FilterExpressionsBuilderTest {
+
+    private final FilterExpressionsBuilder filterExpressionsBuilder = new FilterExpressionsBuilder();
+
+    @Test
+    public void shouldReuseCompiledExpressionOfQualifier() {
+        Qualifier qualifier = qualifier("age", FilterOperation.GT, 20);
+
+        Expression first = filterExpressionsBuilder.build(new Qualifier[]{qualifier});
+        Expression second = filterExpressionsBuilder.build(new Qualifier[]{qualifier});
+
+        assertThat(second).isSameAs(first);
+        assertThat(qualifier.toFilterExp()).isSameAs(qualifier.toFilterExp());
+    }
+
+    @Test
+    public void shouldRecompileModifiedQualifier() {
+        Qualifier qualifier = qualifier("age", FilterOperation.GT, 20);
+        Expression before = filterExpressionsBuilder.build(new Qualifier[]{qualifier});
+
+        qualifier.put(Qualifier.VALUE1, Value.get(30));
+        Expression after = filterExpressionsBuilder.build(new Qualifier[]{qualifier});
+
+        assertThat(after.getBytes()).isNotEqualTo(before.getBytes());
+    }
+
+    @Test
+    public void shouldExcludeQualifierServedBySecondaryIndexWithoutModifyingIt() {
+        IndexesCache indexesCache = mock(IndexesCache.class);
+        when(indexesCache.getIndex(any())).thenReturn(Optional.of(Index.builder().name("age_index").build()));
+        Qualifier indexed = qualifier("age", FilterOperation.EQ, 20);
+        Qualifier other = qualifier("name", FilterOperation.EQ, "Bob");
+        Qualifier[] qualifiers = {indexed, other};
+
+        QueryPlan plan = new StatementBuilder(indexesCache).plan("test", "set", qualifiers);
+
+        assertThat(plan.getQualifier()).isSameAs(indexed);
+        assertThat(indexed.queryAsFilter()).isFalse();
+        assertThat(filterExpressionsBuilder.build(qualifiers, plan).getBytes())
+            .isEqualTo(filterExpressionsBuilder.build(new Qualifier[]{other}).getBytes());
+    }
+
+    @Test
+    public void shouldKeepEqualQualifierNotChosenByPlanner() {
+        IndexesCache indexesCache = mock(IndexesCache.class);
+        when(indexesCache.getIndex(any())).thenReturn(Optional.of(Index.builder().name("age_index").build()));
+        Qualifier indexed = qualifier("age", FilterOperation.EQ, 20);
+        Qualifier equal = qualifier("age", FilterOperation.EQ, 20);
+        QueryPlan plan = new StatementBuilder(indexesCache).plan("test", "set", new Qualifier[]{indexed});
+
+        Expression expression = filterExpressionsBuilder.build(new Qualifier[]{indexed, equal}, plan);
+
+        assertThat(expression.getBytes()).isEqualTo(equal.toFilterExpression().getBytes());
+    }
+
+    private static Qualifier qualifier(String field, FilterOperation operation, Object value) {
+        return new Qualifier(new Qualifier.QualifierBuilder()
+            .setField(field)
+            .setFilterOperation(operation)
+            .setValue1(Value.get(value)));
+    }
+}
@@ -21,9 +21,12 @@ import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.IndexType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.AwaitilityUtils;
 import org.springframework.data.aerospike.CollectionUtils;
 import org.springframework.data.aerospike.IndexUtils;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -35,12 +38,16 @@ import static org.springframework.data.aerospike.query.QueryEngineTestDataPopula
 import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.INDEXED_GEO_SET;
 import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.INDEXED_SET_NAME;
 import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.ORANGE;
+import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.RECORD_COUNT;
 
 /*
  * These tests generate qualifiers on indexed bins.
  */
 public class IndexedQualifierTests extends BaseQueryEngineTests {
 
+    @Autowired
+    StatementBuilder statementBuilder;
+
     @AfterEach
     public void assertNoScans() {
         additionalAerospikeTestOperations.assertNoScansForSet(INDEXED_SET_NAME);
@@ -295,4 +302,88 @@ public class IndexedQualifierTests extends BaseQueryEngineTests {
             tryDropIndex(namespace, INDEXED_SET_NAME, "color_index");
         }
     }
+
+    @Test
+    public void selectWithOrQualifierOnIndexedBins() {
+        Qualifier colorIsGreen = new Qualifier(new Qualifier.QualifierBuilder()
+            .setField("color")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue1(Value.get(GREEN)));
+        Qualifier ageIs25 = new Qualifier(new Qualifier.QualifierBuilder()
+            .setField("age")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue1(Value.get(25)));
+        Qualifier qualifier = new Qualifier(new Qualifier.QualifierBuilder()
+            .setFilterOperation(FilterOperation.OR)
+            .setQualifiers(colorIsGreen, ageIs25));
+
+        tryCreateIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC);
+        tryCreateIndex(namespace, INDEXED_SET_NAME, "color_index", "color", IndexType.STRING);
+        try {
+            KeyRecordIterator it = queryEngine.select(namespace, INDEXED_SET_NAME, null, qualifier);
+
+            // records of age 25 are blue, so none of them is returned twice
+            assertThat(it).toIterable()
+                .allSatisfy(rec -> assertThat(rec.record.getString("color").equals(GREEN)
+                    || rec.record.getInt("age") == 25).isTrue())
+                .hasSize(queryEngineTestDataPopulator.colourCounts.get(GREEN)
+                    + queryEngineTestDataPopulator.ageCount.get(25));
+        } finally {
+            tryDropIndex(namespace, INDEXED_SET_NAME, "age_index");
+            tryDropIndex(namespace, INDEXED_SET_NAME, "color_index");
+        }
+    }
+
+    @Test
+    public void selectWithInQualifierOnIndexedBin() {
+        withIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC, () -> {
+            Qualifier qualifier = new Qualifier(new Qualifier.QualifierBuilder()
+                .setField("age")
+                .setFilterOperation(FilterOperation.IN)
+                .setValue1(Value.get(List.of(25, 27, 27))));
+
+            KeyRecordIterator it = queryEngine.select(namespace, INDEXED_SET_NAME, null, qualifier);
+
+            assertThat(it).toIterable()
+                .allSatisfy(rec -> assertThat(rec.record.getInt("age")).isIn(25, 27))
+                .hasSize(queryEngineTestDataPopulator.ageCount.get(25) + queryEngineTestDataPopulator.ageCount.get(27));
+        });
+    }
+
+    @Test
+    public void selectWithIndexIntersection() {
+        Qualifier colorIsGreen = new Qualifier(new Qualifier.QualifierBuilder()
+            .setField("color")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue1(Value.get(GREEN)));
+        Qualifier ageIs28 = new Qualifier(new Qualifier.QualifierBuilder()
+            .setField("age")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue1(Value.get(28)));
+        Qualifier[] qualifiers = {colorIsGreen, ageIs28};
+
+        tryCreateIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC);
+        tryCreateIndex(namespace, INDEXED_SET_NAME, "color_index", "color", IndexType.STRING);
+        statementBuilder.setIndexIntersectionMaxEntries(RECORD_COUNT);
+        try {
+            // statistics of new indexes are reported once the indexes are built
+            AwaitilityUtils.awaitTenSecondsUntil(() -> {
+                indexRefresher.refreshIndexes();
+                assertThat(statementBuilder.planIntersection(namespace, INDEXED_SET_NAME, qualifiers)).isNotNull();
+            });
+
+            KeyRecordIterator it = queryEngine.select(namespace, INDEXED_SET_NAME, null, qualifiers);
+
+            assertThat(it).toIterable()
+                .allSatisfy(rec -> {
+                    assertThat(rec.record.getInt("age")).isEqualTo(28);
+                    assertThat(rec.record.getString("color")).isEqualTo(GREEN);
+                })
+                .hasSize(queryEngineTestDataPopulator.ageCount.get(28));
+        } finally {
+            statementBuilder.setIndexIntersectionMaxEntries(0);
+            tryDropIndex(namespace, INDEXED_SET_NAME, "age_index");
+            tryDropIndex(namespace, INDEXED_SET_NAME, "color_index");
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.query.Statement;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryPolicyHintsTest {
+
+    @Test
+    public void shouldApplyHintsThatAreSet() {
+        QueryPolicy policy = new QueryPolicy();
+        Statement statement = new Statement();
+
+        QueryPolicyHints.builder()
+            .maxRecords(10L)
+            .recordsPerSecond(100)
+            .shortQuery(true)
+            .recordQueueSize(50)
+            .totalTimeout(2000)
+            .maxConcurrentNodes(1)
+            .build()
+            .applyTo(policy, statement);
+
+        assertThat(statement.getMaxRecords()).isEqualTo(10L);
+        assertThat(statement.getRecordsPerSecond()).isEqualTo(100);
+        assertThat(policy.shortQuery).isTrue();
+        assertThat(policy.recordQueueSize).isEqualTo(50);
+        assertThat(policy.totalTimeout).isEqualTo(2000);
+        assertThat(policy.maxConcurrentNodes).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldKeepDefaultsOfHintsThatAreNotSet() {
+        QueryPolicy defaults = new QueryPolicy();
+        QueryPolicy policy = new QueryPolicy();
+        Statement statement = new Statement();
+
+        QueryPolicyHints.builder().totalTimeout(2000).build().applyTo(policy, statement);
+
+        assertThat(statement.getMaxRecords()).isZero();
+        assertThat(statement.getRecordsPerSecond()).isZero();
+        assertThat(policy.shortQuery).isEqualTo(defaults.shortQuery);
+        assertThat(policy.recordQueueSize).isEqualTo(defaults.recordQueueSize);
+        assertThat(policy.maxConcurrentNodes).isEqualTo(defaults.maxConcurrentNodes);
+        assertThat(policy.totalTimeout).isEqualTo(2000);
+    }
+}
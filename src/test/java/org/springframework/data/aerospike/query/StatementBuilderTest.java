@@ -0,0 +1,320 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Value;
+import com.aerospike.client.cdt.CTX;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.Statement;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.query.cache.IndexesCacheHolder;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStats;
+import org.springframework.data.aerospike.query.model.IndexesInfo;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StatementBuilderTest {
+
+    private static final String NAMESPACE = "test";
+    private static final String SET = "person";
+
+    private final Map<IndexKey, Index> indexes = new HashMap<>();
+    private final Map<IndexKey, IndexStats> stats = new HashMap<>();
+    private final IndexesCacheHolder indexesCache = new IndexesCacheHolder();
+    private final StatementBuilder statementBuilder = new StatementBuilder(indexesCache);
+
+    @Test
+    public void shouldChooseMostSelectiveIndex() {
+        addIndex("status", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(1_000_000, 500_000));
+        addIndex("email", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(1_000_000, 1));
+        Qualifier status = qualifier("status", FilterOperation.EQ, Value.get("ACTIVE"));
+        Qualifier email = qualifier("email", FilterOperation.EQ, Value.get("bob@example.com"));
+
+        QueryPlan plan = statementBuilder.plan(NAMESPACE, SET, new Qualifier[]{status, email});
+
+        assertThat(plan.getQualifier()).isSameAs(email);
+        assertThat(plan.getIndex().getName()).isEqualTo("email_index");
+        assertThat(plan.getEstimatedRecords()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldChooseMostSelectiveIndexInsideAnd() {
+        addIndex("age", IndexType.NUMERIC, IndexCollectionType.DEFAULT, new IndexStats(1_000, 10));
+        addIndex("email", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(1_000, 1));
+        Qualifier age = qualifier("age", FilterOperation.GT, Value.get(20));
+        Qualifier email = qualifier("email", FilterOperation.EQ, Value.get("bob@example.com"));
+        Qualifier and = new Qualifier(new Qualifier.QualifierBuilder()
+            .setFilterOperation(FilterOperation.AND)
+            .setQualifiers(age, email));
+
+        Statement statement = statementBuilder.build(NAMESPACE, SET, null, new Qualifier[]{and});
+
+        assertThat(statement.getFilter()).isSameAs(email.asFilter());
+    }
+
+    @Test
+    public void shouldPreferIndexWithStatistics() {
+        addIndex("status", IndexType.STRING, IndexCollectionType.DEFAULT, null);
+        addIndex("age", IndexType.NUMERIC, IndexCollectionType.DEFAULT, new IndexStats(1_000, 0));
+        Qualifier status = qualifier("status", FilterOperation.EQ, Value.get("ACTIVE"));
+        Qualifier age = qualifier("age", FilterOperation.BETWEEN, Value.get(20), Value.get(30));
+
+        QueryPlan plan = statementBuilder.plan(NAMESPACE, SET, new Qualifier[]{status, age});
+
+        assertThat(plan.getQualifier()).isSameAs(age);
+        assertThat(plan.getEstimatedRecords()).isEqualTo(333);
+    }
+
+    @Test
+    public void shouldKeepOrderOfQualifiersWithoutStatistics() {
+        addIndex("status", IndexType.STRING, IndexCollectionType.DEFAULT, null);
+        addIndex("email", IndexType.STRING, IndexCollectionType.DEFAULT, null);
+        Qualifier status = qualifier("status", FilterOperation.EQ, Value.get("ACTIVE"));
+        Qualifier email = qualifier("email", FilterOperation.EQ, Value.get("bob@example.com"));
+
+        QueryPlan plan = statementBuilder.plan(NAMESPACE, SET, new Qualifier[]{status, email});
+
+        assertThat(plan.getQualifier()).isSameAs(status);
+        assertThat(plan.getEstimatedRecords()).isEqualTo(QueryPlan.UNKNOWN_ESTIMATE);
+    }
+
+    @Test
+    public void shouldNotUseIndexOfDifferentType() {
+        addIndex("age", IndexType.STRING, IndexCollectionType.DEFAULT, null);
+        addIndex("tags", IndexType.STRING, IndexCollectionType.DEFAULT, null);
+        Qualifier age = qualifier("age", FilterOperation.EQ, Value.get(20));
+        Qualifier tags = qualifier("tags", FilterOperation.LIST_VAL_CONTAINING, Value.get("blue"));
+
+        QueryPlan plan = statementBuilder.plan(NAMESPACE, SET, new Qualifier[]{age, tags});
+
+        assertThat(plan.isIndexQuery()).isFalse();
+    }
+
+    @Test
+    public void shouldUseIndexWithoutCollectionType() {
+        addIndex("email", IndexType.STRING, null, null);
+        Qualifier email = qualifier("email", FilterOperation.EQ, Value.get("bob@example.com"));
+
+        QueryPlan plan = statementBuilder.plan(NAMESPACE, SET, new Qualifier[]{email});
+
+        assertThat(plan.getIndex().getName()).isEqualTo("email_index");
+    }
+
+    @Test
+    public void shouldUseCollectionIndex() {
+        addIndex("tags", IndexType.STRING, IndexCollectionType.LIST, null);
+        Qualifier tags = qualifier("tags", FilterOperation.LIST_VAL_CONTAINING, Value.get("blue"));
+
+        QueryPlan plan = statementBuilder.plan(NAMESPACE, SET, new Qualifier[]{tags});
+
+        assertThat(plan.getIndex().getName()).isEqualTo("tags_index");
+    }
+
+    @Test
+    public void shouldNotUseIndexOfDifferentCollectionType() {
+        addIndex("attributes", IndexType.STRING, IndexCollectionType.MAPKEYS, null);
+        Qualifier mapValue = qualifier("attributes", FilterOperation.MAP_VAL_CONTAIN, Value.get("red"));
+        Qualifier mapKey = qualifier("attributes", FilterOperation.MAP_KEYS_CONTAIN, Value.get("color"));
+
+        assertThat(statementBuilder.plan(NAMESPACE, SET, new Qualifier[]{mapValue}).isIndexQuery()).isFalse();
+        assertThat(statementBuilder.plan(NAMESPACE, SET, new Qualifier[]{mapKey}).getIndex().getName())
+            .isEqualTo("attributes_index");
+    }
+
+    @Test
+    public void shouldUseMapValuesIndexOfNestedMap() {
+        addIndexWithContext("scores", IndexType.NUMERIC, IndexCollectionType.MAPVALUES,
+            new CTX[]{CTX.mapKey(Value.get("math"))});
+        Qualifier nested = mapValueByKey("scores", "scores.math.final", FilterOperation.MAP_VAL_GT_BY_KEY, 10);
+        Qualifier topLevel = mapValueByKey("scores", "scores.final", FilterOperation.MAP_VAL_GT_BY_KEY, 10);
+
+        QueryPlan plan = statementBuilder.plan(NAMESPACE, SET, new Qualifier[]{nested});
+
+        assertThat(plan.getIndex().getName()).isEqualTo("scores_index");
+        assertThat(plan.getFilter()).isSameAs(nested.asFilter());
+        assertThat(statementBuilder.plan(NAMESPACE, SET, new Qualifier[]{topLevel}).isIndexQuery()).isFalse();
+    }
+
+    @Test
+    public void shouldPlanOrOfIndexedBinsAsUnion() {
+        addIndex("email", IndexType.STRING, IndexCollectionType.DEFAULT, null);
+        addIndex("phone", IndexType.STRING, IndexCollectionType.DEFAULT, null);
+        Qualifier email = qualifier("email", FilterOperation.EQ, Value.get("bob@example.com"));
+        Qualifier phone = qualifier("phone", FilterOperation.EQ, Value.get("555-0100"));
+
+        QueryPlan plan = statementBuilder.planUnion(NAMESPACE, SET, new Qualifier[]{or(email, phone)});
+
+        assertThat(plan.isUnion()).isTrue();
+        assertThat(plan.getBranches()).extracting(QueryPlan::getQualifier).containsExactly(email, phone);
+    }
+
+    @Test
+    public void shouldPlanInOfIndexedBinAsUnion() {
+        addIndex("age", IndexType.NUMERIC, IndexCollectionType.DEFAULT, new IndexStats(1_000, 10));
+        Qualifier in = qualifier("age", FilterOperation.IN, Value.get(List.of(20, 30, 40)));
+
+        QueryPlan plan = statementBuilder.planUnion(NAMESPACE, SET, new Qualifier[]{in});
+
+        assertThat(plan.getBranches()).hasSize(3)
+            .allSatisfy(branch -> assertThat(branch.getIndex().getName()).isEqualTo("age_index"));
+        assertThat(plan.getEstimatedRecords()).isEqualTo(30);
+    }
+
+    @Test
+    public void shouldNotPlanUnionIfBranchIsNotIndexed() {
+        addIndex("email", IndexType.STRING, IndexCollectionType.DEFAULT, null);
+        Qualifier email = qualifier("email", FilterOperation.EQ, Value.get("bob@example.com"));
+        Qualifier phone = qualifier("phone", FilterOperation.EQ, Value.get("555-0100"));
+
+        assertThat(statementBuilder.planUnion(NAMESPACE, SET, new Qualifier[]{or(email, phone)})).isNull();
+    }
+
+    @Test
+    public void shouldNotPlanUnionAboveFanOutLimit() {
+        addIndex("age", IndexType.NUMERIC, IndexCollectionType.DEFAULT, null);
+        Qualifier in = qualifier("age", FilterOperation.IN, Value.get(List.of(20, 30, 40)));
+        statementBuilder.setMaxIndexQueryFanOut(2);
+
+        assertThat(statementBuilder.planUnion(NAMESPACE, SET, new Qualifier[]{in})).isNull();
+    }
+
+    @Test
+    public void shouldPreferSingleIndexQueryOverUnionWithoutStatistics() {
+        addIndex("age", IndexType.NUMERIC, IndexCollectionType.DEFAULT, null);
+        addIndex("status", IndexType.STRING, IndexCollectionType.DEFAULT, null);
+        Qualifier in = qualifier("age", FilterOperation.IN, Value.get(List.of(20, 30)));
+        Qualifier status = qualifier("status", FilterOperation.EQ, Value.get("ACTIVE"));
+
+        assertThat(statementBuilder.planUnion(NAMESPACE, SET, new Qualifier[]{in, status})).isNull();
+    }
+
+    @Test
+    public void shouldPreferCheaperUnionOverSingleIndexQuery() {
+        addIndex("age", IndexType.NUMERIC, IndexCollectionType.DEFAULT, new IndexStats(1_000, 10));
+        addIndex("status", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(1_000, 500));
+        Qualifier in = qualifier("age", FilterOperation.IN, Value.get(List.of(20, 30)));
+        Qualifier status = qualifier("status", FilterOperation.EQ, Value.get("ACTIVE"));
+
+        QueryPlan plan = statementBuilder.planUnion(NAMESPACE, SET, new Qualifier[]{in, status});
+
+        assertThat(plan.getQualifier()).isSameAs(in);
+        assertThat(plan.getEstimatedRecords()).isEqualTo(20);
+    }
+
+    @Test
+    public void shouldPlanIntersectionOfSelectiveIndexes() {
+        addIndex("country", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(1_000_000, 5_000));
+        addIndex("age", IndexType.NUMERIC, IndexCollectionType.DEFAULT, new IndexStats(30_000, 0));
+        addIndex("status", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(1_000_000, 500_000));
+        Qualifier country = qualifier("country", FilterOperation.EQ, Value.get("NZ"));
+        Qualifier age = qualifier("age", FilterOperation.BETWEEN, Value.get(20), Value.get(30));
+        Qualifier status = qualifier("status", FilterOperation.EQ, Value.get("ACTIVE"));
+        statementBuilder.setIndexIntersectionMaxEntries(10_000);
+
+        QueryPlan plan = statementBuilder.planIntersection(NAMESPACE, SET, new Qualifier[]{status, age, country});
+
+        assertThat(plan.isIntersection()).isTrue();
+        assertThat(plan.getBranches()).extracting(QueryPlan::getQualifier).containsExactly(country, age);
+        assertThat(plan.getEstimatedRecords()).isEqualTo(5_000);
+    }
+
+    @Test
+    public void shouldNotPlanIntersectionIfDisabled() {
+        addIndex("country", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(1_000_000, 5_000));
+        addIndex("city", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(1_000_000, 1_000));
+        Qualifier country = qualifier("country", FilterOperation.EQ, Value.get("NZ"));
+        Qualifier city = qualifier("city", FilterOperation.EQ, Value.get("Auckland"));
+
+        assertThat(statementBuilder.planIntersection(NAMESPACE, SET, new Qualifier[]{country, city})).isNull();
+    }
+
+    @Test
+    public void shouldNotPlanIntersectionIfSingleIndexIsSelectiveEnough() {
+        addIndex("country", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(1_000_000, 5_000));
+        addIndex("email", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(1_000_000, 1));
+        Qualifier country = qualifier("country", FilterOperation.EQ, Value.get("NZ"));
+        Qualifier email = qualifier("email", FilterOperation.EQ, Value.get("bob@example.com"));
+        statementBuilder.setIndexIntersectionMaxEntries(10_000);
+
+        assertThat(statementBuilder.planIntersection(NAMESPACE, SET, new Qualifier[]{country, email})).isNull();
+    }
+
+    @Test
+    public void shouldPlanSelectOnceAsIntersectionOrSingleIndexQuery() {
+        addIndex("country", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(1_000_000, 5_000));
+        addIndex("city", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(1_000_000, 1_000));
+        Qualifier country = qualifier("country", FilterOperation.EQ, Value.get("NZ"));
+        Qualifier city = qualifier("city", FilterOperation.EQ, Value.get("Auckland"));
+
+        QueryPlan single = statementBuilder.planSelect(NAMESPACE, SET, new Qualifier[]{country, city});
+        statementBuilder.setIndexIntersectionMaxEntries(10_000);
+        QueryPlan intersection = statementBuilder.planSelect(NAMESPACE, SET, new Qualifier[]{country, city});
+
+        assertThat(single.isIndexQuery()).isTrue();
+        assertThat(single.getQualifier()).isSameAs(city);
+        assertThat(statementBuilder.build(NAMESPACE, SET, null, single, null).getFilter()).isSameAs(single.getFilter());
+        assertThat(intersection.isIntersection()).isTrue();
+        assertThat(intersection.getBranches()).extracting(QueryPlan::getQualifier).containsExactly(city, country);
+    }
+
+    @Test
+    public void shouldPlanSelectAsUnionBeforeIntersection() {
+        addIndex("age", IndexType.NUMERIC, IndexCollectionType.DEFAULT, new IndexStats(100_000, 100));
+        addIndex("status", IndexType.STRING, IndexCollectionType.DEFAULT, new IndexStats(100_000, 5_000));
+        Qualifier in = qualifier("age", FilterOperation.IN, Value.get(List.of(20, 30)));
+        Qualifier status = qualifier("status", FilterOperation.EQ, Value.get("ACTIVE"));
+        statementBuilder.setIndexIntersectionMaxEntries(10_000);
+
+        QueryPlan plan = statementBuilder.planSelect(NAMESPACE, SET, new Qualifier[]{in, status});
+
+        assertThat(plan.isUnion()).isTrue();
+        assertThat(plan.getQualifier()).isSameAs(in);
+    }
+
+    private static Qualifier or(Qualifier... qualifiers) {
+        return new Qualifier(new Qualifier.QualifierBuilder()
+            .setFilterOperation(FilterOperation.OR)
+            .setQualifiers(qualifiers));
+    }
+
+    private void addIndex(String bin, IndexType type, IndexCollectionType collectionType, IndexStats indexStats) {
+        IndexKey key = new IndexKey(NAMESPACE, SET, bin, type, collectionType);
+        indexes.put(key, new Index(bin + "_index", NAMESPACE, SET, bin, type, collectionType));
+        if (indexStats != null) {
+            stats.put(key, indexStats);
+        }
+        indexesCache.update(IndexesInfo.of(indexes, stats));
+    }
+
+    private void addIndexWithContext(String bin, IndexType type, IndexCollectionType collectionType, CTX[] ctx) {
+        indexes.put(new IndexKey(NAMESPACE, SET, bin, type, collectionType, ctx),
+            new Index(bin + "_index", NAMESPACE, SET, bin, type, collectionType, ctx));
+        indexesCache.update(IndexesInfo.of(indexes, stats));
+    }
+
+    private static Qualifier mapValueByKey(String field, String dotPath, FilterOperation operation, long value) {
+        Qualifier.QualifierBuilder builder = new Qualifier.QualifierBuilder()
+            .setField(field)
+            .setFilterOperation(operation)
+            .setValue1(Value.get(value))
+            .setValue2(Value.get(dotPath.substring(dotPath.lastIndexOf('.') + 1)));
+        builder.setDotPath(dotPath);
+        return new Qualifier(builder);
+    }
+
+    private static Qualifier qualifier(String field, FilterOperation operation, Value... values) {
+        Qualifier.QualifierBuilder builder = new Qualifier.QualifierBuilder()
+            .setField(field)
+            .setFilterOperation(operation)
+            .setValue1(values[0]);
+        if (values.length > 1) {
+            builder.setValue2(values[1]);
+        }
+        return new Qualifier(builder);
+    }
+}
@@ -0,0 +1,52 @@
+package org.springframework.data.aerospike.query.cache;
+
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStats;
+import org.springframework.data.aerospike.query.model.IndexesInfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InternalIndexOperationsTest {
+
+    private final InternalIndexOperations indexOperations = new InternalIndexOperations(new IndexInfoParser());
+
+    @Test
+    public void shouldBuildIndexStatsCommand() {
+        Index index = Index.builder().name("email_index").namespace("test").build();
+
+        assertThat(indexOperations.buildGetIndexStatsCommand(index))
+            .isEqualTo("sindex-stat:namespace=test;indexname=email_index");
+    }
+
+    @Test
+    public void shouldParseIndexStats() {
+        IndexStats stats = indexOperations.parseIndexStats(
+            "entries=1000;used_bytes=18432;entries_per_bval=2.5;entries_per_rec=1;load_pct=100");
+
+        assertThat(stats.getEntries()).isEqualTo(1000);
+        assertThat(stats.getEntriesPerBval()).isEqualTo(2.5);
+    }
+
+    @Test
+    public void shouldDefaultToZeroForMissingIndexStats() {
+        IndexStats stats = indexOperations.parseIndexStats("keys=10;entries=20");
+
+        assertThat(stats.getEntries()).isEqualTo(20);
+        assertThat(stats.getEntriesPerBval()).isZero();
+    }
+
+    @Test
+    public void shouldParseDefaultCollectionTypeOfPlainIndex() {
+        IndexesInfo info = indexOperations.parseIndexesInfo(
+            "ns=test:indexname=email_index:set=person:bin=email:type=string:indextype=default:state=RW");
+
+        assertThat(info.indexes).containsOnlyKeys(
+            new IndexKey("test", "person", "email", IndexType.STRING, IndexCollectionType.DEFAULT));
+        assertThat(info.indexes.values()).extracting(Index::getCollectionType)
+            .containsOnly(IndexCollectionType.DEFAULT);
+    }
+}
@@ -0,0 +1,73 @@
+package org.springframework.data.aerospike.query.cache;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.InfoPolicy;
+import com.aerospike.client.reactor.IAerospikeReactorClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.aerospike.query.model.IndexesInfo;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReactorIndexRefresherTest {
+
+    private static final String INDEXES =
+        "ns=test:indexname=email_index:set=person:bin=email:type=string:indextype=default:state=RW";
+
+    private final IAerospikeReactorClient reactorClient = mock(IAerospikeReactorClient.class);
+    private final IAerospikeClient client = mock(IAerospikeClient.class);
+    private final Node node = mock(Node.class);
+    private final IndexesCacheUpdater cacheUpdater = mock(IndexesCacheUpdater.class);
+    private final InternalIndexOperations indexOperations = new InternalIndexOperations(new IndexInfoParser());
+    private final ReactorIndexRefresher refresher =
+        new ReactorIndexRefresher(reactorClient, new InfoPolicy(), indexOperations, cacheUpdater);
+
+    @BeforeEach
+    public void setUp() {
+        when(node.isActive()).thenReturn(true);
+        when(client.getNodes()).thenReturn(new Node[]{node});
+        when(reactorClient.getAerospikeClient()).thenReturn(client);
+        when(reactorClient.info(any(), eq(node), eq(indexOperations.buildGetIndexesCommand())))
+            .thenReturn(Mono.just(INDEXES));
+    }
+
+    @Test
+    public void shouldLoadStatisticsFromNodeThatListedIndexes() {
+        when(reactorClient.info(any(), eq(node), startsWith("sindex-stat")))
+            .thenReturn(Mono.just("entries=1000;entries_per_bval=2.5"));
+
+        refresher.refreshIndexes().block();
+
+        IndexesInfo cache = updatedCache();
+        assertThat(cache.indexes).hasSize(1);
+        assertThat(cache.stats.values()).singleElement()
+            .satisfies(stats -> assertThat(stats.getEntries()).isEqualTo(1000));
+    }
+
+    @Test
+    public void shouldKeepIndexesWhenStatisticsCannotBeParsed() {
+        when(reactorClient.info(any(), eq(node), startsWith("sindex-stat")))
+            .thenReturn(Mono.just("entries=unknown"));
+
+        refresher.refreshIndexes().block();
+
+        IndexesInfo cache = updatedCache();
+        assertThat(cache.indexes).hasSize(1);
+        assertThat(cache.stats).isEmpty();
+    }
+
+    private IndexesInfo updatedCache() {
+        ArgumentCaptor<IndexesInfo> captor = ArgumentCaptor.forClass(IndexesInfo.class);
+        verify(cacheUpdater).update(captor.capture());
+        return captor.getValue();
+    }
+}
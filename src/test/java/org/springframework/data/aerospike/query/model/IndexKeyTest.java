@@ -0,0 +1,44 @@
+package org.springframework.data.aerospike.query.model;
+
+import com.aerospike.client.Value;
+import com.aerospike.client.cdt.CTX;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IndexKeyTest {
+
+    @Test
+    public void shouldTreatMissingCollectionTypeAsDefault() {
+        IndexKey withoutCollectionType = new IndexKey("test", "person", "email", IndexType.STRING, null);
+        IndexKey withDefault = new IndexKey("test", "person", "email", IndexType.STRING, IndexCollectionType.DEFAULT);
+
+        assertThat(withoutCollectionType).isEqualTo(withDefault).hasSameHashCodeAs(withDefault);
+    }
+
+    @Test
+    public void shouldCompareContextByContent() {
+        IndexKey first = mapValuesKey(new CTX[]{CTX.mapKey(Value.get("math"))});
+        IndexKey second = mapValuesKey(new CTX[]{CTX.mapKey(Value.get("math"))});
+
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+        assertThat(mapValuesKey(null)).isEqualTo(mapValuesKey(new CTX[0]));
+    }
+
+    @Test
+    public void shouldDistinguishContextAndCollectionType() {
+        IndexKey math = mapValuesKey(new CTX[]{CTX.mapKey(Value.get("math"))});
+
+        assertThat(math).isNotEqualTo(mapValuesKey(new CTX[]{CTX.mapKey(Value.get("physics"))}));
+        assertThat(math).isNotEqualTo(mapValuesKey(new CTX[]{CTX.mapValue(Value.get("math"))}));
+        assertThat(math).isNotEqualTo(mapValuesKey(null));
+        assertThat(new IndexKey("test", "person", "scores", IndexType.NUMERIC, IndexCollectionType.MAPKEYS))
+            .isNotEqualTo(mapValuesKey(null));
+    }
+
+    private static IndexKey mapValuesKey(CTX[] ctx) {
+        return new IndexKey("test", "person", "scores", IndexType.NUMERIC, IndexCollectionType.MAPVALUES, ctx);
+    }
+}
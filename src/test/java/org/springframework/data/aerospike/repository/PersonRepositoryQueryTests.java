@@ -515,6 +515,30 @@ public class PersonRepositoryQueryTests extends BaseBlockingIntegrationTests {
         assertThat(result2).hasSize(0);
     }
 
+    @Test
+    public void findTopPersonsByLastNameStartingWith() {
+        List<Person> result = repository.findTop3ByLastNameStartingWith("M");
+        assertThat(result).hasSize(3).isSubsetOf(dave, donny, oliver, leroi, leroi2);
+    }
+
+    @Test
+    public void findTopPersonsByLastNameStartingWithOrderByAge() {
+        List<Person> result = repository.findTop2ByLastNameStartingWithOrderByAgeAsc("M");
+        assertThat(result).containsExactly(oliver, leroi2);
+    }
+
+    @Test
+    public void findTopPersonsByLastNameStartingWithPaged() {
+        Page<Person> result = repository.findTop3ByLastNameStartingWith("M", PageRequest.of(1, 2, Sort.by("age")));
+        assertThat(result.getContent()).containsExactly(donny);
+    }
+
+    @Test
+    public void findPersonsByFirstNameWithQueryHints() {
+        List<Person> result = repository.findWithQueryHintsByFirstName("Leroi");
+        assertThat(result).hasSize(2).containsOnly(leroi, leroi2);
+    }
+
     @Test
     public void findPersonsByFirstNameNot() {
         List<Person> result = repository.findByFirstNameNot("Leroi");
@@ -0,0 +1,35 @@
+package org.springframework.data.aerospike.repository.query;
+
+import com.aerospike.client.Value;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.core.AerospikeOperations;
+import org.springframework.data.aerospike.sample.PersonRepository;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class AerospikePartTreeQueryTest {
+
+    @Test
+    public void shouldBindParametersOfEachExecution() throws NoSuchMethodException {
+        QueryMethod queryMethod = new AerospikeQueryMethod(
+            PersonRepository.class.getMethod("findByFirstName", String.class),
+            new DefaultRepositoryMetadata(PersonRepository.class), new SpelAwareProxyProjectionFactory());
+        AerospikePartTreeQuery partTreeQuery = new AerospikePartTreeQuery(queryMethod,
+            QueryMethodEvaluationContextProvider.DEFAULT, mock(AerospikeOperations.class), AerospikeQueryCreator.class);
+
+        Query first = partTreeQuery.createQuery(new ParametersParameterAccessor(queryMethod.getParameters(),
+            new Object[]{"Dave"}));
+        Query second = partTreeQuery.createQuery(new ParametersParameterAccessor(queryMethod.getParameters(),
+            new Object[]{"Oliver"}));
+
+        assertThat(first.getCriteria().getCriteriaObject().getField()).isEqualTo("firstName");
+        assertThat(first.getCriteria().getCriteriaObject().getValue1()).isEqualTo(Value.get("Dave"));
+        assertThat(second.getCriteria().getCriteriaObject().getValue1()).isEqualTo(Value.get("Oliver"));
+    }
+}
@@ -0,0 +1,33 @@
+package org.springframework.data.aerospike.repository.query;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.query.QueryPolicyHints;
+import org.springframework.data.aerospike.sample.PersonRepository;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AerospikeQueryMethodTest {
+
+    @Test
+    public void shouldResolveQueryHints() throws NoSuchMethodException {
+        AerospikeQueryMethod queryMethod = queryMethod("findWithQueryHintsByFirstName");
+
+        assertThat(queryMethod.getPolicyHints()).isEqualTo(QueryPolicyHints.builder()
+            .shortQuery(true)
+            .totalTimeout(10_000)
+            .maxConcurrentNodes(0)
+            .build());
+    }
+
+    @Test
+    public void shouldHaveNoHintsWithoutAnnotation() throws NoSuchMethodException {
+        assertThat(queryMethod("findByFirstName").getPolicyHints()).isNull();
+    }
+
+    private static AerospikeQueryMethod queryMethod(String name) throws NoSuchMethodException {
+        return new AerospikeQueryMethod(PersonRepository.class.getMethod(name, String.class),
+            new DefaultRepositoryMetadata(PersonRepository.class), new SpelAwareProxyProjectionFactory());
+    }
+}
@@ -25,6 +25,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.aerospike.core.AerospikeOperations;
+import org.springframework.data.aerospike.core.model.AerospikeScrollPosition;
+import org.springframework.data.aerospike.core.model.AerospikeWindow;
 import org.springframework.data.aerospike.sample.Person;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -42,7 +44,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -98,7 +99,7 @@ public class SimpleAerospikeRepositoryTest {
         List<Person> result = aerospikeRepository.saveAll(testPersons);
 
         assertThat(result).isEqualTo(testPersons);
-        verify(operations, times(testPersons.size())).save(any());
+        verify(operations).saveAll(testPersons);
     }
 
     @Test
@@ -174,16 +175,17 @@ public class SimpleAerospikeRepositoryTest {
             .collect(toList());
         aerospikeRepository.deleteAllById(personIds);
 
-        verify(operations).delete("one", Person.class);
-        verify(operations).delete("two", Person.class);
-        verify(operations).delete("three", Person.class);
+        verify(operations).deleteByIds(personIds, Person.class);
     }
 
     @Test
     public void deleteIterableOfQExtendsT() {
+        when(metadata.getRequiredId(any(Person.class))).then(invocation ->
+            invocation.<Person>getArgument(0).getId());
+
         aerospikeRepository.deleteAll(testPersons);
 
-        verify(operations, times(testPersons.size())).delete(any(Person.class));
+        verify(operations).deleteByIds(List.of("one", "two", "three"), Person.class);
     }
 
     @Test
@@ -216,4 +218,14 @@ public class SimpleAerospikeRepositoryTest {
         assertThat(exists).isTrue();
         verify(operations).indexExists("index_first_name");
     }
+
+    @Test
+    public void scroll() {
+        AerospikeWindow<Person> window = new AerospikeWindow<>(testPersons, false, AerospikeScrollPosition.initial());
+        when(operations.scroll(Person.class, AerospikeScrollPosition.initial(), 10)).thenReturn(window);
+
+        AerospikeWindow<Person> result = aerospikeRepository.scroll(AerospikeScrollPosition.initial(), 10);
+
+        assertThat(result).isSameAs(window);
+    }
 }
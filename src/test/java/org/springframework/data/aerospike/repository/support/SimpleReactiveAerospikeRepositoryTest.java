@@ -20,8 +20,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
 import org.springframework.data.aerospike.core.ReactiveAerospikeOperations;
 import org.springframework.data.aerospike.sample.Customer;
 import org.springframework.data.repository.core.EntityInformation;
@@ -36,7 +38,6 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -77,22 +78,24 @@ public class SimpleReactiveAerospikeRepositoryTest {
 
     @Test
     public void saveAllIterable() {
-        when(operations.save(any(Customer.class))).then(invocation -> Mono.just(invocation.getArgument(0)));
+        when(operations.saveAll(ArgumentMatchers.<Publisher<Customer>>any()))
+            .then(invocation -> Flux.from(invocation.getArgument(0)));
 
         List<Customer> result = repository.saveAll(testCustomers).collectList().block();
 
-        assertThat(result).hasSameElementsAs(testCustomers);
-        verify(operations, times(testCustomers.size())).save(any(Customer.class));
+        assertThat(result).containsExactlyElementsOf(testCustomers);
+        verify(operations).saveAll(ArgumentMatchers.<Publisher<Customer>>any());
     }
 
     @Test
     public void saveAllPublisher() {
-        when(operations.save(any(Customer.class))).then(invocation -> Mono.just(invocation.getArgument(0)));
+        Flux<Customer> customers = Flux.fromIterable(testCustomers);
+        when(operations.saveAll(customers)).thenReturn(customers);
 
-        List<Customer> result = repository.saveAll(Flux.fromIterable(testCustomers)).collectList().block();
+        List<Customer> result = repository.saveAll(customers).collectList().block();
 
-        assertThat(result).hasSameElementsAs(testCustomers);
-        verify(operations, times(testCustomers.size())).save(any(Customer.class));
+        assertThat(result).containsExactlyElementsOf(testCustomers);
+        verify(operations).saveAll(customers);
     }
 
     @Test
@@ -142,11 +145,10 @@ public class SimpleReactiveAerospikeRepositoryTest {
     public void testFindAllByIdPublisher() {
         Map<String, Customer> id2person = testCustomers.stream().collect(toMap(Customer::getId, person -> person));
         when(metadata.getJavaType()).thenReturn(Customer.class);
-        //noinspection SuspiciousMethodCalls
-        when(operations.findById(any(String.class), eq(Customer.class)))
-            .then(invocation -> Mono.just(id2person.get(invocation.getArgument(0))));
+        Flux<String> ids = Flux.fromIterable(id2person.keySet());
+        when(operations.findByIds(ids, Customer.class)).thenReturn(Flux.fromIterable(id2person.values()));
 
-        List<Customer> result = repository.findAllById(Flux.fromIterable(id2person.keySet())).collectList().block();
+        List<Customer> result = repository.findAllById(ids).collectList().block();
 
         assertThat(result).hasSameElementsAs(testCustomers);
     }
@@ -199,10 +201,22 @@ public class SimpleReactiveAerospikeRepositoryTest {
 
     @Test
     public void testDeleteAllIterable() {
-        when(operations.delete(any(Customer.class))).thenReturn(Mono.just(true));
+        List<String> ids = List.of("one", "two", "three");
+        when(metadata.getRequiredId(any(Customer.class))).then(invocation ->
+            invocation.<Customer>getArgument(0).getId());
+        when(operations.deleteByIds(ids, Customer.class)).thenReturn(Mono.empty());
 
         repository.deleteAll(testCustomers).block();
-        verify(operations, times(testCustomers.size())).delete(any(Customer.class));
+        verify(operations).deleteByIds(ids, Customer.class);
+    }
+
+    @Test
+    public void testDeleteAllById() {
+        List<String> ids = List.of("one", "two", "three");
+        when(operations.deleteByIds(ids, Customer.class)).thenReturn(Mono.empty());
+
+        repository.deleteAllById(ids).block();
+        verify(operations).deleteByIds(ids, Customer.class);
     }
 
     @Test
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.aerospike.sample;
 
+import org.springframework.data.aerospike.annotation.QueryHints;
 import org.springframework.data.aerospike.repository.AerospikeRepository;
 import org.springframework.data.aerospike.repository.query.CriteriaDefinition;
 import org.springframework.data.domain.Page;
@@ -556,8 +557,13 @@ public interface PersonRepository<P extends Person> extends AerospikeRepository<
 
     Page<P> findTop3ByLastNameStartingWith(String lastName, Pageable pageRequest);
 
+    List<P> findTop2ByLastNameStartingWithOrderByAgeAsc(String lastName);
+
     List<P> findByFirstName(String string);
 
+    @QueryHints(shortQuery = true, totalTimeout = 10_000, maxConcurrentNodes = 0)
+    List<P> findWithQueryHintsByFirstName(String string);
+
     List<P> findByFirstNameNot(String string);
 
     /**